@@ -2,20 +2,34 @@ package io.xenoss;
 
 import io.xenoss.backend.client.BaseClient;
 import io.xenoss.config.ConfigurationManager;
+import io.xenoss.config.HttpLogPolicy;
+import io.xenoss.http.log.ExchangeRingBuffer;
+import io.xenoss.http.log.HttpLogFormatter;
+import io.xenoss.listeners.FailureAttachmentProvider;
+import io.xenoss.telemetry.HttpLatencyMetrics;
 import io.xenoss.telemetry.TelemetryConsoleLogger;
+import io.xenoss.telemetry.WaitMetrics;
 import io.xenoss.telemetry.server.TestReporterHttpServer;
 import lombok.extern.slf4j.Slf4j;
 import org.testng.ITestContext;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.stream.Collectors;
 
 @Slf4j
-public class BaseBeTest extends BaseTest {
+public class BaseBeTest extends BaseTest implements FailureAttachmentProvider {
     private static final int THREAD_POOL_SIZE = CONFIG.getThreadPoolSize();
+    private static final boolean DUMP_EXCHANGES_ON_FAILURE = CONFIG.getHttpLogPolicy() == HttpLogPolicy.ON_FAILURE;
+    private static final String RECENT_EXCHANGES_ATTRIBUTE = "recentHttpExchanges";
+
     @BeforeSuite(alwaysRun = true)
     public static void initStartTelemetryServer() throws IOException {
         if (ConfigurationManager.getConfig()
@@ -36,11 +50,30 @@ public class BaseBeTest extends BaseTest {
         try {
             // Stop telemetry monitoring thread
             BaseClient.stopTelemetryMonitoring();
+            TelemetryConsoleLogger.stop();
             // Stop HTTP/WebSocket servers
             TestReporterHttpServer.stopServers();
         } catch (Exception e) {
             log.warn("Error during telemetry server shutdown", e);
         }
+
+        try {
+            BaseClient.flushHttpLog();
+        } catch (Exception e) {
+            log.warn("Error flushing HTTP log", e);
+        }
+
+        try {
+            HttpLatencyMetrics.dumpToFile();
+        } catch (Exception e) {
+            log.warn("Error storing HTTP latency report", e);
+        }
+
+        try {
+            WaitMetrics.dumpToFile();
+        } catch (Exception e) {
+            log.warn("Error storing wait report", e);
+        }
     }
 
     @BeforeClass(alwaysRun = true)
@@ -53,6 +86,51 @@ public class BaseBeTest extends BaseTest {
                .setPreserveOrder(false);
     }
 
+    @BeforeMethod(alwaysRun = true)
+    public void clearRecentExchanges() {
+        // A failure dump should only show the exchanges of the failed test
+        ExchangeRingBuffer.current()
+                          .clear();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void dumpRecentExchangesOnFailure(ITestResult result) {
+        if (result.getStatus() == ITestResult.FAILURE) {
+            collectFailureAttachment(result);
+        }
+    }
+
+    /**
+     * Dumps the HTTP exchanges of the failed test to a file, once per failure.
+     * With {@code httpLogPolicy: on_failure} they are also printed to the log.
+     */
+    @Override
+    public File collectFailureAttachment(ITestResult result) {
+        // Both the ReportPortal listener and the after method ask for it, in an order that depends on TestNG
+        if (result.getAttribute(RECENT_EXCHANGES_ATTRIBUTE) instanceof File dumped) {
+            return dumped;
+        }
+        var testName = String.format("%s.%s", result.getTestClass()
+                                                    .getRealClass()
+                                                    .getSimpleName(), result.getMethod()
+                                                                            .getMethodName());
+        var file = BaseClient.dumpRecentExchanges(testName);
+        if (file == null) {
+            return null;
+        }
+
+        result.setAttribute(RECENT_EXCHANGES_ATTRIBUTE, file);
+        if (DUMP_EXCHANGES_ON_FAILURE) {
+            var exchanges = ExchangeRingBuffer.current()
+                                              .snapshot()
+                                              .stream()
+                                              .map(exchange -> HttpLogFormatter.format(exchange, Integer.MAX_VALUE))
+                                              .collect(Collectors.joining("\n\n"));
+            log.info("Recent HTTP exchanges before the failure:\n{}", exchanges);
+        }
+        return file;
+    }
+
     @AfterClass(alwaysRun = true)
     public void cleanupThreadLocalResources() {
         // Clean up BaseClient ThreadLocal variables to prevent memory leaks
@@ -1,37 +1,56 @@
 package io.xenoss.backend.client;
 
 import io.xenoss.config.ConfigurationManager;
+import io.xenoss.config.HttpLogMode;
 import io.xenoss.http.ContentType;
+import io.xenoss.http.GzipCodec;
+import io.xenoss.http.GzipRequestBody;
 import io.xenoss.http.Header;
 import io.xenoss.http.Headers;
 import io.xenoss.http.HttpClientFactory;
 import io.xenoss.http.RequestSpecification;
 import io.xenoss.http.Response;
+import io.xenoss.http.StreamingResponse;
+import io.xenoss.http.log.AsyncHttpLogWriter;
+import io.xenoss.http.log.CapturedResponse;
+import io.xenoss.http.log.ExchangeRingBuffer;
+import io.xenoss.http.log.HttpLogEntry;
+import io.xenoss.http.log.HttpLogFilter;
+import io.xenoss.http.log.HttpLogFormatter;
+import io.xenoss.http.log.RecordedExchange;
 import io.xenoss.telemetry.TelemetryData;
 import io.xenoss.telemetry.ConnectionPoolMetrics;
+import io.xenoss.telemetry.ConnectionStreamMetrics;
+import io.xenoss.telemetry.HttpLatencyMetrics;
+import io.xenoss.telemetry.TransferMetrics;
+import io.xenoss.telemetry.WaitMetrics;
 import io.xenoss.utils.FileUtils;
+import io.xenoss.utils.PeriodicTasks;
 import io.xenoss.utils.RandomUtils;
 import io.xenoss.utils.SerializationUtils;
-import io.xenoss.utils.ThreadingUtils;
 import io.xenoss.utils.WaitUtils;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 import org.apache.commons.lang3.StringUtils;
-import org.testng.TestException;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import java.util.stream.Collectors;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import static io.xenoss.http.HttpClientFactory.MAX_THREADS;
 
@@ -40,23 +59,42 @@ public abstract class BaseClient {
     // Config
     private static final boolean SILENT = ConfigurationManager.getConfig()
                                                               .getIsSilent();
+    private static final int DEFAULT_RETRY_ATTEMPTS = 2;
     private static final String RESULTS_DIR_PATH = String.format("build/reports/rawTestsOutput/%s",
             RandomUtils.currentTimestamp());
+    private static final boolean ASYNC_LOG = ConfigurationManager.getConfig()
+                                                                 .getHttpLogMode() == HttpLogMode.ASYNC;
+    // Millisecond timestamps alone collide when several threads store long responses at once
+    private static final AtomicLong responseFileSequence = new AtomicLong();
+    private static final AtomicLong exchangeIds = new AtomicLong();
+    private static final int DUMP_BODY_LIMIT = 2000;
+    private static volatile AsyncHttpLogWriter asyncLog;
+    private static final HttpLogFilter LOG_FILTER = HttpLogFilter.fromConfig();
+    private static final GzipCodec GZIP = GzipCodec.of(ConfigurationManager.getConfig()
+                                                                           .getHttpGzipLevel());
+    private static final boolean GZIP_STREAMING = ConfigurationManager.getConfig()
+                                                                      .getHttpGzipStreaming();
 
     // Logging (ThreadLocal variables that need cleanup)
     private static final ThreadLocal<String> prevRequest = ThreadLocal.withInitial(() -> null);
     private static final ThreadLocal<String> prevResponseMessage = ThreadLocal.withInitial(() -> null);
     private static final ThreadLocal<Integer> prevResponseStatus = ThreadLocal.withInitial(() -> null);
 
-    private final ThreadLocal<OkHttpClient> httpClient = ThreadLocal.withInitial(() -> null);
+    private volatile OkHttpClient httpClient;
     private final Supplier<RequestSpecification> requestSpecification;
     private final String baseUrl;
 
     private final boolean gzip;
     private final Headers headers;
 
+    // Per-client overrides, e.g. to keep load generation out of the logs
+    @Setter
+    private volatile boolean silent = SILENT;
+    @Setter
+    private volatile int retryAttempts = DEFAULT_RETRY_ATTEMPTS;
+
     // Telemetry task management
-    private static volatile ThreadingUtils.TaskInfo<Void> telemetryTask = null;
+    private static volatile PeriodicTasks.PeriodicTask telemetryTask = null;
     private static final Object telemetryLock = new Object();
 
     static {
@@ -144,15 +182,33 @@ public abstract class BaseClient {
     }
 
     /**
-     * Returns the OkHttpClient for the current thread, creating it if necessary.
+     * Returns the OkHttpClient of this client, deriving it from the shared root client on first use.
+     * All threads and all BaseClient instances share the root Dispatcher and ConnectionPool.
      *
      * @return the OkHttpClient instance
      */
     private OkHttpClient getHttpClient() {
-        if (httpClient.get() == null) {
-            httpClient.set(HttpClientFactory.createHttpClient());
+        var client = httpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = httpClient;
+                if (client == null) {
+                    client = HttpClientFactory.deriveHttpClient(this::configureHttpClient);
+                    httpClient = client;
+                }
+            }
         }
-        return httpClient.get();
+        return client;
+    }
+
+    /**
+     * Hook for per-client overrides of the shared HTTP client, e.g. timeouts.
+     * Called once, on the first request of this client.
+     *
+     * @param builder the builder derived from the shared root client
+     */
+    protected void configureHttpClient(OkHttpClient.Builder builder) {
+        // No overrides by default
     }
 
     /**
@@ -163,6 +219,56 @@ public abstract class BaseClient {
         prevRequest.remove();
         prevResponseMessage.remove();
         prevResponseStatus.remove();
+        ExchangeRingBuffer.removeCurrent();
+    }
+
+    /**
+     * Writes the queued entries of the asynchronous HTTP log, if {@code httpLogMode} is async.
+     * Call this in @AfterSuite so the log is complete when the suite ends.
+     */
+    public static void flushHttpLog() {
+        var writer = asyncLog;
+        if (writer != null && !writer.flush(Duration.ofSeconds(30))) {
+            log.warn("HTTP log is not fully written after 30 seconds");
+        }
+    }
+
+    /**
+     * Writes the exchanges recorded by the calling thread to a file, e.g. when its test fails.
+     *
+     * @param name name of the file, usually the failed test
+     * @return the file, or null if the thread made no requests
+     */
+    public static File dumpRecentExchanges(String name) {
+        var exchanges = ExchangeRingBuffer.current()
+                                          .snapshot();
+        if (exchanges.isEmpty()) {
+            return null;
+        }
+
+        var content = exchanges.stream()
+                               .map(exchange -> HttpLogFormatter.format(exchange, DUMP_BODY_LIMIT))
+                               .collect(Collectors.joining("\n\n"));
+        var filename = String.format("%s/%s-exchanges-%d.log", RESULTS_DIR_PATH, name,
+                responseFileSequence.incrementAndGet());
+        log.info("Recent HTTP exchanges are stored to file:\n{}", FileUtils.printToFile(filename, content));
+        return new File(filename);
+    }
+
+    private static AsyncHttpLogWriter getAsyncLog() {
+        var writer = asyncLog;
+        if (writer == null) {
+            synchronized (BaseClient.class) {
+                writer = asyncLog;
+                if (writer == null) {
+                    var config = ConfigurationManager.getConfig();
+                    writer = new AsyncHttpLogWriter(Path.of(RESULTS_DIR_PATH), config.getHttpLogQueueCapacity(),
+                            config.getHttpLogOverflow());
+                    asyncLog = writer;
+                }
+            }
+        }
+        return writer;
     }
 
     /**
@@ -178,38 +284,47 @@ public abstract class BaseClient {
             }
 
             log.info("Starting telemetry monitoring...");
-            telemetryTask = ThreadingUtils.startAsync(() -> {
-                while (!Thread.currentThread().isInterrupted()) {
-                    try {
-                        WaitUtils.forSeconds(1);
-
-                        // System telemetry with detailed connection metrics
-                        Map<String, String> systemMetrics = new java.util.LinkedHashMap<>();
-                        systemMetrics.put("🌐 HTTP Client", "OkHttp v4.12.0");
-                        systemMetrics.put("🏊 Max Connection Pool Size", String.valueOf(MAX_THREADS));
-                        systemMetrics.put("🔧 GZIP Enabled", "Auto-negotiated");
-
-                        // Add connection pool metrics
-                        systemMetrics.putAll(ConnectionPoolMetrics.getMetrics());
-
-                        // Runtime information
-                        Runtime runtime = Runtime.getRuntime();
-                        long totalMemory = runtime.totalMemory();
-                        long freeMemory = runtime.freeMemory();
-                        long usedMemory = totalMemory - freeMemory;
-
-                        systemMetrics.put("💾 Memory Used", String.format("%.1f MB", usedMemory / 1024.0 / 1024.0));
-                        systemMetrics.put("💽 Memory Total", String.format("%.1f MB", totalMemory / 1024.0 / 1024.0));
-                        systemMetrics.put("⚡ Available Processors", String.valueOf(runtime.availableProcessors()));
-
-                        TelemetryData.updateSystemMetrics(systemMetrics);
-                    } catch (Exception e) {
-                        // Catch any exception to prevent task termination
-                        log.warn("Error updating telemetry metrics", e);
-                    }
+            telemetryTask = PeriodicTasks.atFixedRate("BaseClient-Telemetry", Duration.ofSeconds(1), () -> {
+                // System telemetry with detailed connection metrics
+                Map<String, String> systemMetrics = new java.util.LinkedHashMap<>();
+                systemMetrics.put("🌐 HTTP Client", "OkHttp v4.12.0");
+                systemMetrics.put("🏊 Max Connection Pool Size", String.valueOf(MAX_THREADS));
+                systemMetrics.put("🔧 GZIP Enabled", "Auto-negotiated");
+                systemMetrics.put("📡 HTTP Protocol", HttpClientFactory.PROTOCOL.name());
+
+                // Add connection pool metrics
+                systemMetrics.putAll(ConnectionPoolMetrics.getMetrics());
+                systemMetrics.putAll(ConnectionStreamMetrics.getMetrics());
+                // Add latency percentiles per host
+                systemMetrics.putAll(HttpLatencyMetrics.getMetrics());
+                // Add streamed download throughput
+                systemMetrics.putAll(TransferMetrics.getMetrics());
+                // Add the slowest condition waits
+                systemMetrics.putAll(WaitMetrics.getMetrics());
+                // Add the record/replay cassette hits
+                systemMetrics.putAll(HttpClientFactory.getCassetteMetrics());
+                systemMetrics.putAll(GzipCodec.getMetrics());
+                // Add the asynchronous HTTP log backlog
+                var writer = asyncLog;
+                if (writer != null) {
+                    systemMetrics.putAll(writer.getMetrics());
                 }
-                return null;
-            }, "BaseClient-Telemetry", true);
+
+                // Runtime information
+                Runtime runtime = Runtime.getRuntime();
+                long totalMemory = runtime.totalMemory();
+                long freeMemory = runtime.freeMemory();
+                long usedMemory = totalMemory - freeMemory;
+
+                systemMetrics.put("💾 Memory Used", String.format("%.1f MB", usedMemory / 1024.0 / 1024.0));
+                systemMetrics.put("💽 Memory Total", String.format("%.1f MB", totalMemory / 1024.0 / 1024.0));
+                systemMetrics.put("⚡ Available Processors", String.valueOf(runtime.availableProcessors()));
+
+                // Add scheduler health
+                systemMetrics.putAll(PeriodicTasks.getMetrics());
+
+                TelemetryData.updateSystemMetrics(systemMetrics);
+            });
         }
     }
 
@@ -221,7 +336,7 @@ public abstract class BaseClient {
         synchronized (telemetryLock) {
             if (telemetryTask != null) {
                 log.info("Stopping telemetry monitoring...");
-                telemetryTask.terminate();
+                telemetryTask.cancel();
                 telemetryTask = null;
             }
         }
@@ -238,13 +353,10 @@ public abstract class BaseClient {
     protected Response postFile(String path, File file) {
         var url = String.format("%s/%s", baseUrl, path);
 
-        if (!SILENT) {
-            log.info("Sending POST to {} with file:\n{}", url, file.getPath());
-        }
-
-        return extractResponse(() -> getRequestSpecification().contentType(ContentType.BINARY)
-                                                              .body(file)
-                                                              .post(url));
+        var exchange = logRequest("POST", url, null, String.format("<%s>", file.getPath()));
+        return extractResponse(exchange, () -> getRequestSpecification().contentType(ContentType.BINARY)
+                                                                      .body(file)
+                                                                      .post(url));
     }
 
     /**
@@ -271,39 +383,70 @@ public abstract class BaseClient {
      */
     protected <T> Response post(String path, T body, Map<String, String> queryParams) {
         var url = buildUrl(path);
-        String bodyString = body == null
-                ? "null"
-                : (body instanceof String) ? (String) body : SerializationUtils.toJson(body);
-
-        if (!SILENT) {
-            String urlWithParams = queryParams == null || queryParams.isEmpty()
-                    ? url
-                    : String.format("%s?%s", url, queryParams.entrySet()
-                            .stream()
-                            .map(entry -> String.format("%s=%s", entry.getKey(), entry.getValue()))
-                            .collect(Collectors.joining("&")));
-
-            String headersStr = String.join("\n\t", headers.asList()
-                    .stream()
-                    .map(header -> String.format("%s: %s", header.getName(), header.getValue()))
-                    .toList());
-
-            var requestMessage = String.format("Sending POST to %s with headers:\n\t%s\nand %s body:\n%s",
-                    urlWithParams, headersStr, gzip ? "gzipped " : "", bodyString);
-
-            log.info(requestMessage.equalsIgnoreCase(prevRequest.get())
-                    ? "Repeating previous request..." : requestMessage);
-            prevRequest.set(requestMessage);
-        }
+        var bodyString = serialize(body);
+        var exchange = logRequest("POST", url, queryParams, String.valueOf(bodyString));
+        var requestSpec = preparePost(bodyString, queryParams);
+        return extractResponse(exchange, () -> requestSpec.post(url));
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #post(String, Object)}.
+     *
+     * @param path the endpoint path
+     * @param body the request body
+     * @param <T> the type of the body
+     * @return a future completed with the response from the server
+     */
+    protected <T> CompletableFuture<Response> postAsync(String path, T body) {
+        return postAsync(path, body, Map.of());
+    }
 
+    /**
+     * Asynchronous counterpart of {@link #post(String, Object, Map)}.
+     * The calling thread only serializes and enqueues the request; retries and response logging
+     * happen on completion.
+     *
+     * @param path the endpoint path
+     * @param body the request body
+     * @param queryParams the query parameters
+     * @param <T> the type of the body
+     * @return a future completed with the response from the server
+     */
+    protected <T> CompletableFuture<Response> postAsync(String path, T body, Map<String, String> queryParams) {
+        var url = buildUrl(path);
+        var bodyString = serialize(body);
+        var exchange = logRequest("POST", url, queryParams, String.valueOf(bodyString));
+        var requestSpec = preparePost(bodyString, queryParams);
+        return extractResponseAsync(exchange, () -> requestSpec.postAsync(url));
+    }
+
+    /**
+     * @param body the request body
+     * @return the body as sent on the wire, or null if there is none
+     */
+    private static String serialize(Object body) {
+        return body == null || body instanceof String
+                ? (String) body
+                : SerializationUtils.toJson(body);
+    }
+
+    /**
+     * Builds the specification for a POST request.
+     *
+     * @param body the serialized request body, may be null
+     * @param queryParams the query parameters
+     * @return the request specification ready to be sent
+     */
+    private RequestSpecification preparePost(String body, Map<String, String> queryParams) {
         var requestSpecWithBody = body == null
                 ? getRequestSpecification()
                 : gzip
-                ? getRequestSpecification().body(gzipCompress(bodyString))
-                : getRequestSpecification().body(bodyString);
+                ? getRequestSpecification().body(GZIP_STREAMING
+                        ? new GzipRequestBody(body.getBytes(StandardCharsets.UTF_8), GZIP)
+                        : gzipCompress(body))
+                : getRequestSpecification().body(body);
 
-        return extractResponse(() -> requestSpecWithBody.queryParams(queryParams)
-                                                        .post(url));
+        return requestSpecWithBody.queryParams(queryParams);
     }
 
     /**
@@ -342,7 +485,7 @@ public abstract class BaseClient {
     /**
      * Sends a GET request to the specified path with query parameters, option to send nulls, and redirect handling.
      * Filters out null values if sendNullParams is false.
-     * Logs request details if SILENT is false.
+     * Logs request details unless the client is silent.
      *
      * @param path the endpoint path
      * @param params the query parameters as a map
@@ -352,43 +495,114 @@ public abstract class BaseClient {
      */
     protected Response get(String path, Map<String, Object[]> params, boolean sendNullParams, boolean useRedirect) {
         String url = buildUrl(path);
+        var filteredParams = filterParams(params, sendNullParams);
+        var exchange = logRequest("GET", url, filteredParams, null);
+        var requestSpec = prepareGet(filteredParams, useRedirect);
+        // Execute the GET request and extract the response
+        return extractResponse(exchange, () -> requestSpec.get(url));
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #get(String)}.
+     *
+     * @param path the endpoint path
+     * @return a future completed with the response from the server
+     */
+    protected CompletableFuture<Response> getAsync(String path) {
+        return getAsync(path, null);
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #get(String, Map)}.
+     *
+     * @param path the endpoint path
+     * @param params the query parameters as a map
+     * @return a future completed with the response from the server
+     */
+    protected CompletableFuture<Response> getAsync(String path, Map<String, Object[]> params) {
+        return getAsync(path, params, true, true);
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #get(String, Map, boolean, boolean)}.
+     *
+     * @param path the endpoint path
+     * @param params the query parameters as a map
+     * @param sendNullParams whether to include parameters with null values
+     * @param useRedirect whether to follow redirects
+     * @return a future completed with the response from the server
+     */
+    protected CompletableFuture<Response> getAsync(String path, Map<String, Object[]> params,
+                                                   boolean sendNullParams, boolean useRedirect) {
+        String url = buildUrl(path);
+        var filteredParams = filterParams(params, sendNullParams);
+        var exchange = logRequest("GET", url, filteredParams, null);
+        var requestSpec = prepareGet(filteredParams, useRedirect);
+        return extractResponseAsync(exchange, () -> requestSpec.getAsync(url));
+    }
+
+    /**
+     * Sends a GET request without buffering the response body.
+     * Only the status and content type are logged; the caller consumes and closes the body.
+     *
+     * @param path the endpoint path
+     * @return the streaming response; must be closed by the caller
+     */
+    protected StreamingResponse getStreaming(String path) {
+        String url = buildUrl(path);
+        var exchange = logRequest("GET", url, null, null);
+        var requestSpec = prepareGet(null, true);
+
+        StreamingResponse response;
+        try {
+            response = sendRequest(() -> requestSpec.getStreaming(url), retryAttempts);
+        } catch (RuntimeException e) {
+            logFailure(exchange, e);
+            throw e;
+        }
+        // The body is not buffered, so only the status is recorded and it is never deferred
+        exchange.complete(response.getStatusCode(), null, null);
+        if (exchange.decision() == HttpLogFilter.Decision.LOG) {
+            log.info("Response status: {}, streaming body of type \"{}\" ({} bytes)", response.getStatusCode(),
+                    response.contentType(), response.contentLength());
+        }
+        return response;
+    }
 
+    /**
+     * Filters out null values from params if sendNullParams is false.
+     *
+     * @param params the query parameters as a map, may be null
+     * @param sendNullParams whether to include parameters with null values
+     * @return the parameters to send, may be null
+     */
+    private static Map<String, Object[]> filterParams(Map<String, Object[]> params, boolean sendNullParams) {
+        if (params == null || sendNullParams) {
+            return params;
+        }
+        return params.entrySet()
+                     .stream()
+                     .filter(entry -> entry.getValue() != null)
+                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Builds the specification for a GET request.
+     *
+     * @param params the query parameters as a map, may be null
+     * @param useRedirect whether to follow redirects
+     * @return the request specification ready to be sent
+     */
+    private RequestSpecification prepareGet(Map<String, Object[]> params, boolean useRedirect) {
         var requestSpecWithParams = getRequestSpecification().redirects()
                                                              .follow(useRedirect);
-
-        if (params == null || params.isEmpty()) {
-            if (!SILENT) {
-                log.info("Sending GET to {}", url);
-            }
-        } else {
-            // Filter out null values from params if sendNullParams is false
-            var filteredParams = sendNullParams
-                    ? params
-                    : params.entrySet()
-                            .stream()
-                            .filter(entry -> entry.getValue() != null)
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-            if (!SILENT) {
-                // Log each parameter and its value(s)
-                String paramsStr = filteredParams.entrySet()
-                        .stream()
-                        .map(entry -> String.format("%s=%s", entry.getKey(),
-                                Arrays.stream(entry.getValue())
-                                        .map(Object::toString)
-                                        .collect(Collectors.joining(", "))))
-                        .collect(Collectors.joining("\n"));
-                log.info("Sending GET to {} with params:\n{}", url, paramsStr);
-            }
+        if (params != null) {
             // Add each parameter to the request specification
-            for (var param : filteredParams.entrySet()) {
+            for (var param : params.entrySet()) {
                 requestSpecWithParams = requestSpecWithParams.param(param.getKey(), param.getValue());
             }
         }
-
-        RequestSpecification finalRequestSpecWithParams = requestSpecWithParams;
-        // Execute the GET request and extract the response
-        return extractResponse(() -> finalRequestSpecWithParams.get(url));
+        return requestSpecWithParams;
     }
 
     /**
@@ -401,10 +615,22 @@ public abstract class BaseClient {
     protected Response delete(String path) {
         String url = buildUrl(path);
 
-        if (!SILENT) {
-            log.info("Sending DELETE to {}", url);
-        }
-        return extractResponse(() -> getRequestSpecification().delete(url));
+        var exchange = logRequest("DELETE", url, null, null);
+        return extractResponse(exchange, () -> getRequestSpecification().delete(url));
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #delete(String)}.
+     *
+     * @param path the endpoint path
+     * @return a future completed with the response from the server
+     */
+    protected CompletableFuture<Response> deleteAsync(String path) {
+        String url = buildUrl(path);
+
+        var exchange = logRequest("DELETE", url, null, null);
+        var requestSpec = getRequestSpecification();
+        return extractResponseAsync(exchange, () -> requestSpec.deleteAsync(url));
     }
 
     /**
@@ -423,53 +649,191 @@ public abstract class BaseClient {
      * Executes the request and logs the response.
      * Handles long responses by saving to file.
      *
+     * @param exchange the exchange started by {@link #logRequest(String, String, Map, String)}
      * @param requestExecutor the request to execute
      * @return the extracted response
      */
-    private Response extractResponse(Callable<Response> requestExecutor) {
-        var extractedResponse = sendRequest(requestExecutor, 2);
-
-        String logMessage;
-        var prettifiedResponse = extractedResponse.asPrettyString();
-        var contentType = extractedResponse.contentType()
-                                           .split(";")[0];
-
-        if (prettifiedResponse.trim()
-                              .isEmpty()) {
-            logMessage = "Response body is empty";
-        } else if (Arrays.asList(ContentType.JSON.getContentTypeStrings())
-                         .contains(contentType)
-                || Arrays.asList(ContentType.XML.getContentTypeStrings())
-                         .contains(contentType)
-                || contentType.startsWith("text")) {
-            logMessage = String.format("Response body of type \"%s\":\n%s", contentType, prettifiedResponse);
-        } else {
-            logMessage = String.format("Response body of type %s cannot be printed", contentType);
+    private Response extractResponse(PendingExchange exchange, Callable<Response> requestExecutor) {
+        Response response;
+        try {
+            response = sendRequest(requestExecutor, retryAttempts);
+        } catch (RuntimeException e) {
+            logFailure(exchange, e);
+            throw e;
         }
+        return logResponse(exchange, response);
+    }
 
-        if (!SILENT) {
-            var statusCode = extractedResponse.getStatusCode();
-            boolean sameResult = logMessage.equalsIgnoreCase(prevResponseMessage.get())
-                    && statusCode == prevResponseStatus.get();
-            if (sameResult) {
-                log.info("Same result");
-            } else {
-                log.info("Response status: {}", statusCode);
-                if (logMessage.length() > 3000) {
-                    var fileExtension = getFileExtension(contentType);
-
-                    String filename = String.format("%s/%s.%s", RESULTS_DIR_PATH,
-                            RandomUtils.currentTimestampWithMilliseconds(), fileExtension);
-                    var path = FileUtils.printToFile(filename, logMessage);
-                    log.info("Response is too long. Storing to file:\n{}", path);
-                } else {
-                    log.info(logMessage);
+    /**
+     * Asynchronous counterpart of {@link #extractResponse(PendingExchange, Callable)}.
+     * The response is logged on the thread that completes the request. Cancelling the returned future, or
+     * completing it otherwise e.g. with {@link CompletableFuture#orTimeout}, cancels the call in flight and
+     * stops the retries.
+     *
+     * @param exchange the exchange started by {@link #logRequest(String, String, Map, String)}
+     * @param requestExecutor enqueues the request
+     * @return a future completed with the extracted response
+     */
+    private CompletableFuture<Response> extractResponseAsync(PendingExchange exchange,
+                                                             Supplier<CompletableFuture<Response>> requestExecutor) {
+        var sent = sendRequestAsync(requestExecutor, retryAttempts);
+        var result = sent.handle((response, throwable) -> {
+            if (throwable != null) {
+                logFailure(exchange, throwable);
+                throw throwable instanceof CompletionException completion
+                        ? completion
+                        : new CompletionException(throwable);
+            }
+            return logResponse(exchange, response);
+        });
+        // A no-op once the request has completed on its own
+        result.whenComplete((response, throwable) -> sent.cancel(true));
+        return result;
+    }
+
+    /**
+     * Starts recording an exchange and logs or defers its request according to the {@code httpLogPolicy}.
+     *
+     * @param method the HTTP method
+     * @param url the request URL without query parameters
+     * @param params the query parameters, may be null
+     * @param body the request body before compression, may be null
+     * @return the exchange to complete with the response
+     */
+    private PendingExchange logRequest(String method, String url, Map<String, ?> params, String body) {
+        // Silent clients only record the exchange for a failure dump
+        var decision = silent ? HttpLogFilter.Decision.SKIP : LOG_FILTER.decide(method, url);
+        long id = exchangeIds.incrementAndGet();
+        HttpLogEntry.RequestSent entry = null;
+        if (decision != HttpLogFilter.Decision.SKIP) {
+            entry = HttpLogEntry.request(id, method, url, params, loggedHeaders(), body, body != null && gzip);
+            if (decision == HttpLogFilter.Decision.LOG) {
+                emitRequest(entry);
+            }
+        }
+        // Asynchronous responses complete on another thread, so keep the buffer of the requesting one
+        return new PendingExchange(id, method, url, params, System.currentTimeMillis(), System.nanoTime(), entry,
+                decision, ExchangeRingBuffer.current());
+    }
+
+    /**
+     * Records the response and logs it according to the decision taken for the request.
+     *
+     * @param exchange the exchange started by {@link #logRequest(String, String, Map, String)}
+     * @param response the response to log
+     * @return the same response
+     */
+    private Response logResponse(PendingExchange exchange, Response response) {
+        exchange.complete(response.getStatusCode(), response, null);
+        switch (exchange.decision()) {
+            case LOG -> emitResponse(exchange.id(), response);
+            case DEFER -> {
+                if (HttpLogFilter.isFailure(response.getStatusCode())) {
+                    emitRequest(exchange.entry());
+                    emitResponse(exchange.id(), response);
                 }
             }
-            prevResponseMessage.set(logMessage);
-            prevResponseStatus.set(statusCode);
+            default -> {
+                // Skipped and buffered exchanges are only recorded
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Records an exchange whose request failed after all retries and logs its request if it was deferred.
+     *
+     * @param exchange the exchange started by {@link #logRequest(String, String, Map, String)}
+     * @param failure the failure
+     */
+    private void logFailure(PendingExchange exchange, Throwable failure) {
+        var cause = failure;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        exchange.complete(0, null, cause.toString());
+        if (exchange.decision() == HttpLogFilter.Decision.DEFER) {
+            emitRequest(exchange.entry());
+        }
+    }
+
+    private void emitRequest(HttpLogEntry.RequestSent entry) {
+        if (ASYNC_LOG) {
+            getAsyncLog().offer(entry);
+            return;
+        }
+        var requestMessage = HttpLogFormatter.formatRequest(entry);
+        log.info(requestMessage.equalsIgnoreCase(prevRequest.get())
+                ? "Repeating previous request..." : requestMessage);
+        prevRequest.set(requestMessage);
+    }
+
+    /**
+     * Logs the response status and body.
+     * Handles long responses by saving to file.
+     *
+     * @param exchangeId the id of the exchange, as on its request
+     * @param response the response to log
+     */
+    private void emitResponse(long exchangeId, Response response) {
+        if (ASYNC_LOG) {
+            // The writer thread decodes the body for the file
+            getAsyncLog().offer(HttpLogEntry.response(exchangeId, response));
+            return;
+        }
+
+        var logMessage = HttpLogFormatter.formatResponseBody(response);
+        var statusCode = response.getStatusCode();
+        boolean sameResult = logMessage.equalsIgnoreCase(prevResponseMessage.get())
+                && statusCode == prevResponseStatus.get();
+        if (sameResult) {
+            log.info("Same result");
+        } else {
+            log.info("Response status: {}", statusCode);
+            if (logMessage.length() > 3000) {
+                var fileExtension = getFileExtension(HttpLogFormatter.contentType(response));
+
+                String filename = String.format("%s/%s-%d.%s", RESULTS_DIR_PATH,
+                        RandomUtils.currentTimestampWithMilliseconds(), responseFileSequence.incrementAndGet(),
+                        fileExtension);
+                var path = FileUtils.printToFile(filename, logMessage);
+                log.info("Response is too long. Storing to file:\n{}", path);
+            } else {
+                log.info(logMessage);
+            }
+        }
+        prevResponseMessage.set(logMessage);
+        prevResponseStatus.set(statusCode);
+    }
+
+    private List<Header> loggedHeaders() {
+        // Clients with basic auth keep their headers in the request specification only
+        return headers == null ? List.of() : headers.asList();
+    }
+
+    /**
+     * An exchange in flight, recorded in the buffer of the requesting thread once it completes.
+     *
+     * @param id the id stamped on the logged request and response
+     * @param method the HTTP method
+     * @param url the request URL without query parameters
+     * @param params the query parameters, may be null
+     * @param startMillis when the request was sent
+     * @param startNanos when the request was sent, for the duration
+     * @param entry the captured request, null if the exchange is not logged
+     * @param decision what the policy decided to do with the exchange
+     * @param buffer the buffer of the requesting thread
+     */
+    private record PendingExchange(long id, String method, String url, Map<String, ?> params, long startMillis,
+                                   long startNanos, HttpLogEntry.RequestSent entry,
+                                   HttpLogFilter.Decision decision, ExchangeRingBuffer buffer) {
+
+        void complete(int status, Response response, String error) {
+            buffer.add(new RecordedExchange(startMillis, method, url, params, status,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                    response == null ? null : CapturedResponse.of(response, Integer.MAX_VALUE), error, entry,
+                    decision == HttpLogFilter.Decision.BUFFER));
         }
-        return extractedResponse;
     }
 
     /**
@@ -478,17 +842,14 @@ public abstract class BaseClient {
      *
      * @param requestExecutor the request to execute
      * @param attempts number of retry attempts
+     * @param <R> the response type
      * @return the response from the server
      */
-    private Response sendRequest(Callable<Response> requestExecutor, int attempts) {
+    private <R> R sendRequest(Callable<R> requestExecutor, int attempts) {
         try {
             return requestExecutor.call();
         } catch (Throwable t) {
-            log.error(String.format("Error sending request!\nHeaders: %s", String.join("",
-                    headers.asList()
-                           .stream()
-                           .map(header -> String.format("%s:%s", header.getName(), header.getValue()))
-                           .toList())), t);
+            logRequestError(t);
 
             if (attempts > 0) {
                 WaitUtils.forSeconds(1);
@@ -499,6 +860,92 @@ public abstract class BaseClient {
         }
     }
 
+    /**
+     * Asynchronous counterpart of {@link #sendRequest(Callable, int)}.
+     * Failed attempts are re-enqueued after a 1-second delay without blocking any thread. Once the returned future
+     * is completed from outside, e.g. cancelled, the current attempt is cancelled and no further one is started.
+     *
+     * @param requestExecutor enqueues the request
+     * @param attempts number of retry attempts
+     * @return a future completed with the response from the server
+     */
+    private CompletableFuture<Response> sendRequestAsync(Supplier<CompletableFuture<Response>> requestExecutor,
+                                                         int attempts) {
+        var result = new CompletableFuture<Response>();
+        var currentAttempt = new AtomicReference<CompletableFuture<Response>>();
+        result.whenComplete((response, throwable) -> {
+            var attempt = currentAttempt.get();
+            if (attempt != null) {
+                attempt.cancel(true);
+            }
+        });
+        sendAttemptAsync(requestExecutor, attempts, result, currentAttempt);
+        return result;
+    }
+
+    private void sendAttemptAsync(Supplier<CompletableFuture<Response>> requestExecutor, int attempts,
+                                  CompletableFuture<Response> result,
+                                  AtomicReference<CompletableFuture<Response>> currentAttempt) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<Response> attempt;
+        try {
+            attempt = requestExecutor.get();
+        } catch (Throwable t) {
+            attempt = CompletableFuture.failedFuture(t);
+        }
+        currentAttempt.set(attempt);
+        if (result.isDone()) {
+            // Cancelled while the attempt was being enqueued
+            attempt.cancel(true);
+            return;
+        }
+
+        attempt.whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                result.complete(response);
+                return;
+            }
+            if (result.isDone()) {
+                return;
+            }
+            var cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+            logRequestError(cause);
+
+            if (attempts > 0) {
+                CompletableFuture.delayedExecutor(1, TimeUnit.SECONDS)
+                                 .execute(() -> sendAttemptAsync(requestExecutor, attempts - 1, result,
+                                         currentAttempt));
+            } else {
+                result.completeExceptionally(new RuntimeException(cause));
+            }
+        });
+    }
+
+    /**
+     * Logs a failed request attempt together with the client headers, unless the client is silent: load clients
+     * are silent, and their failures are counted by {@code BidTrafficStats} instead of printed with a stack trace.
+     *
+     * @param t the failure cause
+     */
+    private void logRequestError(Throwable t) {
+        if (silent) {
+            return;
+        }
+        if (headers == null) {
+            log.error("Error sending request!", t);
+            return;
+        }
+        log.error(String.format("Error sending request!\nHeaders: %s", String.join("",
+                headers.asList()
+                       .stream()
+                       .map(header -> String.format("%s:%s", header.getName(), header.getValue()))
+                       .toList())), t);
+    }
+
     /**
      * Returns the file extension for the given content type.
      *
@@ -521,7 +968,7 @@ public abstract class BaseClient {
     }
 
     /**
-     * Compresses the given string using GZIP.
+     * Compresses the given string using GZIP with the pooled codec of the configured {@code httpGzipLevel}.
      *
      * @param data the string to compress
      * @return the compressed byte array
@@ -530,17 +977,7 @@ public abstract class BaseClient {
         if (data == null || data.isEmpty()) {
             return new byte[0];
         }
-
-        try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
-             GZIPOutputStream gzipOutputStream = new GZIPOutputStream(bos)) {
-
-            gzipOutputStream.write(data.getBytes(StandardCharsets.UTF_8));
-            gzipOutputStream.finish();
-
-            return bos.toByteArray();
-        } catch (IOException e) {
-            throw new TestException(e);
-        }
+        return GZIP.compress(data);
     }
 
     /**
@@ -553,17 +990,6 @@ public abstract class BaseClient {
         if (gzippedData == null || gzippedData.length == 0) {
             return "";
         }
-
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream();
-             GZIPInputStream gis = new GZIPInputStream(new java.io.ByteArrayInputStream(gzippedData))) {
-            byte[] buffer = new byte[1024];
-            int len;
-            while ((len = gis.read(buffer)) != -1) {
-                out.write(buffer, 0, len);
-            }
-            return out.toString(StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new TestException(e);
-        }
+        return GzipCodec.decompressToString(gzippedData);
     }
 }
@@ -0,0 +1,22 @@
+package io.xenoss.http;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of streaming a response body to a file.
+ *
+ * @param path          the written file
+ * @param bytes         number of bytes written
+ * @param durationNanos time spent reading the body and writing the file
+ * @param checksum      lowercase hex digest of the body, or null if none was requested
+ */
+public record DownloadResult(Path path, long bytes, long durationNanos, String checksum) {
+
+    /**
+     * @return average transfer rate in bytes per second
+     */
+    public double bytesPerSecond() {
+        return durationNanos == 0 ? 0 : (double) bytes * TimeUnit.SECONDS.toNanos(1) / durationNanos;
+    }
+}
@@ -0,0 +1,411 @@
+package io.xenoss.http;
+
+import io.xenoss.exceptions.FrameworkException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * GZIP compression that reuses its zlib state.
+ * <p>
+ * {@link java.util.zip.GZIPOutputStream} and {@link java.util.zip.GZIPInputStream} allocate a native zlib context
+ * and their own buffers per stream, the context is released only when the stream is closed. The codec keeps a
+ * bounded pool of raw {@link Deflater deflaters} per compression level and of {@link Inflater inflaters}, each with
+ * its CRC and a growable scratch buffer, resets them between calls and writes the gzip header and trailer itself.
+ * A pool rather than thread-locals, so virtual threads share the contexts instead of creating one each. Contexts
+ * that do not fit in a full pool are ended right away, and scratch buffers that grew beyond 1 MB are dropped on
+ * release so one large body does not stay pinned in the pool.
+ */
+public final class GzipCodec {
+    public static final int DEFAULT_LEVEL = 6;
+
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRAILER_SIZE = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    // The uncompressed size in the trailer comes from the server, so it only pre-sizes the buffer up to a limit
+    private static final int MAX_SIZE_HINT = 64 * 1024 * 1024;
+    private static final int MAX_IDLE = Math.max(16, Runtime.getRuntime()
+                                                             .availableProcessors() * 2);
+
+    private static final GzipCodec[] LEVELS = IntStream.rangeClosed(Deflater.NO_COMPRESSION, Deflater.BEST_COMPRESSION)
+                                                       .mapToObj(GzipCodec::new)
+                                                       .toArray(GzipCodec[]::new);
+    private static final Pool<Decompressor> decompressors = new Pool<>(Decompressor::new);
+
+    private final int level;
+    private final Pool<Compressor> compressors;
+
+    private GzipCodec(int level) {
+        this.level = level;
+        this.compressors = new Pool<>(() -> new Compressor(level));
+    }
+
+    /**
+     * @param level compression level from 0 (stored) to 9 (best compression)
+     * @return the shared codec of that level
+     */
+    public static GzipCodec of(int level) {
+        if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException(String.format("Gzip compression level must be between 0 and 9, got: %d",
+                    level));
+        }
+        return LEVELS[level];
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @param data the text to compress, encoded as UTF-8
+     * @return a complete gzip member
+     */
+    public byte[] compress(String data) {
+        return compress(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param data the bytes to compress
+     * @return a complete gzip member
+     */
+    public byte[] compress(byte[] data) {
+        var compressor = compressors.acquire();
+        try {
+            return compressor.compress(data);
+        } finally {
+            compressors.release(compressor);
+        }
+    }
+
+    /**
+     * Compresses the data straight into the stream in chunks, without building the compressed array.
+     * The stream is neither flushed nor closed.
+     *
+     * @param data the bytes to compress
+     * @param out where the gzip member is written
+     * @throws IOException if writing to the stream fails
+     */
+    public void compress(byte[] data, OutputStream out) throws IOException {
+        var compressor = compressors.acquire();
+        try {
+            compressor.compress(data, out);
+        } finally {
+            compressors.release(compressor);
+        }
+    }
+
+    /**
+     * Decompresses one or more concatenated gzip members, like {@link java.util.zip.GZIPInputStream}.
+     *
+     * @param gzipped the compressed bytes
+     * @return the decompressed bytes
+     * @throws FrameworkException if the data is not valid gzip
+     */
+    public static byte[] decompress(byte[] gzipped) {
+        var decompressor = decompressors.acquire();
+        try {
+            int length = decompressor.inflate(gzipped);
+            return Arrays.copyOf(decompressor.buffer, length);
+        } finally {
+            decompressors.release(decompressor);
+        }
+    }
+
+    /**
+     * Decompresses gzip data and decodes it as UTF-8 without an intermediate byte array.
+     *
+     * @param gzipped the compressed bytes
+     * @return the decompressed text
+     * @throws FrameworkException if the data is not valid gzip
+     */
+    public static String decompressToString(byte[] gzipped) {
+        var decompressor = decompressors.acquire();
+        try {
+            int length = decompressor.inflate(gzipped);
+            return new String(decompressor.buffer, 0, length, StandardCharsets.UTF_8);
+        } finally {
+            decompressors.release(decompressor);
+        }
+    }
+
+    /**
+     * Formats the pool statistics for the telemetry dashboard.
+     *
+     * @return metrics keyed by display name, empty until the codec is used
+     */
+    public static Map<String, String> getMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        long deflaters = 0;
+        int idleDeflaters = 0;
+        for (var codec : LEVELS) {
+            deflaters += codec.compressors.created.sum();
+            idleDeflaters += codec.compressors.idle.size();
+        }
+        long inflaters = decompressors.created.sum();
+        if (deflaters + inflaters > 0) {
+            metrics.put("🗜️ GZIP Codec", String.format("deflaters=%d (idle %d), inflaters=%d (idle %d)",
+                    deflaters, idleDeflaters, inflaters, decompressors.idle.size()));
+        }
+        return metrics;
+    }
+
+    private static void writeIntLE(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >>> 8);
+        buffer[offset + 2] = (byte) (value >>> 16);
+        buffer[offset + 3] = (byte) (value >>> 24);
+    }
+
+    private static int readIntLE(byte[] buffer, int offset) {
+        return (buffer[offset] & 0xff)
+                | (buffer[offset + 1] & 0xff) << 8
+                | (buffer[offset + 2] & 0xff) << 16
+                | (buffer[offset + 3] & 0xff) << 24;
+    }
+
+    private static FrameworkException malformed(String reason) {
+        return new FrameworkException(String.format("Malformed gzip data: %s", reason));
+    }
+
+    private interface Pooled {
+        /**
+         * Prepares the instance for the next borrower.
+         */
+        void recycle();
+
+        /**
+         * Releases the native zlib context.
+         */
+        void end();
+    }
+
+    private static final class Pool<T extends Pooled> {
+        private final BlockingQueue<T> idle = new ArrayBlockingQueue<>(MAX_IDLE);
+        private final Supplier<T> factory;
+        private final LongAdder created = new LongAdder();
+
+        private Pool(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        T acquire() {
+            T item = idle.poll();
+            if (item == null) {
+                created.increment();
+                item = factory.get();
+            }
+            return item;
+        }
+
+        void release(T item) {
+            item.recycle();
+            if (!idle.offer(item)) {
+                item.end();
+            }
+        }
+    }
+
+    private static final class Compressor implements Pooled {
+        private final Deflater deflater;
+        private final CRC32 crc = new CRC32();
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+        private Compressor(int level) {
+            // Raw deflate, the gzip header and trailer are written here
+            this.deflater = new Deflater(level, true);
+        }
+
+        byte[] compress(byte[] data) {
+            start(data);
+            System.arraycopy(HEADER, 0, buffer, 0, HEADER.length);
+            int count = HEADER.length;
+            while (!deflater.finished()) {
+                if (count == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                count += deflater.deflate(buffer, count, buffer.length - count);
+            }
+            if (buffer.length - count < TRAILER_SIZE) {
+                buffer = Arrays.copyOf(buffer, count + TRAILER_SIZE);
+            }
+            writeTrailer(count, data.length);
+            return Arrays.copyOf(buffer, count + TRAILER_SIZE);
+        }
+
+        void compress(byte[] data, OutputStream out) throws IOException {
+            start(data);
+            out.write(HEADER);
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            writeTrailer(0, data.length);
+            out.write(buffer, 0, TRAILER_SIZE);
+        }
+
+        private void start(byte[] data) {
+            crc.update(data);
+            deflater.setInput(data);
+            deflater.finish();
+        }
+
+        private void writeTrailer(int offset, int size) {
+            writeIntLE(buffer, offset, (int) crc.getValue());
+            writeIntLE(buffer, offset + 4, size);
+        }
+
+        @Override
+        public void recycle() {
+            deflater.reset();
+            crc.reset();
+            if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+                buffer = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+
+        @Override
+        public void end() {
+            deflater.end();
+        }
+    }
+
+    private static final class Decompressor implements Pooled {
+        private final Inflater inflater = new Inflater(true);
+        private final CRC32 crc = new CRC32();
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+        /**
+         * Inflates every member into the buffer.
+         *
+         * @return the number of decompressed bytes at the start of the buffer
+         */
+        int inflate(byte[] data) {
+            if (data.length >= HEADER.length + TRAILER_SIZE) {
+                // The trailer of the last member holds its size, exact for the usual single member
+                ensureCapacity(Math.min(readIntLE(data, data.length - 4) & 0xffffffffL, MAX_SIZE_HINT));
+            }
+
+            int count = 0;
+            int offset = 0;
+            do {
+                offset = skipHeader(data, offset);
+                int memberStart = count;
+                inflater.reset();
+                crc.reset();
+                inflater.setInput(data, offset, data.length - offset);
+                try {
+                    while (!inflater.finished()) {
+                        if (count == buffer.length) {
+                            ensureCapacity(buffer.length * 2L);
+                        }
+                        int inflated = inflater.inflate(buffer, count, buffer.length - count);
+                        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                            throw malformed("unexpected end of the compressed data");
+                        }
+                        count += inflated;
+                    }
+                } catch (DataFormatException e) {
+                    throw new FrameworkException("Malformed gzip data", e);
+                }
+
+                crc.update(buffer, memberStart, count - memberStart);
+                offset = data.length - inflater.getRemaining();
+                if (data.length - offset < TRAILER_SIZE) {
+                    throw malformed("missing trailer");
+                }
+                if (readIntLE(data, offset) != (int) crc.getValue()) {
+                    throw malformed("CRC mismatch");
+                }
+                if (readIntLE(data, offset + 4) != count - memberStart) {
+                    throw malformed("size mismatch");
+                }
+                offset += TRAILER_SIZE;
+                // Anything after the last member that is not another member is ignored, as GZIPInputStream does
+            } while (data.length - offset >= HEADER.length && isMember(data, offset));
+            return count;
+        }
+
+        private void ensureCapacity(long capacity) {
+            if (capacity > buffer.length) {
+                if (capacity > Integer.MAX_VALUE - 8) {
+                    throw malformed("decompressed data is larger than 2 GB");
+                }
+                buffer = Arrays.copyOf(buffer, (int) capacity);
+            }
+        }
+
+        private static boolean isMember(byte[] data, int offset) {
+            return data[offset] == HEADER[0] && data[offset + 1] == HEADER[1];
+        }
+
+        private static int skipHeader(byte[] data, int offset) {
+            if (data.length - offset < HEADER.length || !isMember(data, offset)) {
+                throw malformed("not in gzip format");
+            }
+            if (data[offset + 2] != Deflater.DEFLATED) {
+                throw malformed(String.format("unsupported compression method %d", data[offset + 2]));
+            }
+            int flags = data[offset + 3] & 0xff;
+            int position = offset + HEADER.length;
+            if ((flags & FEXTRA) != 0) {
+                checkAvailable(data, position, 2);
+                position += 2 + ((data[position] & 0xff) | (data[position + 1] & 0xff) << 8);
+            }
+            if ((flags & FNAME) != 0) {
+                position = skipZeroTerminated(data, position);
+            }
+            if ((flags & FCOMMENT) != 0) {
+                position = skipZeroTerminated(data, position);
+            }
+            if ((flags & FHCRC) != 0) {
+                position += 2;
+            }
+            checkAvailable(data, position, 0);
+            return position;
+        }
+
+        private static int skipZeroTerminated(byte[] data, int position) {
+            while (position < data.length && data[position] != 0) {
+                position++;
+            }
+            checkAvailable(data, position, 1);
+            return position + 1;
+        }
+
+        private static void checkAvailable(byte[] data, int position, int length) {
+            if (position + length > data.length) {
+                throw malformed("truncated header");
+            }
+        }
+
+        @Override
+        public void recycle() {
+            if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+                buffer = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+
+        @Override
+        public void end() {
+            inflater.end();
+        }
+    }
+}
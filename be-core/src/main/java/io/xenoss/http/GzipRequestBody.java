@@ -0,0 +1,52 @@
+package io.xenoss.http;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+
+/**
+ * Request body compressed with a pooled {@link GzipCodec} while OkHttp writes it, so the compressed bytes go
+ * straight into the connection buffer instead of an intermediate array.
+ * <p>
+ * The compressed length is not known up front, so the body is sent with chunked transfer encoding on HTTP/1.1.
+ * The content type is left to the {@code Content-Type} header of the request. The body can be written again
+ * when OkHttp retries the request.
+ */
+public final class GzipRequestBody extends RequestBody {
+    private final byte[] content;
+    private final GzipCodec codec;
+
+    /**
+     * @param content the uncompressed body
+     * @param codec the codec of the desired compression level
+     */
+    public GzipRequestBody(byte[] content, GzipCodec codec) {
+        this.content = content;
+        this.codec = codec;
+    }
+
+    /**
+     * @return the uncompressed body, not copied
+     */
+    public byte[] getContent() {
+        return content;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return null;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        // The stream view only adapts the sink, closing it would close the connection stream
+        codec.compress(content, sink.outputStream());
+    }
+}
@@ -4,15 +4,25 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import io.xenoss.config.ConfigurationManager;
+import io.xenoss.config.HttpProtocol;
+import io.xenoss.http.cassette.CassetteInterceptor;
 import io.xenoss.telemetry.HttpMetricsInterceptor;
 import io.xenoss.telemetry.ConnectionEventListener;
+import io.xenoss.telemetry.ConnectionPoolMetrics;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.logging.HttpLoggingInterceptor;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Factory class for creating and configuring OkHttpClient instances and mappers for HTTP requests.
@@ -24,6 +34,9 @@ public class HttpClientFactory {
     /** Maximum number of threads for the connection pool (configurable). */
     public static final int MAX_THREADS = ConfigurationManager.getConfig()
                                                               .getHttpConnectionPoolSize();
+    /** Wire protocol used by the created clients (configurable). */
+    public static final HttpProtocol PROTOCOL = ConfigurationManager.getConfig()
+                                                                    .getHttpProtocol();
     /** Timeout for connections, reads, and writes (in seconds, configurable). */
     private static final int TIMEOUT_SECONDS = ConfigurationManager.getConfig()
                                                                    .getHttpTimeoutSeconds();
@@ -35,6 +48,14 @@ public class HttpClientFactory {
     private static final ConnectionPool connectionPool = new ConnectionPool(
             MAX_THREADS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
 
+    /** Records or replays the exchanges of every created client, null unless a cassette mode is configured. */
+    private static final CassetteInterceptor cassette = CassetteInterceptor.fromConfig();
+
+    static {
+        ConnectionPoolMetrics.registerPoolSampler(connectionPool::connectionCount,
+                connectionPool::idleConnectionCount);
+    }
+
     /** Shared Jackson ObjectMapper for JSON serialization/deserialization. */
     @Getter
     private static final ObjectMapper objectMapper = createObjectMapper();
@@ -43,7 +64,53 @@ public class HttpClientFactory {
     private static final XmlMapper xmlMapper = createXmlMapper();
 
     /**
-     * Creates a default OkHttpClient instance with telemetry and metrics interceptors.
+     * Clients derived from a parent with the opposite redirect policy, cached to avoid a rebuild per request.
+     * A parent has only one opposite, so the parent alone keys both directions.
+     */
+    private static final Map<OkHttpClient, OkHttpClient> redirectVariants =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Returns the root OkHttpClient shared by the whole framework.
+     * All clients derived from it share one Dispatcher, one ConnectionPool and the same interceptor chain.
+     * @return the shared OkHttpClient
+     */
+    public static OkHttpClient getSharedHttpClient() {
+        return SharedClientHolder.ROOT_CLIENT;
+    }
+
+    /**
+     * Derives a client from the shared root client with per-client overrides such as timeouts or redirects.
+     * Derived clients are cheap: they reuse the root Dispatcher threads and ConnectionPool.
+     * @param overrides customizations applied to the derived builder
+     * @return the derived OkHttpClient
+     */
+    public static OkHttpClient deriveHttpClient(Consumer<OkHttpClient.Builder> overrides) {
+        OkHttpClient.Builder builder = getSharedHttpClient().newBuilder();
+        overrides.accept(builder);
+        return builder.build();
+    }
+
+    /**
+     * Returns a variant of the given client with the requested redirect policy.
+     * @param client the client to adapt
+     * @param followRedirects whether redirects should be followed
+     * @return the given client if it already matches, otherwise a cached derived client
+     */
+    public static OkHttpClient withRedirects(OkHttpClient client, boolean followRedirects) {
+        if (client.followRedirects() == followRedirects) {
+            return client;
+        }
+        return redirectVariants.computeIfAbsent(client, parent -> parent.newBuilder()
+                                                                        .followRedirects(followRedirects)
+                                                                        .followSslRedirects(followRedirects)
+                                                                        .build());
+    }
+
+    /**
+     * Creates a standalone OkHttpClient instance with telemetry and metrics interceptors.
+     * Prefer {@link #getSharedHttpClient()} or {@link #deriveHttpClient(Consumer)}: every standalone client
+     * has its own Dispatcher thread pool.
      * @return a configured OkHttpClient
      */
     public static OkHttpClient createHttpClient() {
@@ -51,25 +118,48 @@ public class HttpClientFactory {
     }
 
     /**
-     * Creates an OkHttpClient instance with optional HTTP logging.
+     * Creates an OkHttpClient instance with optional HTTP logging and the configured protocol.
      * Adds telemetry, metrics, and connection event listeners.
      * @param enableLogging whether to enable HTTP logging
      * @return a configured OkHttpClient
      */
     public static OkHttpClient createHttpClient(boolean enableLogging) {
+        return createHttpClient(enableLogging, PROTOCOL);
+    }
+
+    /**
+     * Creates an OkHttpClient instance with optional HTTP logging and the given protocol.
+     * Adds telemetry, metrics, and connection event listeners.
+     * @param enableLogging whether to enable HTTP logging
+     * @param protocol the wire protocol to use
+     * @return a configured OkHttpClient
+     */
+    public static OkHttpClient createHttpClient(boolean enableLogging, HttpProtocol protocol) {
+        // OkHttp allows only 5 concurrent calls per host by default, which would throttle async callers
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MAX_THREADS);
+        dispatcher.setMaxRequestsPerHost(MAX_THREADS);
+
         OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
                 .connectionPool(connectionPool)
                 .connectTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
                 .readTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
                 .writeTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .protocols(toOkHttpProtocols(protocol))
                 .retryOnConnectionFailure(true);
 
-        // Add event listener for connection tracking
-        builder.eventListener(new ConnectionEventListener());
+        // Add a per-call event listener for connection tracking
+        builder.eventListenerFactory(new ConnectionEventListener.Factory());
 
         // Add metrics interceptor for telemetry tracking
         builder.addInterceptor(new HttpMetricsInterceptor());
 
+        // Behind the metrics interceptor, so replayed calls are still counted and timed
+        if (cassette != null) {
+            builder.addInterceptor(cassette);
+        }
+
         if (enableLogging) {
             HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor(log::debug);
             loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BASIC);
@@ -80,11 +170,34 @@ public class HttpClientFactory {
     }
 
     /**
-     * Creates a default RequestSpecification using a new OkHttpClient and default headers.
+     * Formats the statistics of the configured cassette for the telemetry dashboard.
+     * @return metrics keyed by display name, empty if no cassette mode is configured
+     */
+    public static Map<String, String> getCassetteMetrics() {
+        return cassette == null ? Map.of() : cassette.getMetrics();
+    }
+
+    /**
+     * Maps the configured protocol to the OkHttp protocol list.
+     * @param protocol the configured protocol
+     * @return protocols in preference order
+     */
+    private static List<Protocol> toOkHttpProtocols(HttpProtocol protocol) {
+        return switch (protocol) {
+            case HTTP_1_1 -> List.of(Protocol.HTTP_1_1);
+            // HTTP/2 is negotiated through ALPN, plain-text and old servers stay on HTTP/1.1
+            case HTTP_2 -> List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+            // Prior knowledge must be the only protocol in the list
+            case H2C -> List.of(Protocol.H2_PRIOR_KNOWLEDGE);
+        };
+    }
+
+    /**
+     * Creates a default RequestSpecification using the shared OkHttpClient and default headers.
      * @return a new RequestSpecification
      */
     public static RequestSpecification given() {
-        return new RequestSpecification(createHttpClient(), objectMapper, new Headers(), "");
+        return new RequestSpecification(getSharedHttpClient(), objectMapper, new Headers(), "");
     }
 
     /**
@@ -96,6 +209,21 @@ public class HttpClientFactory {
         return new RequestSpecification(client, objectMapper, new Headers(), "");
     }
 
+    /**
+     * Lazily creates the root client on first use and registers its Dispatcher for telemetry.
+     */
+    private static final class SharedClientHolder {
+        private static final OkHttpClient ROOT_CLIENT = createRootClient();
+
+        private static OkHttpClient createRootClient() {
+            OkHttpClient client = createHttpClient(false);
+            Dispatcher dispatcher = client.dispatcher();
+            ConnectionPoolMetrics.registerDispatcherSampler(dispatcher::runningCallsCount,
+                    dispatcher::queuedCallsCount);
+            return client;
+        }
+    }
+
     /**
      * Creates and configures a Jackson ObjectMapper for JSON.
      * @return a configured ObjectMapper
@@ -4,19 +4,26 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.xenoss.exceptions.HttpClientException;
 import io.xenoss.utils.SerializationUtils;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Builder and executor for HTTP requests using OkHttpClient.
@@ -149,7 +156,8 @@ public class RequestSpecification {
     /**
      * Returns a new BodyRequestSpecification with the given body object.
      * Copies all other settings from the current specification.
-     * @param body the request body object
+     * @param body the request body object: an OkHttp {@link RequestBody} sent as is, bytes, a string or an object
+     *             serialized to JSON
      * @return a new BodyRequestSpecification
      */
     public RequestSpecification body(Object body) {
@@ -169,43 +177,86 @@ public class RequestSpecification {
     }
 
     public Response get(String url) {
-        return executeRequest(() -> {
-            HttpUrl httpUrl = buildUrl(url);
-            Request request = new Request.Builder()
-                    .url(httpUrl)
-                    .headers(defaultHeaders.toOkHttpHeaders())
-                    .get()
-                    .build();
-            return httpClient.newCall(request).execute();
-        });
+        return executeRequest(() -> buildGetRequest(url));
     }
 
     public Response post(String url) {
-        return executeRequest(() -> {
-            HttpUrl httpUrl = buildUrl(url);
-            RequestBody requestBody = RequestBody.create("", MediaType.get(contentType.getContentTypeString()));
-            Request request = new Request.Builder()
-                    .url(httpUrl)
-                    .headers(defaultHeaders.toOkHttpHeaders())
-                    .post(requestBody)
-                    .build();
-            return httpClient.newCall(request).execute();
-        });
+        return executeRequest(() -> buildPostRequest(url));
     }
 
     public Response delete(String url) {
-        return executeRequest(() -> {
-            HttpUrl httpUrl = buildUrl(url);
-            Request request = new Request.Builder()
-                    .url(httpUrl)
-                    .headers(defaultHeaders.toOkHttpHeaders())
-                    .delete()
-                    .build();
-            return httpClient.newCall(request).execute();
-        });
+        return executeRequest(() -> buildDeleteRequest(url));
+    }
+
+    /**
+     * Sends a GET request and returns as soon as the headers are received.
+     * The body stays unread until consumed through the returned StreamingResponse.
+     * @param url the request URL
+     * @return the streaming response; must be closed by the caller
+     */
+    public StreamingResponse getStreaming(String url) {
+        try {
+            okhttp3.Response okHttpResponse = client().newCall(buildGetRequest(url))
+                                                        .execute();
+            return new StreamingResponse(okHttpResponse, objectMapper);
+        } catch (Exception e) {
+            throw new HttpClientException("Failed to execute HTTP request", e);
+        }
+    }
+
+    /**
+     * Sends a GET request without blocking the calling thread.
+     * @param url the request URL
+     * @return a future completed with the response once its body has been read
+     */
+    public CompletableFuture<Response> getAsync(String url) {
+        return enqueueRequest(() -> buildGetRequest(url));
     }
 
-    private HttpUrl buildUrl(String url) {
+    /**
+     * Sends a POST request without blocking the calling thread.
+     * @param url the request URL
+     * @return a future completed with the response once its body has been read
+     */
+    public CompletableFuture<Response> postAsync(String url) {
+        return enqueueRequest(() -> buildPostRequest(url));
+    }
+
+    /**
+     * Sends a DELETE request without blocking the calling thread.
+     * @param url the request URL
+     * @return a future completed with the response once its body has been read
+     */
+    public CompletableFuture<Response> deleteAsync(String url) {
+        return enqueueRequest(() -> buildDeleteRequest(url));
+    }
+
+    protected Request buildGetRequest(String url) {
+        return new Request.Builder()
+                .url(buildUrl(url))
+                .headers(defaultHeaders.toOkHttpHeaders())
+                .get()
+                .build();
+    }
+
+    protected Request buildPostRequest(String url) {
+        RequestBody requestBody = RequestBody.create("", MediaType.get(contentType.getContentTypeString()));
+        return new Request.Builder()
+                .url(buildUrl(url))
+                .headers(defaultHeaders.toOkHttpHeaders())
+                .post(requestBody)
+                .build();
+    }
+
+    protected Request buildDeleteRequest(String url) {
+        return new Request.Builder()
+                .url(buildUrl(url))
+                .headers(defaultHeaders.toOkHttpHeaders())
+                .delete()
+                .build();
+    }
+
+    protected HttpUrl buildUrl(String url) {
         HttpUrl.Builder urlBuilder = Objects.requireNonNull(HttpUrl.parse(url))
                                             .newBuilder();
         for (Map.Entry<String, String> param : queryParams.entrySet()) {
@@ -214,15 +265,103 @@ public class RequestSpecification {
         return urlBuilder.build();
     }
 
-    private Response executeRequest(Callable<okhttp3.Response> requestExecutor) {
+    /**
+     * Returns the client honoring the redirect policy of this specification.
+     * @return the OkHttpClient to execute calls with
+     */
+    private OkHttpClient client() {
+        return HttpClientFactory.withRedirects(httpClient, followRedirects);
+    }
+
+    private Response executeRequest(Callable<Request> requestBuilder) {
+        OkHttpClient client = client();
+        if (Thread.currentThread()
+                  .isVirtual() && usesHttp2(client)) {
+            // OkHttp 4 reads HTTP/2 streams while holding a monitor, which would pin the carrier thread. Those
+            // calls run on the dispatcher and the virtual thread parks on the future. HTTP/1.1 I/O is not
+            // synchronized, so it stays on the virtual thread and is not capped by the dispatcher limits.
+            return awaitResponse(enqueueRequest(requestBuilder));
+        }
         try {
-            okhttp3.Response okHttpResponse = requestExecutor.call();
+            okhttp3.Response okHttpResponse = client.newCall(requestBuilder.call())
+                                                    .execute();
             return new Response(okHttpResponse, objectMapper);
         } catch (Exception e) {
             throw new HttpClientException("Failed to execute HTTP request", e);
         }
     }
 
+    private static boolean usesHttp2(OkHttpClient client) {
+        return client.protocols()
+                     .contains(Protocol.HTTP_2)
+                || client.protocols()
+                         .contains(Protocol.H2_PRIOR_KNOWLEDGE);
+    }
+
+    /**
+     * Waits for an enqueued request, cancelling the call if the waiting thread is interrupted.
+     *
+     * @param future the enqueued request
+     * @return the response
+     */
+    private static Response awaitResponse(CompletableFuture<Response> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread()
+                  .interrupt();
+            throw new HttpClientException("Interrupted while waiting for HTTP response", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new HttpClientException("Failed to execute HTTP request", e.getCause());
+        }
+    }
+
+    /**
+     * Enqueues the request on the OkHttp dispatcher instead of executing it on the calling thread.
+     * The body is read on the dispatcher thread, so the returned future carries a fully built Response.
+     * Cancelling the future cancels the underlying call.
+     *
+     * @param requestBuilder builds the request to enqueue
+     * @return a future completed with the response or with an HttpClientException
+     */
+    private CompletableFuture<Response> enqueueRequest(Callable<Request> requestBuilder) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        Call call;
+        try {
+            call = client().newCall(requestBuilder.call());
+        } catch (Exception e) {
+            future.completeExceptionally(new HttpClientException("Failed to build HTTP request", e));
+            return future;
+        }
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call failedCall, @NotNull IOException e) {
+                future.completeExceptionally(new HttpClientException("Failed to execute HTTP request", e));
+            }
+
+            @Override
+            public void onResponse(@NotNull Call completedCall, @NotNull okhttp3.Response okHttpResponse) {
+                try {
+                    future.complete(new Response(okHttpResponse, objectMapper));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
     public static class RedirectSpecification {
         private final RequestSpecification parent;
 
@@ -266,29 +405,26 @@ public class RequestSpecification {
         }
 
         @Override
-        public Response post(String url) {
-            return executeRequest(() -> {
-                HttpUrl httpUrl = buildUrl(url);
-                String bodyString = bodyObject instanceof String ? 
-                        (String) bodyObject : 
-                        SerializationUtils.toJson(bodyObject);
-                
-                RequestBody requestBody = RequestBody.create(bodyString, 
-                        MediaType.get(contentType.getContentTypeString()));
-                
-                // Add Content-Type header
-                List<Header> headersList = new ArrayList<>(defaultHeaders.asList());
-                headersList.add(new Header("Content-Type", contentType.getContentTypeString()));
-                Headers headersWithContentType = new Headers(headersList);
-                
-                Request request = new Request.Builder()
-                        .url(httpUrl)
-                        .headers(headersWithContentType.toOkHttpHeaders())
-                        .post(requestBody)
-                        .build();
-                
-                return httpClient.newCall(request).execute();
-            });
+        protected Request buildPostRequest(String url) {
+            MediaType mediaType = MediaType.get(contentType.getContentTypeString());
+            RequestBody requestBody = bodyObject instanceof RequestBody prepared
+                    ? prepared
+                    : bodyObject instanceof byte[] bytes
+                    ? RequestBody.create(bytes, mediaType)
+                    : RequestBody.create(bodyObject instanceof String string
+                            ? string
+                            : SerializationUtils.toJson(bodyObject), mediaType);
+
+            // Add Content-Type header
+            List<Header> headersList = new ArrayList<>(defaultHeaders.asList());
+            headersList.add(new Header("Content-Type", contentType.getContentTypeString()));
+            Headers headersWithContentType = new Headers(headersList);
+
+            return new Request.Builder()
+                    .url(buildUrl(url))
+                    .headers(headersWithContentType.toOkHttpHeaders())
+                    .post(requestBody)
+                    .build();
         }
     }
 
@@ -307,32 +443,26 @@ public class RequestSpecification {
         }
 
         @Override
-        public Response post(String url) {
-            return executeRequest(() -> {
-                HttpUrl httpUrl = buildUrl(url);
-                
-                // Detect proper media type based on file extension
-                String fileName = file.getName().toLowerCase();
-                String mediaType = detectMediaType(fileName);
-                
-                // Create raw file body with proper Content-Type
-                RequestBody requestBody = RequestBody.create(file, MediaType.get(mediaType));
-                
-                // Add Content-Type header
-                List<Header> headersList = new ArrayList<>(defaultHeaders.asList());
-                headersList.add(new Header("Content-Type", mediaType));
-                Headers headersWithContentType = new Headers(headersList);
-                
-                Request request = new Request.Builder()
-                        .url(httpUrl)
-                        .headers(headersWithContentType.toOkHttpHeaders())
-                        .post(requestBody)
-                        .build();
-                
-                return httpClient.newCall(request).execute();
-            });
+        protected Request buildPostRequest(String url) {
+            // Detect proper media type based on file extension
+            String fileName = file.getName().toLowerCase();
+            String mediaType = detectMediaType(fileName);
+
+            // Create raw file body with proper Content-Type
+            RequestBody requestBody = RequestBody.create(file, MediaType.get(mediaType));
+
+            // Add Content-Type header
+            List<Header> headersList = new ArrayList<>(defaultHeaders.asList());
+            headersList.add(new Header("Content-Type", mediaType));
+            Headers headersWithContentType = new Headers(headersList);
+
+            return new Request.Builder()
+                    .url(buildUrl(url))
+                    .headers(headersWithContentType.toOkHttpHeaders())
+                    .post(requestBody)
+                    .build();
         }
-        
+
         @Override
         public RequestSpecification queryParams(Map<String, String> params) {
             FileRequestSpecification spec = new FileRequestSpecification(httpClient, objectMapper,
@@ -2,20 +2,30 @@ package io.xenoss.http;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import io.xenoss.exceptions.HttpClientException;
 import io.xenoss.exceptions.ResponseParsingException;
 import io.xenoss.utils.SerializationUtils;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Wrapper for OkHttp response providing convenient access to body, headers, status, and deserialization.
  * Supports JSON and other formats via Jackson ObjectMapper.
+ * The body is kept as raw bytes and decoded to a String only when first requested.
  * IMPORTANT: This class takes ownership of the OkHttp Response and closes it after reading the body.
+ * Use {@link StreamingResponse} for large bodies that should not be buffered at all.
  */
 @Slf4j
 public class Response {
@@ -24,9 +34,30 @@ public class Response {
      */
     private final okhttp3.Response okHttpResponse;
     /**
-     * The response body as a string.
+     * The raw response body.
      */
-    private final String responseBody;
+    private final byte[] bodyBytes;
+    /**
+     * The charset declared by the response Content-Type, UTF-8 by default.
+     */
+    @Getter
+    private final Charset charset;
+    /**
+     * The response body as a string, decoded on first access.
+     */
+    private volatile String responseBody;
+    /**
+     * The parsed JSON tree, built only for pretty-printing; null if the body is not JSON.
+     */
+    private volatile JsonElement jsonTree;
+    /**
+     * Whether parsing of the JSON tree has been attempted.
+     */
+    private volatile boolean jsonTreeParsed;
+    /**
+     * The pretty-printed body, built on first access.
+     */
+    private volatile String prettyBody;
     /**
      * The ObjectMapper for JSON deserialization.
      */
@@ -52,8 +83,12 @@ public class Response {
 
         try (response) {
             // Read body and immediately close the response to prevent connection leaks
-            this.responseBody = response.body() != null ? response.body()
-                                                                  .string() : "";
+            var body = response.body();
+            this.bodyBytes = body != null ? body.bytes() : new byte[0];
+            this.charset = body != null && body.contentType() != null
+                    ? body.contentType()
+                          .charset(StandardCharsets.UTF_8)
+                    : StandardCharsets.UTF_8;
         } catch (IOException e) {
             throw new HttpClientException("Failed to read response body", e);
         }
@@ -76,7 +111,9 @@ public class Response {
     }
 
     /**
-     * Deserializes the response body to the given class type using Jackson.
+     * Deserializes the response body to the given class type,
+     * using Jackson for {@link io.xenoss.utils.json.JsonFastPath} types and Gson otherwise.
+     * The body is bound directly from its bytes; a JSON tree is reused only if it was already built for logging.
      *
      * @param clazz the target class
      * @param <T>   the type to deserialize to
@@ -84,14 +121,19 @@ public class Response {
      */
     public <T> T as(Class<T> clazz) {
         try {
-            if (responseBody == null || responseBody.trim()
-                                                    .isEmpty()) {
+            if (isEmpty()) {
                 return null;
             }
-            return SerializationUtils.fromJson(responseBody, clazz);
+            var tree = jsonTreeParsed ? jsonTree : null;
+            if (tree != null && !SerializationUtils.isFastPath(clazz)) {
+                return SerializationUtils.fromJson(tree, clazz);
+            }
+            return StandardCharsets.UTF_8.equals(charset)
+                    ? SerializationUtils.fromJson(bodyBytes, clazz)
+                    : SerializationUtils.fromJson(bodyReader(), clazz);
         } catch (Exception e) {
             throw new ResponseParsingException("Failed to deserialize response to " + clazz.getSimpleName() +
-                    ". Response body: " + responseBody, e);
+                    ". Response body: " + asString(), e);
         }
     }
 
@@ -104,14 +146,13 @@ public class Response {
      */
     public <T> T as(TypeReference<T> typeRef) {
         try {
-            if (responseBody == null || responseBody.trim()
-                                                    .isEmpty()) {
+            if (isEmpty()) {
                 return null;
             }
-            return objectMapper.readValue(responseBody, typeRef);
+            return objectMapper.readValue(bodyReader(), typeRef);
         } catch (IOException e) {
             throw new ResponseParsingException("Failed to deserialize response to " + typeRef.getType() +
-                    ". Response body: " + responseBody, e);
+                    ". Response body: " + asString(), e);
         }
     }
 
@@ -121,36 +162,88 @@ public class Response {
      * @return the response body string
      */
     public String asString() {
-        return responseBody != null ? responseBody : "";
+        var body = responseBody;
+        if (body == null) {
+            // Decoded once, so concurrent callers share one copy of a possibly large body
+            synchronized (this) {
+                body = responseBody;
+                if (body == null) {
+                    body = new String(bodyBytes, charset);
+                    responseBody = body;
+                }
+            }
+        }
+        return body;
     }
 
     /**
      * Returns the response body as a pretty-printed JSON string if possible.
      * If not valid JSON, returns the raw body.
+     * The result is derived from the shared JSON tree and computed once.
      *
      * @return the pretty-printed response body
      */
     public String asPrettyString() {
+        var pretty = prettyBody;
+        if (pretty == null) {
+            if (isEmpty()) {
+                pretty = "";
+            } else {
+                var tree = jsonTree();
+                pretty = tree != null ? SerializationUtils.toPrettyJson(tree) : asString();
+            }
+            prettyBody = pretty;
+        }
+        return pretty;
+    }
+
+    /**
+     * Returns the body parsed into a JSON tree, parsing it at most once.
+     * Bodies that do not start with '{' or '[' are not parsed at all.
+     *
+     * @return the JSON tree, or null if the body is not JSON
+     */
+    private JsonElement jsonTree() {
+        if (!jsonTreeParsed) {
+            // Parsing is idempotent, so a concurrent first access at worst parses twice
+            jsonTree = parseJsonTree();
+            jsonTreeParsed = true;
+        }
+        return jsonTree;
+    }
+
+    private JsonElement parseJsonTree() {
+        if (!startsLikeJson()) {
+            return null;
+        }
         try {
-            if (responseBody == null || responseBody.trim()
-                                                    .isEmpty()) {
-                return "";
+            return JsonParser.parseReader(bodyReader());
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    private boolean startsLikeJson() {
+        for (byte b : bodyBytes) {
+            if (!Character.isWhitespace(b)) {
+                return b == '{' || b == '[';
             }
-            Object json = objectMapper.readValue(responseBody, Object.class);
-            return objectMapper.writerWithDefaultPrettyPrinter()
-                               .writeValueAsString(json);
-        } catch (IOException e) {
-            return responseBody; // Return as-is if not valid JSON
         }
+        return false;
+    }
+
+    private Reader bodyReader() {
+        return new InputStreamReader(new ByteArrayInputStream(bodyBytes), charset);
     }
 
     /**
-     * Returns the response body as a byte array.
+     * Returns the raw response body bytes, exactly as received.
+     * The returned array is shared and must not be modified.
      *
      * @return the response body bytes
      */
     public byte[] asByteArray() {
-        return responseBody != null ? responseBody.getBytes() : new byte[0];
+        return bodyBytes;
     }
 
     /**
@@ -171,6 +264,16 @@ public class Response {
         return getStatusCode();
     }
 
+    /**
+     * Returns the protocol the response was received over, e.g. "http/1.1", "h2" or "h2_prior_knowledge".
+     *
+     * @return the protocol name
+     */
+    public String getProtocol() {
+        return okHttpResponse.protocol()
+                             .toString();
+    }
+
     /**
      * Returns the Content-Type header value, or text/plain if not present.
      *
@@ -207,8 +310,12 @@ public class Response {
      * @return true if empty, false otherwise
      */
     public boolean isEmpty() {
-        return responseBody == null || responseBody.trim()
-                                                   .isEmpty();
+        for (byte b : bodyBytes) {
+            if (!Character.isWhitespace(b)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
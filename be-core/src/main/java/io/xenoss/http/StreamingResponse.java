@@ -0,0 +1,273 @@
+package io.xenoss.http;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.xenoss.exceptions.HttpClientException;
+import io.xenoss.exceptions.ResponseParsingException;
+import io.xenoss.telemetry.TransferMetrics;
+import io.xenoss.utils.SerializationUtils;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wrapper for OkHttp response that leaves the body on the wire until it is consumed.
+ * <p>
+ * Unlike {@link Response}, nothing is buffered on construction: the body can be read once as a stream,
+ * deserialized directly from the source, or written to a file. Status and headers are available without
+ * touching the body.
+ * IMPORTANT: The connection is held until the body is consumed or {@link #close()} is called,
+ * so always use this class in try-with-resources.
+ */
+@Slf4j
+public class StreamingResponse implements Closeable {
+    /** Maximum number of bytes moved per {@link FileChannel#transferFrom} call. */
+    private static final long TRANSFER_CHUNK_BYTES = 64 * 1024;
+
+    /** The underlying OkHttp response object. */
+    private final okhttp3.Response okHttpResponse;
+    /** The ObjectMapper for JSON deserialization. */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a streaming wrapper. The response is closed by {@link #close()} or by the consuming methods.
+     *
+     * @param response     the OkHttp response
+     * @param objectMapper the ObjectMapper for deserialization
+     */
+    public StreamingResponse(okhttp3.Response response, ObjectMapper objectMapper) {
+        this.okHttpResponse = response;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the body as an input stream. The caller owns the stream; closing it releases the connection.
+     *
+     * @return the body stream
+     */
+    public InputStream asInputStream() {
+        return body().byteStream();
+    }
+
+    /**
+     * Returns the body as an Okio source. The caller owns the source; closing it releases the connection.
+     *
+     * @return the body source
+     */
+    public BufferedSource asSource() {
+        return body().source();
+    }
+
+    /**
+     * Reads the whole body into memory and closes the response.
+     *
+     * @return the body bytes
+     */
+    public byte[] asByteArray() {
+        try (this) {
+            return body().bytes();
+        } catch (IOException e) {
+            throw new HttpClientException("Failed to read response body", e);
+        }
+    }
+
+    /**
+     * Deserializes the body with Gson, reading directly from the source, and closes the response.
+     *
+     * @param clazz the target class
+     * @param <T>   the type to deserialize to
+     * @return the deserialized object, or null if the body is empty
+     */
+    public <T> T as(Class<T> clazz) {
+        try (this) {
+            return SerializationUtils.fromJson(body().charStream(), clazz);
+        } catch (Exception e) {
+            throw new ResponseParsingException("Failed to deserialize response to " + clazz.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Deserializes the body with Jackson, reading directly from the source, and closes the response.
+     *
+     * @param typeRef the target type reference
+     * @param <T>     the type to deserialize to
+     * @return the deserialized object
+     */
+    public <T> T as(TypeReference<T> typeRef) {
+        try (this) {
+            return objectMapper.readValue(body().byteStream(), typeRef);
+        } catch (IOException e) {
+            throw new ResponseParsingException("Failed to deserialize response to " + typeRef.getType(), e);
+        }
+    }
+
+    /**
+     * Streams the body into a file channel and closes the response.
+     * The file is created or truncated; at most 64 KB of the body are held in memory at a time.
+     *
+     * @param target the file to write
+     * @return the number of bytes written
+     */
+    public long writeTo(Path target) {
+        return writeTo(target, null).bytes();
+    }
+
+    /**
+     * Streams the body into a file channel, optionally computing a checksum on the fly, and closes the response.
+     * Without a checksum the bytes go straight from the socket source to the channel via
+     * {@link FileChannel#transferFrom}; with a checksum a single reusable 64 KB buffer is used.
+     * The transfer is reported to {@link TransferMetrics}.
+     *
+     * @param target          the file to write
+     * @param digestAlgorithm a {@link MessageDigest} algorithm such as "MD5" or "SHA-256", or null for none
+     * @return the download result
+     */
+    public DownloadResult writeTo(Path target, String digestAlgorithm) {
+        long start = System.nanoTime();
+        try (this;
+             FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            BufferedSource source = body().source();
+            long bytes;
+            String checksum = null;
+
+            if (digestAlgorithm == null) {
+                bytes = transfer(source, channel);
+            } else {
+                MessageDigest digest = MessageDigest.getInstance(digestAlgorithm);
+                bytes = transfer(source, channel, digest);
+                checksum = HexFormat.of()
+                                    .formatHex(digest.digest());
+            }
+
+            long duration = System.nanoTime() - start;
+            TransferMetrics.onDownloaded(bytes, duration);
+            return new DownloadResult(target, bytes, duration, checksum);
+        } catch (IOException e) {
+            throw new HttpClientException(String.format("Failed to write response body to %s", target), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new HttpClientException(String.format("Unsupported digest algorithm: %s", digestAlgorithm), e);
+        }
+    }
+
+    private static long transfer(BufferedSource source, FileChannel channel) throws IOException {
+        long position = 0;
+        long transferred;
+        while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_BYTES)) > 0) {
+            position += transferred;
+        }
+        return position;
+    }
+
+    private static long transfer(BufferedSource source, FileChannel channel, MessageDigest digest)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) TRANSFER_CHUNK_BYTES);
+        long total = 0;
+        while (source.read(buffer) != -1) {
+            buffer.flip();
+            digest.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            while (buffer.hasRemaining()) {
+                total += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the HTTP status code of the response.
+     *
+     * @return the status code
+     */
+    public int getStatusCode() {
+        return okHttpResponse.code();
+    }
+
+    /**
+     * Returns the HTTP status code of the response (alias).
+     *
+     * @return the status code
+     */
+    public int statusCode() {
+        return getStatusCode();
+    }
+
+    /**
+     * Returns the protocol the response was received over, e.g. "http/1.1", "h2" or "h2_prior_knowledge".
+     *
+     * @return the protocol name
+     */
+    public String getProtocol() {
+        return okHttpResponse.protocol()
+                             .toString();
+    }
+
+    /**
+     * Returns the Content-Type header value, or text/plain if not present.
+     *
+     * @return the content type string
+     */
+    public String contentType() {
+        String contentType = okHttpResponse.header("Content-Type");
+        return contentType != null ? contentType : "text/plain";
+    }
+
+    /**
+     * Returns the declared body length, or -1 if unknown (e.g. chunked encoding).
+     *
+     * @return the content length
+     */
+    public long contentLength() {
+        var body = okHttpResponse.body();
+        return body != null ? body.contentLength() : -1;
+    }
+
+    /**
+     * Returns the value of the specified header, or null if not present.
+     *
+     * @param name the header name
+     * @return the header value, or null
+     */
+    public String getHeader(String name) {
+        return okHttpResponse.header(name);
+    }
+
+    /**
+     * Returns all headers as a map of list of strings.
+     *
+     * @return the headers map
+     */
+    public Map<String, List<String>> headers() {
+        return okHttpResponse.headers()
+                             .toMultimap();
+    }
+
+    /**
+     * Releases the connection. Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        okHttpResponse.close();
+    }
+
+    private ResponseBody body() {
+        var body = okHttpResponse.body();
+        if (body == null) {
+            throw new HttpClientException("Response has no body");
+        }
+        return body;
+    }
+}
@@ -0,0 +1,126 @@
+package io.xenoss.http.cassette;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Read-only view of a memory-mapped cassette, shared by all threads.
+ * <p>
+ * The index is an open-addressing table from record key to file offset, built once by hopping over the record
+ * headers. Lookups allocate nothing until a record is found, and records are decoded straight from the mapping,
+ * so the operating system page cache is the only copy of the cassette in memory.
+ */
+final class CassetteIndex {
+    private static final int EMPTY = 0;
+
+    private final ByteBuffer cassette;
+    private final long[] keys;
+    private final int[] offsets;
+    private final int mask;
+    private final int size;
+
+    private CassetteIndex(ByteBuffer cassette, long[] keys, int[] offsets, int size) {
+        this.cassette = cassette;
+        this.keys = keys;
+        this.offsets = offsets;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    /**
+     * Maps the cassette and indexes its records. A record cut short, e.g. by an interrupted recording, ends it.
+     *
+     * @param file the cassette file
+     * @return the index
+     */
+    static CassetteIndex open(Path file) throws IOException {
+        ByteBuffer cassette;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(String.format("Cassette %s is larger than 2 GB", file));
+            }
+            // The mapping stays valid after the channel is closed
+            cassette = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (cassette.limit() < CassetteRecord.FILE_HEADER_BYTES
+                || cassette.getInt(0) != CassetteRecord.MAGIC
+                || cassette.getInt(Integer.BYTES) != CassetteRecord.VERSION) {
+            throw new IOException(String.format("%s is not a cassette of version %d", file,
+                    CassetteRecord.VERSION));
+        }
+
+        var recordOffsets = new int[64];
+        int count = 0;
+        int offset = CassetteRecord.FILE_HEADER_BYTES;
+        while (offset + CassetteRecord.RECORD_HEADER_BYTES <= cassette.limit()) {
+            long next = (long) offset + CassetteRecord.RECORD_HEADER_BYTES + cassette.getInt(offset + Long.BYTES);
+            if (next > cassette.limit()) {
+                break;
+            }
+            if (count == recordOffsets.length) {
+                recordOffsets = Arrays.copyOf(recordOffsets, count * 2);
+            }
+            recordOffsets[count++] = offset;
+            offset = (int) next;
+        }
+
+        // At most half full, so probe sequences stay short
+        int capacity = Integer.highestOneBit(Math.max(count, 1) * 2 - 1) * 2;
+        var keys = new long[capacity];
+        var offsets = new int[capacity];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            long key = cassette.getLong(recordOffsets[i]);
+            int slot = slot(key, capacity - 1);
+            while (offsets[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            // The first recording of a key wins, as it does for the writer
+            if (offsets[slot] == EMPTY) {
+                keys[slot] = key;
+                offsets[slot] = recordOffsets[i];
+                size++;
+            }
+        }
+        return new CassetteIndex(cassette, keys, offsets, size);
+    }
+
+    /**
+     * Finds the record of a request.
+     *
+     * @param key the key of the request
+     * @param method the HTTP method
+     * @param url the full request URL
+     * @return the record, or null if the request was not recorded
+     */
+    CassetteRecord find(long key, String method, String url) {
+        int slot = slot(key, mask);
+        while (offsets[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                var record = CassetteRecord.decode(cassette, offsets[slot]);
+                // A different request with a colliding key is not a match
+                return record.method()
+                             .equals(method) && record.url()
+                                                      .equals(url) ? record : null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of recorded requests
+     */
+    int size() {
+        return size;
+    }
+
+    private static int slot(long key, int mask) {
+        // Keys are already hashes, folding the halves is enough to use all their bits
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,231 @@
+package io.xenoss.http.cassette;
+
+import io.xenoss.config.ConfigurationManager;
+import io.xenoss.config.HttpCassetteMode;
+import io.xenoss.exceptions.ConfigurationException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records HTTP exchanges to a cassette file or replays them from it.
+ * <p>
+ * Requests are identified by a {@link CassetteKey}, a hash of the method, the full URL and by default the request
+ * body as sent. In record mode the first response to each distinct request is buffered and appended to the
+ * cassette. In replay mode the cassette is memory-mapped and indexed once, and every request is answered from it
+ * without any network I/O; requests that were not recorded fail with an {@link IOException}. One instance is shared
+ * by all clients and threads; closing it closes the cassette being recorded.
+ * <p>
+ * Bodies that carry generated values, such as the random {@code ${uuid}} ids of bid requests built from templates,
+ * never match a recording when the exact body is hashed. Such suites record and replay with a key that ignores the
+ * body or the listed JSON fields ({@code httpCassetteKey}, {@code httpCassetteIgnoredFields}).
+ */
+@Slf4j
+public final class CassetteInterceptor implements Interceptor, Closeable {
+    @Getter
+    private final HttpCassetteMode mode;
+    private final Path file;
+    private final CassetteKey key;
+    private final CassetteWriter writer;
+    private final CassetteIndex index;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private CassetteInterceptor(HttpCassetteMode mode, Path file, CassetteKey key, CassetteWriter writer,
+                                CassetteIndex index) {
+        this.mode = mode;
+        this.file = file;
+        this.key = key;
+        this.writer = writer;
+        this.index = index;
+    }
+
+    /**
+     * Creates an interceptor that records to a new cassette, replacing an existing one, keyed by the exact body.
+     *
+     * @param file the cassette file
+     * @return the interceptor
+     */
+    public static CassetteInterceptor record(Path file) throws IOException {
+        return record(file, CassetteKey.EXACT);
+    }
+
+    /**
+     * Creates an interceptor that records to a new cassette, replacing an existing one.
+     *
+     * @param file the cassette file
+     * @param key how requests are identified; replaying the cassette needs the same key
+     * @return the interceptor
+     */
+    public static CassetteInterceptor record(Path file, CassetteKey key) throws IOException {
+        log.info("Recording HTTP exchanges to cassette {}", file.toAbsolutePath());
+        return new CassetteInterceptor(HttpCassetteMode.RECORD, file, key, new CassetteWriter(file), null);
+    }
+
+    /**
+     * Creates an interceptor that answers requests from an existing cassette keyed by the exact body.
+     *
+     * @param file the cassette file
+     * @return the interceptor
+     */
+    public static CassetteInterceptor replay(Path file) throws IOException {
+        return replay(file, CassetteKey.EXACT);
+    }
+
+    /**
+     * Creates an interceptor that answers requests from an existing cassette.
+     *
+     * @param file the cassette file
+     * @param key how requests are identified, as when the cassette was recorded
+     * @return the interceptor
+     */
+    public static CassetteInterceptor replay(Path file, CassetteKey key) throws IOException {
+        var index = CassetteIndex.open(file);
+        log.info("Replaying {} HTTP exchanges from cassette {}", index.size(), file.toAbsolutePath());
+        return new CassetteInterceptor(HttpCassetteMode.REPLAY, file, key, null, index);
+    }
+
+    /**
+     * Returns the interceptor configured by {@code httpCassetteMode}, {@code httpCassetteFile}, {@code httpCassetteKey}
+     * and {@code httpCassetteIgnoredFields}. A recording interceptor lives as long as the JVM, so its cassette is
+     * closed by a shutdown hook.
+     *
+     * @return the interceptor, or null if the mode is off
+     */
+    public static CassetteInterceptor fromConfig() {
+        var config = ConfigurationManager.getConfig();
+        var file = Path.of(config.getHttpCassetteFile());
+        var key = CassetteKey.of(config.getHttpCassetteKey(), config.getHttpCassetteIgnoredFields());
+        try {
+            return switch (config.getHttpCassetteMode()) {
+                case OFF -> null;
+                case RECORD -> {
+                    var interceptor = record(file, key);
+                    Runtime.getRuntime()
+                           .addShutdownHook(new Thread(interceptor::closeQuietly, "CassetteShutdownHook"));
+                    yield interceptor;
+                }
+                case REPLAY -> replay(file, key);
+            };
+        } catch (IOException e) {
+            throw new ConfigurationException(String.format("Cannot open HTTP cassette %s", file.toAbsolutePath()),
+                    e);
+        }
+    }
+
+    @Override
+    public @NotNull Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        long hash = key.hash(request);
+        return index != null
+                ? replay(request, hash)
+                : record(chain.proceed(request), hash);
+    }
+
+    /**
+     * Formats the cassette statistics for the telemetry dashboard.
+     *
+     * @return metrics keyed by display name
+     */
+    public Map<String, String> getMetrics() {
+        return Map.of("📼 HTTP Cassette", mode == HttpCassetteMode.REPLAY
+                ? String.format("replaying, hits=%d, misses=%d", hits.sum(), misses.sum())
+                : String.format("recording, recorded=%d, failed=%d", recorded.sum(), failed.sum()));
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Closes the cassette being recorded; exchanges completing afterwards are counted as failed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            log.warn("Failed to close HTTP cassette {}", file, e);
+        }
+    }
+
+    private Response replay(Request request, long key) throws IOException {
+        var url = request.url()
+                         .toString();
+        var record = index.find(key, request.method(), url);
+        if (record == null) {
+            misses.increment();
+            throw new IOException(String.format("No response to %s %s is recorded in cassette %s",
+                    request.method(), url, file));
+        }
+        hits.increment();
+
+        long now = System.currentTimeMillis();
+        var contentType = record.headers()
+                                .get("Content-Type");
+        return new Response.Builder().request(request)
+                                     .protocol(Protocol.HTTP_1_1)
+                                     .code(record.status())
+                                     .message(record.message())
+                                     .headers(record.headers())
+                                     .body(ResponseBody.create(record.body(),
+                                             contentType == null ? null : MediaType.parse(contentType)))
+                                     .sentRequestAtMillis(now)
+                                     .receivedResponseAtMillis(now)
+                                     .build();
+    }
+
+    private Response record(Response response, long key) throws IOException {
+        var responseBody = response.body();
+        if (writer.contains(key) || responseBody == null) {
+            return response;
+        }
+
+        // The body can be read only once, so the client gets a copy of the buffered bytes
+        var contentType = responseBody.contentType();
+        var body = responseBody.bytes();
+        var request = response.request();
+        try {
+            if (writer.append(new CassetteRecord(key, request.method(), request.url()
+                                                                              .toString(), response.code(),
+                    response.message(), response.headers(), body))) {
+                recorded.increment();
+            }
+        } catch (IOException e) {
+            // The exchange itself succeeded, only the cassette is incomplete
+            if (failed.sum() == 0) {
+                log.warn("Failed to record HTTP exchange to cassette {}, further failures are only counted", file,
+                        e);
+            }
+            failed.increment();
+        }
+        return response.newBuilder()
+                       .body(ResponseBody.create(body, contentType))
+                       .build();
+    }
+}
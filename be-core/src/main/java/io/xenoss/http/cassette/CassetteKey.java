@@ -0,0 +1,125 @@
+package io.xenoss.http.cassette;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.xenoss.config.HttpCassetteKeyMode;
+import io.xenoss.http.GzipCodec;
+import io.xenoss.http.GzipRequestBody;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Identifies a request in a cassette by a 64-bit FNV-1a hash of the method, the URL and, depending on the
+ * {@link HttpCassetteKeyMode}, the body.
+ * <p>
+ * The body is hashed from the bytes the request already holds: a {@link GzipRequestBody} is hashed before it is
+ * compressed, so a recorded client does not compress every body twice. With
+ * {@link HttpCassetteKeyMode#IGNORE_FIELDS} the body is parsed as JSON and the ignored fields are removed first. A
+ * field is a dotted path such as {@code imp.id}; arrays along the path apply it to each of their elements. Bodies
+ * that are not JSON are hashed as sent.
+ */
+public final class CassetteKey {
+    /** Hashes the method, the URL and the body as sent. */
+    public static final CassetteKey EXACT = new CassetteKey(HttpCassetteKeyMode.BODY, List.of());
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpCassetteKeyMode mode;
+    private final List<String[]> ignoredFields;
+
+    private CassetteKey(HttpCassetteKeyMode mode, List<String> ignoredFields) {
+        this.mode = mode;
+        this.ignoredFields = ignoredFields.stream()
+                                          .map(field -> field.split("\\."))
+                                          .toList();
+    }
+
+    /**
+     * @param mode which part of the body identifies a request
+     * @param ignoredFields the JSON fields left out of the key in {@link HttpCassetteKeyMode#IGNORE_FIELDS} mode
+     * @return the key
+     */
+    public static CassetteKey of(HttpCassetteKeyMode mode, List<String> ignoredFields) {
+        return new CassetteKey(mode, ignoredFields);
+    }
+
+    /**
+     * @param request the request
+     * @return the key of the request
+     */
+    public long hash(Request request) throws IOException {
+        long hash = hash(FNV_OFFSET_BASIS, request.method()
+                                                  .getBytes(StandardCharsets.UTF_8));
+        hash = hash(hash, request.url()
+                                 .toString()
+                                 .getBytes(StandardCharsets.UTF_8));
+        var body = request.body();
+        // A one-shot body would be consumed by hashing it
+        if (body == null || body.isOneShot() || mode == HttpCassetteKeyMode.IGNORE_BODY) {
+            return hash;
+        }
+        var content = content(body);
+        return hash(hash, mode == HttpCassetteKeyMode.IGNORE_FIELDS
+                ? withoutIgnoredFields(content)
+                : content);
+    }
+
+    private static byte[] content(RequestBody body) throws IOException {
+        if (body instanceof GzipRequestBody gzip) {
+            return gzip.getContent();
+        }
+        var buffer = new Buffer();
+        body.writeTo(buffer);
+        return buffer.readByteArray();
+    }
+
+    private byte[] withoutIgnoredFields(byte[] body) throws IOException {
+        // Bodies compressed up front are inflated to get at their fields
+        var content = body.length > 1 && body[0] == (byte) 0x1f && body[1] == (byte) 0x8b
+                ? GzipCodec.decompress(body)
+                : body;
+        JsonNode root;
+        try {
+            root = JSON.readTree(content);
+        } catch (IOException e) {
+            return body;
+        }
+        if (!root.isContainerNode()) {
+            return body;
+        }
+        for (var path : ignoredFields) {
+            remove(root, path, 0);
+        }
+        return JSON.writeValueAsBytes(root);
+    }
+
+    private static void remove(JsonNode node, String[] path, int depth) {
+        if (node.isArray()) {
+            for (var element : node) {
+                remove(element, path, depth);
+            }
+        } else if (node instanceof ObjectNode object) {
+            if (depth == path.length - 1) {
+                object.remove(path[depth]);
+            } else if (object.has(path[depth])) {
+                remove(object.get(path[depth]), path, depth + 1);
+            }
+        }
+    }
+
+    private static long hash(long hash, byte[] bytes) {
+        for (byte b : bytes) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+        // Separates the fields, so "GET" + "/a" and "GE" + "T/a" differ
+        return (hash ^ 0xff) * FNV_PRIME;
+    }
+}
@@ -0,0 +1,94 @@
+package io.xenoss.http.cassette;
+
+import okhttp3.Headers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One recorded exchange and its binary layout in a cassette file.
+ * <p>
+ * A cassette starts with {@link #MAGIC} and {@link #VERSION}, followed by records. Every record starts with its
+ * key and the length of the rest, so an index can be built by hopping from record to record without decoding
+ * them. Numbers are big-endian, strings are a length followed by UTF-8 bytes.
+ *
+ * @param key hash of the method, URL and request body
+ * @param method the HTTP method, to tell hash collisions apart
+ * @param url the full request URL, to tell hash collisions apart
+ * @param status the response status
+ * @param message the response status message
+ * @param headers the response headers
+ * @param body the response body as received by the client
+ */
+record CassetteRecord(long key, String method, String url, int status, String message, Headers headers,
+                      byte[] body) {
+    static final int MAGIC = 0x58434153;
+    static final int VERSION = 1;
+    static final int FILE_HEADER_BYTES = 2 * Integer.BYTES;
+    static final int RECORD_HEADER_BYTES = Long.BYTES + Integer.BYTES;
+
+    /**
+     * @return the record with its key and length prefix, ready to be appended
+     */
+    byte[] encode() throws IOException {
+        var payload = new ByteArrayOutputStream(body.length + 256);
+        var out = new DataOutputStream(payload);
+        writeString(out, method);
+        writeString(out, url);
+        out.writeInt(status);
+        writeString(out, message);
+        out.writeInt(headers.size());
+        for (int i = 0; i < headers.size(); i++) {
+            writeString(out, headers.name(i));
+            writeString(out, headers.value(i));
+        }
+        out.writeInt(body.length);
+        out.write(body);
+
+        var record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.size());
+        record.putLong(key)
+              .putInt(payload.size())
+              .put(payload.toByteArray());
+        return record.array();
+    }
+
+    /**
+     * Decodes the record at the given offset. Only absolute reads are made on the cassette, so it can be shared.
+     *
+     * @param cassette the mapped cassette
+     * @param offset where the record starts
+     * @return the record
+     */
+    static CassetteRecord decode(ByteBuffer cassette, int offset) {
+        long key = cassette.getLong(offset);
+        int length = cassette.getInt(offset + Long.BYTES);
+        // The slice has its own position, so relative reads don't affect other threads
+        var in = cassette.slice(offset + RECORD_HEADER_BYTES, length);
+        var method = readString(in);
+        var url = readString(in);
+        int status = in.getInt();
+        var message = readString(in);
+        var headers = new Headers.Builder();
+        for (int i = in.getInt(); i > 0; i--) {
+            headers.addUnsafeNonAscii(readString(in), readString(in));
+        }
+        var body = new byte[in.getInt()];
+        in.get(body);
+        return new CassetteRecord(key, method, url, status, message, headers.build(), body);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        var bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,72 @@
+package io.xenoss.http.cassette;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Appends records to a new cassette file, keeping only the first record of each key.
+ */
+final class CassetteWriter implements Closeable {
+    private final FileChannel channel;
+    private final Set<Long> recordedKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates the cassette, replacing an existing one.
+     *
+     * @param file the cassette file
+     */
+    CassetteWriter(Path file) throws IOException {
+        var parent = file.toAbsolutePath()
+                         .getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        write(ByteBuffer.allocate(CassetteRecord.FILE_HEADER_BYTES)
+                        .putInt(CassetteRecord.MAGIC)
+                        .putInt(CassetteRecord.VERSION)
+                        .flip());
+    }
+
+    /**
+     * @param key the key of a request
+     * @return whether a record with this key is already stored or being stored
+     */
+    boolean contains(long key) {
+        return recordedKeys.contains(key);
+    }
+
+    /**
+     * Appends the record unless one with the same key was appended before.
+     *
+     * @param record the record
+     * @return whether the record was appended
+     */
+    boolean append(CassetteRecord record) throws IOException {
+        if (!recordedKeys.add(record.key())) {
+            return false;
+        }
+        write(ByteBuffer.wrap(record.encode()));
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private synchronized void write(ByteBuffer buffer) throws IOException {
+        // Records of concurrent calls must not interleave
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
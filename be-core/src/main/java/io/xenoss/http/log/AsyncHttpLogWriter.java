@@ -0,0 +1,325 @@
+package io.xenoss.http.log;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.xenoss.config.HttpLogOverflow;
+import io.xenoss.utils.FileUtils;
+import io.xenoss.utils.WaitUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background writer of HTTP request/response logs.
+ * <p>
+ * Client threads only put an immutable {@link HttpLogEntry} on a bounded lock-free queue and print nothing. A single
+ * writer thread drains it in batches and appends every entry as one JSON line, with the body cut at
+ * {@link HttpLogEntry#BODY_LIMIT}, to {@code http-log-NNN.ndjson} files rotated at 64 MB. With debug logging it also
+ * prints a one-line summary per entry. When the writer falls behind, new entries are dropped or sampled according
+ * to {@link HttpLogOverflow} and counted, so logging never blocks the clients.
+ */
+@Slf4j
+public final class AsyncHttpLogWriter implements Closeable {
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final int SAMPLE_RATE = 10;
+    private static final long MAX_FILE_CHARS = 64L * 1024 * 1024;
+    // URLs and bodies stay readable in the files
+    private static final Gson NDJSON = new GsonBuilder().disableHtmlEscaping()
+                                                        .create();
+
+    private final Path directory;
+    private final int capacity;
+    private final HttpLogOverflow overflow;
+    private final long maxFileChars;
+
+    private final Queue<HttpLogEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong processed = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    // Owned by the writer thread
+    private Writer out;
+    private Path currentFile;
+    private int fileIndex;
+    private long fileChars;
+
+    /**
+     * Starts the writer thread.
+     *
+     * @param directory where the NDJSON files are created
+     * @param capacity maximum number of queued entries
+     * @param overflow what to do with new entries once the queue fills up
+     */
+    public AsyncHttpLogWriter(Path directory, int capacity, HttpLogOverflow overflow) {
+        this(directory, capacity, overflow, MAX_FILE_CHARS);
+    }
+
+    /**
+     * Starts the writer thread.
+     *
+     * @param directory where the NDJSON files are created
+     * @param capacity maximum number of queued entries
+     * @param overflow what to do with new entries once the queue fills up
+     * @param maxFileChars size at which the NDJSON file is rotated
+     */
+    public AsyncHttpLogWriter(Path directory, int capacity, HttpLogOverflow overflow, long maxFileChars) {
+        this.directory = directory;
+        this.capacity = capacity;
+        this.overflow = overflow;
+        this.maxFileChars = maxFileChars;
+        this.writerThread = new Thread(this::drainLoop, "HttpLogWriter");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Queues an entry without blocking.
+     *
+     * @param entry the captured request or response
+     * @return false if the entry was dropped or sampled out
+     */
+    public boolean offer(HttpLogEntry entry) {
+        int queued = depth.incrementAndGet();
+        if (queued > capacity || !running) {
+            depth.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        if (overflow == HttpLogOverflow.SAMPLE && queued > capacity / 2
+                && ThreadLocalRandom.current()
+                                    .nextInt(SAMPLE_RATE) != 0) {
+            depth.decrementAndGet();
+            sampledOut.increment();
+            return false;
+        }
+
+        accepted.increment();
+        queue.offer(entry);
+        if (queued % BATCH_SIZE == 0) {
+            // A full batch is waiting, don't let the writer sleep through it
+            LockSupport.unpark(writerThread);
+        }
+        return true;
+    }
+
+    /**
+     * Waits until every entry accepted so far is written.
+     *
+     * @param timeout how long to wait
+     * @return true if everything was written in time
+     */
+    public boolean flush(Duration timeout) {
+        long target = accepted.sum();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (processed.get() < target) {
+            if (System.nanoTime() >= deadline || !writerThread.isAlive()) {
+                return false;
+            }
+            LockSupport.unpark(writerThread);
+            WaitUtils.forMilliseconds(10);
+        }
+        return true;
+    }
+
+    /**
+     * Formats the writer statistics for the telemetry dashboard.
+     *
+     * @return metrics keyed by display name
+     */
+    public Map<String, String> getMetrics() {
+        return Map.of("📝 HTTP Log", String.format("written=%d, queued=%d, dropped=%d, sampledOut=%d, failed=%d",
+                processed.get() - failed.sum(), depth.get(), dropped.sum(), sampledOut.sum(), failed.sum()));
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getSampledOut() {
+        return sampledOut.sum();
+    }
+
+    /**
+     * Writes the queued entries and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        // The depth is raised before an entry is queued, so keep draining until it settles at zero
+        while (running || depth.get() > 0) {
+            if (drainBatch() == 0) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        closeFile();
+    }
+
+    private int drainBatch() {
+        int count = 0;
+        HttpLogEntry entry;
+        while (count < BATCH_SIZE && (entry = queue.poll()) != null) {
+            depth.decrementAndGet();
+            count++;
+            try {
+                write(entry);
+            } catch (Exception e) {
+                if (failed.sum() == 0) {
+                    log.warn("Failed to write HTTP log entry, further failures are only counted", e);
+                }
+                failed.increment();
+            } finally {
+                processed.incrementAndGet();
+            }
+        }
+
+        if (count > 0 && out != null) {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                log.warn("Failed to flush HTTP log file {}", currentFile, e);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Describes an entry in one line, without its body.
+     */
+    private static String summary(HttpLogEntry entry) {
+        return switch (entry) {
+            case HttpLogEntry.RequestSent request -> request.body() == null
+                    ? String.format("#%d Sending %s to %s", request.exchangeId(), request.method(),
+                            HttpLogFormatter.withParams(request.url(), request.params()))
+                    : String.format("#%d Sending %s to %s with %d characters of %sbody", request.exchangeId(),
+                            request.method(), HttpLogFormatter.withParams(request.url(), request.params()),
+                            request.body()
+                                   .length(), request.gzip() ? "gzipped " : "");
+            case HttpLogEntry.ResponseReceived received -> {
+                var response = received.response();
+                yield String.format("#%d Response status: %d, %d bytes of type \"%s\"", received.exchangeId(),
+                        response.status(), response.bytes(), response.mediaType());
+            }
+        };
+    }
+
+    private void write(HttpLogEntry entry) throws IOException {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("exchangeId", entry.exchangeId());
+        record.put("timestamp", entry.timestampMillis());
+        record.put("thread", entry.thread());
+        switch (entry) {
+            case HttpLogEntry.RequestSent request -> writeRequest(record, request);
+            case HttpLogEntry.ResponseReceived received -> writeResponse(record, received);
+        }
+        append(NDJSON.toJson(record));
+        if (log.isDebugEnabled()) {
+            log.debug(summary(entry));
+        }
+    }
+
+    private static void writeRequest(Map<String, Object> record, HttpLogEntry.RequestSent request) {
+        // Repeated headers keep all their values
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        request.headers()
+               .forEach(header -> headers.computeIfAbsent(header.getName(), name -> new ArrayList<>())
+                                         .add(header.getValue()));
+        record.put("type", "request");
+        record.put("method", request.method());
+        record.put("url", HttpLogFormatter.withParams(request.url(), request.params()));
+        record.put("headers", headers);
+        record.put("gzip", request.gzip());
+        var body = request.body();
+        if (body != null && body.length() > HttpLogEntry.BODY_LIMIT) {
+            record.put("bodyChars", body.length());
+            record.put("truncated", true);
+            body = body.substring(0, HttpLogEntry.BODY_LIMIT);
+        }
+        record.put("body", body);
+    }
+
+    private static void writeResponse(Map<String, Object> record, HttpLogEntry.ResponseReceived received) {
+        var response = received.response();
+        var contentType = response.mediaType();
+        // Repeated headers keep all their values
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        response.headers()
+                .forEach(header -> headers.computeIfAbsent(header.getName(), name -> new ArrayList<>())
+                                          .add(header.getValue()));
+        record.put("type", "response");
+        record.put("status", response.status());
+        record.put("headers", headers);
+        record.put("contentType", contentType);
+        record.put("bytes", response.bytes());
+        if (response.isTruncated()) {
+            record.put("truncated", true);
+        }
+        record.put("body", response.isEmpty() || !HttpLogFormatter.isPrintable(contentType)
+                ? null : response.bodyAsString());
+    }
+
+    /**
+     * Appends a line to the current file, rotating it when it is full.
+     */
+    private void append(String json) throws IOException {
+        if (out == null || fileChars >= maxFileChars) {
+            rotate();
+        }
+        out.write(json);
+        out.write('\n');
+        fileChars += json.length() + 1;
+    }
+
+    private void rotate() throws IOException {
+        closeFile();
+        Files.createDirectories(directory);
+        currentFile = directory.resolve(String.format("http-log-%03d.ndjson", fileIndex++));
+        out = Files.newBufferedWriter(currentFile, StandardCharsets.UTF_8);
+        fileChars = 0;
+        log.info("HTTP log is stored to file:\n{}", FileUtils.toAbsolutePart(currentFile.toString()));
+    }
+
+    private void closeFile() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                log.warn("Failed to close HTTP log file {}", currentFile, e);
+            }
+            out = null;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.xenoss.http.log;
+
+import io.xenoss.http.Headers;
+import io.xenoss.http.Response;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Immutable capture of a buffered response for logging.
+ * <p>
+ * Only the status, the headers and the raw body bytes are kept, never the decoded body or the JSON tree the
+ * {@link Response} may have built. The headers and, unless it has to be truncated, the body are shared with the
+ * response rather than copied, so capturing formats and decodes nothing.
+ *
+ * @param status the response status
+ * @param headers the response headers
+ * @param contentType the Content-Type header, {@code text/plain} if there is none
+ * @param charset the charset of the body
+ * @param body the body, or only its beginning if it is longer than the limit of the capture
+ * @param bytes the length of the full body
+ */
+public record CapturedResponse(int status, Headers headers, String contentType, Charset charset, byte[] body,
+                               int bytes) {
+
+    /**
+     * Captures a response.
+     *
+     * @param response the response
+     * @param bodyLimit maximum number of body bytes to keep
+     * @return the capture
+     */
+    public static CapturedResponse of(Response response, int bodyLimit) {
+        byte[] all = response.asByteArray();
+        byte[] body = all.length <= bodyLimit ? all : Arrays.copyOf(all, bodyLimit);
+        return new CapturedResponse(response.getStatusCode(), response.getHeaders(), response.contentType(),
+                response.getCharset(), body, all.length);
+    }
+
+    /**
+     * @return the media type without parameters such as the charset
+     */
+    public String mediaType() {
+        return contentType.split(";")[0];
+    }
+
+    /**
+     * @return whether only the beginning of the body is kept
+     */
+    public boolean isTruncated() {
+        return body.length < bytes;
+    }
+
+    /**
+     * @return whether the body is empty or blank
+     */
+    public boolean isEmpty() {
+        for (byte b : body) {
+            if (!Character.isWhitespace(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the kept body decoded with its charset
+     */
+    public String bodyAsString() {
+        return new String(body, charset);
+    }
+}
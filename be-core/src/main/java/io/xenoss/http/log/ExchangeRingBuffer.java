@@ -0,0 +1,70 @@
+package io.xenoss.http.log;
+
+import io.xenoss.config.ConfigurationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fixed-size buffer of the latest exchanges of a test thread, overwriting the oldest once full.
+ * <p>
+ * Every exchange is recorded, even by silent clients, so a failed test can be debugged without logging anything
+ * while it passes. Recording allocates two small records and formats nothing. An exchange may be recorded by the
+ * thread completing an asynchronous request, hence the (practically uncontended) synchronization.
+ */
+public final class ExchangeRingBuffer {
+    private static final int CAPACITY = ConfigurationManager.getConfig()
+                                                            .getHttpLogBufferSize();
+    private static final ThreadLocal<ExchangeRingBuffer> current =
+            ThreadLocal.withInitial(() -> new ExchangeRingBuffer(CAPACITY));
+
+    private final RecordedExchange[] entries;
+    private int next;
+    private int size;
+
+    /**
+     * @param capacity the number of entries kept
+     */
+    public ExchangeRingBuffer(int capacity) {
+        this.entries = new RecordedExchange[capacity];
+    }
+
+    /**
+     * @return the buffer of the calling thread, sized by {@code httpLogBufferSize}
+     */
+    public static ExchangeRingBuffer current() {
+        return current.get();
+    }
+
+    /**
+     * Removes the buffer of the calling thread, e.g. when a pooled thread is returned.
+     */
+    public static void removeCurrent() {
+        current.remove();
+    }
+
+    public synchronized void add(RecordedExchange exchange) {
+        entries[next] = exchange;
+        next = (next + 1) % entries.length;
+        size = Math.min(size + 1, entries.length);
+    }
+
+    /**
+     * @return the buffered exchanges, oldest first
+     */
+    public synchronized List<RecordedExchange> snapshot() {
+        List<RecordedExchange> exchanges = new ArrayList<>(size);
+        int start = (next - size + entries.length) % entries.length;
+        for (int i = 0; i < size; i++) {
+            exchanges.add(entries[(start + i) % entries.length]);
+        }
+        return exchanges;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        next = 0;
+        size = 0;
+    }
+}
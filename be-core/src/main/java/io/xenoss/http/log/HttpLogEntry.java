@@ -0,0 +1,75 @@
+package io.xenoss.http.log;
+
+import io.xenoss.http.Header;
+import io.xenoss.http.Response;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable capture of a logged request or response, cheap to create on the calling thread.
+ * Nothing is formatted until the {@link AsyncHttpLogWriter} writes the entry.
+ */
+public sealed interface HttpLogEntry {
+    /**
+     * Maximum number of body bytes or characters written to the log.
+     */
+    int BODY_LIMIT = 64 * 1024;
+
+    /**
+     * @return the id shared by the request and the response of one exchange
+     */
+    long exchangeId();
+
+    long timestampMillis();
+
+    String thread();
+
+    /**
+     * Captures a request about to be sent.
+     *
+     * @param exchangeId the id of the exchange, repeated on its response
+     * @param method the HTTP method
+     * @param url the request URL without query parameters
+     * @param params query parameters, values are strings or arrays; may be null
+     * @param headers the request headers
+     * @param body the request body as sent, before compression; may be null
+     * @param gzip whether the body is sent gzipped
+     * @return the entry
+     */
+    static RequestSent request(long exchangeId, String method, String url, Map<String, ?> params,
+                               List<Header> headers, String body, boolean gzip) {
+        // Values may be null, which Map.copyOf rejects
+        Map<String, ?> paramsCopy = params == null || params.isEmpty()
+                ? Map.of()
+                : Collections.unmodifiableMap(new LinkedHashMap<>(params));
+        return new RequestSent(exchangeId, System.currentTimeMillis(), Thread.currentThread()
+                                                                             .getName(), method, url, paramsCopy,
+                List.copyOf(headers), body, gzip);
+    }
+
+    /**
+     * Captures a received response. The body is already buffered in the response, so it is only copied if it is
+     * longer than {@link #BODY_LIMIT} and has to be cut.
+     *
+     * @param exchangeId the id of the exchange, as on its request
+     * @param response the response
+     * @return the entry
+     */
+    static ResponseReceived response(long exchangeId, Response response) {
+        return new ResponseReceived(exchangeId, System.currentTimeMillis(), Thread.currentThread()
+                                                                                  .getName(),
+                CapturedResponse.of(response, BODY_LIMIT));
+    }
+
+    record RequestSent(long exchangeId, long timestampMillis, String thread, String method, String url,
+                       Map<String, ?> params, List<Header> headers, String body, boolean gzip)
+            implements HttpLogEntry {
+    }
+
+    record ResponseReceived(long exchangeId, long timestampMillis, String thread, CapturedResponse response)
+            implements HttpLogEntry {
+    }
+}
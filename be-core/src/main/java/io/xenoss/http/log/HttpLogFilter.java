@@ -0,0 +1,130 @@
+package io.xenoss.http.log;
+
+import io.xenoss.config.ConfigurationManager;
+import io.xenoss.config.HttpLogPolicy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applies the {@link HttpLogPolicy} to each exchange before its request is sent.
+ * All decisions are lock-free, so the filter can be shared by every client and thread.
+ */
+public final class HttpLogFilter {
+    private static final long WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    // Endpoints with ids in the path would otherwise grow the map without bound
+    private static final int MAX_TRACKED_ENDPOINTS = 10_000;
+
+    private final HttpLogPolicy policy;
+    private final int sampleRate;
+    private final int endpointLimit;
+    private final Map<String, EndpointWindow> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * What to do with an exchange.
+     */
+    public enum Decision {
+        /** Log the request now and the response when it arrives. */
+        LOG,
+        /** Log neither the request nor the response. */
+        SKIP,
+        /** Hold the request and log both only if the exchange fails. */
+        DEFER,
+        /** Log nothing now, keep the full request with the exchange recorded for a failure dump. */
+        BUFFER
+    }
+
+    /**
+     * @param policy the policy to apply
+     * @param sampleRate for {@link HttpLogPolicy#SAMPLED}, log 1 exchange in this many
+     * @param endpointLimit for {@link HttpLogPolicy#RATE_LIMITED}, exchanges logged per endpoint per minute
+     */
+    public HttpLogFilter(HttpLogPolicy policy, int sampleRate, int endpointLimit) {
+        this.policy = policy;
+        this.sampleRate = sampleRate;
+        this.endpointLimit = endpointLimit;
+    }
+
+    /**
+     * @return the filter configured by {@code httpLogPolicy}, {@code httpLogSampleRate} and
+     * {@code httpLogEndpointLimit}
+     */
+    public static HttpLogFilter fromConfig() {
+        var config = ConfigurationManager.getConfig();
+        return new HttpLogFilter(config.getHttpLogPolicy(), config.getHttpLogSampleRate(),
+                config.getHttpLogEndpointLimit());
+    }
+
+    /**
+     * Decides how to log an exchange.
+     *
+     * @param method the HTTP method
+     * @param url the request URL; a query string, if any, is ignored when identifying the endpoint
+     * @return the decision
+     */
+    public Decision decide(String method, String url) {
+        return switch (policy) {
+            case ALL -> Decision.LOG;
+            case SAMPLED -> ThreadLocalRandom.current()
+                                             .nextInt(sampleRate) == 0 ? Decision.LOG : suppress();
+            case FAILURES -> Decision.DEFER;
+            case RATE_LIMITED -> withinEndpointLimit(method, url) ? Decision.LOG : suppress();
+            case ON_FAILURE -> Decision.BUFFER;
+        };
+    }
+
+    /**
+     * @param statusCode the response status
+     * @return whether the status makes a deferred exchange worth logging
+     */
+    public static boolean isFailure(int statusCode) {
+        return statusCode < 200 || statusCode >= 300;
+    }
+
+    /**
+     * @return the number of exchanges skipped by sampling or rate limiting
+     */
+    public long getSuppressed() {
+        return suppressed.sum();
+    }
+
+    private Decision suppress() {
+        suppressed.increment();
+        return Decision.SKIP;
+    }
+
+    private boolean withinEndpointLimit(String method, String url) {
+        int query = url.indexOf('?');
+        var endpoint = String.format("%s %s", method, query < 0 ? url : url.substring(0, query));
+        if (windows.size() >= MAX_TRACKED_ENDPOINTS && !windows.containsKey(endpoint)) {
+            windows.clear();
+        }
+        return windows.computeIfAbsent(endpoint, key -> new EndpointWindow())
+                      .tryAcquire(System.currentTimeMillis(), endpointLimit);
+    }
+
+    /**
+     * Count of exchanges to one endpoint in the current one-minute window.
+     */
+    private static final class EndpointWindow {
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile long windowStart = System.currentTimeMillis();
+
+        private boolean tryAcquire(long now, int limit) {
+            if (now - windowStart >= WINDOW_MILLIS) {
+                synchronized (this) {
+                    if (now - windowStart >= WINDOW_MILLIS) {
+                        count.set(0);
+                        windowStart = now;
+                    }
+                }
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
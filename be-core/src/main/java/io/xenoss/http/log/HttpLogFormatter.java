@@ -0,0 +1,188 @@
+package io.xenoss.http.log;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.xenoss.http.ContentType;
+import io.xenoss.http.Response;
+import io.xenoss.utils.SerializationUtils;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Formats {@link HttpLogEntry log entries} into the human-readable messages printed by the clients.
+ */
+public final class HttpLogFormatter {
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS")
+                                                                          .withZone(ZoneId.systemDefault());
+
+    private HttpLogFormatter() {
+    }
+
+    /**
+     * Formats a request: the body with the headers for requests that have one, otherwise the query parameters.
+     *
+     * @param request the captured request
+     * @return the message
+     */
+    public static String formatRequest(HttpLogEntry.RequestSent request) {
+        if (request.body() != null) {
+            String headers = request.headers()
+                                    .stream()
+                                    .map(header -> String.format("%s: %s", header.getName(), header.getValue()))
+                                    .collect(Collectors.joining("\n\t"));
+            return String.format("Sending %s to %s with headers:\n\t%s\nand %s body:\n%s", request.method(),
+                    withParams(request.url(), request.params()), headers, request.gzip() ? "gzipped " : "",
+                    prettyJson(request.body()));
+        }
+        if (!request.params()
+                    .isEmpty()) {
+            String params = request.params()
+                                   .entrySet()
+                                   .stream()
+                                   .map(entry -> String.format("%s=%s", entry.getKey(),
+                                           formatValue(entry.getValue(), ", ")))
+                                   .collect(Collectors.joining("\n"));
+            return String.format("Sending %s to %s with params:\n%s", request.method(), request.url(), params);
+        }
+        return String.format("Sending %s to %s", request.method(), request.url());
+    }
+
+    /**
+     * Describes a response body: pretty-printed if it is text, otherwise only its type.
+     *
+     * @param response the response
+     * @return the message
+     */
+    public static String formatResponseBody(Response response) {
+        var contentType = contentType(response);
+        if (response.isEmpty()) {
+            return "Response body is empty";
+        }
+        if (isPrintable(contentType)) {
+            return String.format("Response body of type \"%s\":\n%s", contentType, response.asPrettyString());
+        }
+        return String.format("Response body of type %s cannot be printed", contentType);
+    }
+
+    /**
+     * Describes a captured response body: pretty-printed if it is text, otherwise only its type.
+     *
+     * @param response the captured response
+     * @return the message
+     */
+    public static String formatResponseBody(CapturedResponse response) {
+        var contentType = response.mediaType();
+        if (response.isEmpty()) {
+            return "Response body is empty";
+        }
+        if (isPrintable(contentType)) {
+            return String.format("Response body of type \"%s\":\n%s", contentType,
+                    prettyJson(response.bodyAsString()));
+        }
+        return String.format("Response body of type %s cannot be printed", contentType);
+    }
+
+    /**
+     * Formats a recorded exchange for a failure dump: a summary line, the request if it was captured, the
+     * response headers and the body truncated to {@code bodyLimit} characters. Bodies of exchanges logged only on
+     * failure are never truncated, since the dump is the only place they appear.
+     *
+     * @param exchange the exchange
+     * @param bodyLimit maximum number of body characters to include
+     * @return the message
+     */
+    public static String format(RecordedExchange exchange, int bodyLimit) {
+        var message = new StringBuilder(String.format("%s %s %s -> %s in %d ms",
+                TIME_FORMAT.format(Instant.ofEpochMilli(exchange.timestampMillis())), exchange.method(),
+                withParams(exchange.url(), exchange.params()),
+                exchange.error() == null ? exchange.status() : exchange.error(), exchange.durationMillis()));
+        if (exchange.request() != null) {
+            message.append('\n')
+                   .append(formatRequest(exchange.request()));
+        }
+        var response = exchange.response();
+        if (response != null) {
+            if (!response.headers()
+                         .asList()
+                         .isEmpty()) {
+                message.append("\nResponse headers:");
+            }
+            for (var header : response.headers()) {
+                message.append("\n\t")
+                       .append(header.getName())
+                       .append(": ")
+                       .append(header.getValue());
+            }
+            var body = formatResponseBody(response);
+            int limit = exchange.logOnFailure() ? Integer.MAX_VALUE : bodyLimit;
+            message.append('\n')
+                   .append(body.length() <= limit
+                           ? body
+                           : String.format("%s... (%d more characters)", body.substring(0, limit),
+                                   body.length() - limit));
+        }
+        return message.toString();
+    }
+
+    /**
+     * @param url the URL without query string
+     * @param params query parameters, values are strings or arrays; may be null
+     * @return the URL with the parameters appended
+     */
+    public static String withParams(String url, Map<String, ?> params) {
+        if (params == null || params.isEmpty()) {
+            return url;
+        }
+        return String.format("%s?%s", url, params.entrySet()
+                                                 .stream()
+                                                 .map(entry -> String.format("%s=%s", entry.getKey(),
+                                                         formatValue(entry.getValue(), ",")))
+                                                 .collect(Collectors.joining("&")));
+    }
+
+    /**
+     * @param response the response
+     * @return the media type of the response without parameters such as the charset
+     */
+    public static String contentType(Response response) {
+        return response.contentType()
+                       .split(";")[0];
+    }
+
+    /**
+     * @param contentType a media type without parameters
+     * @return whether bodies of this type are text worth printing
+     */
+    public static boolean isPrintable(String contentType) {
+        return Arrays.asList(ContentType.JSON.getContentTypeStrings())
+                     .contains(contentType)
+                || Arrays.asList(ContentType.XML.getContentTypeStrings())
+                         .contains(contentType)
+                || contentType.startsWith("text");
+    }
+
+    private static String formatValue(Object value, String delimiter) {
+        return value instanceof Object[] values
+                ? Arrays.stream(values)
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(delimiter))
+                : String.valueOf(value);
+    }
+
+    private static String prettyJson(String body) {
+        var trimmed = body.stripLeading();
+        if (!trimmed.startsWith("{") && !trimmed.startsWith("[")) {
+            return body;
+        }
+        try {
+            return SerializationUtils.toPrettyJson(JsonParser.parseString(body));
+        } catch (JsonParseException e) {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.xenoss.http.log;
+
+import java.util.Map;
+
+/**
+ * Summary of a completed exchange kept in the {@link ExchangeRingBuffer} of the requesting thread.
+ * <p>
+ * Only references are stored: the response is captured with its headers and body bytes shared, not copied, and it
+ * is decoded and formatted only if the buffer is dumped. The decoded body and JSON tree of the response are not
+ * kept.
+ *
+ * @param timestampMillis when the request was sent
+ * @param method the HTTP method
+ * @param url the request URL without query parameters
+ * @param params query parameters as passed by the client; may be null
+ * @param status the response status, or 0 if no response was received
+ * @param durationMillis time from sending the request to the response, including retries
+ * @param response the captured response, or null if it failed or its body was streamed
+ * @param error the failure message, or null if a response was received
+ * @param request the full request, captured only when the {@code httpLogPolicy} needs it; may be null
+ * @param logOnFailure whether the exchange is logged only if the test fails, so its body is dumped in full
+ */
+public record RecordedExchange(long timestampMillis, String method, String url, Map<String, ?> params, int status,
+                               long durationMillis, CapturedResponse response, String error,
+                               HttpLogEntry.RequestSent request, boolean logOnFailure) {
+}
@@ -4,52 +4,90 @@ import lombok.extern.slf4j.Slf4j;
 import okhttp3.Call;
 import okhttp3.EventListener;
 import okhttp3.Connection;
+import okhttp3.Handshake;
 import okhttp3.Protocol;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.util.List;
 
+/**
+ * Per-call listener feeding {@link ConnectionPoolMetrics}.
+ * A new instance is created for every call by {@link Factory}, so phase start times can be kept in fields.
+ */
 @Slf4j
 public class ConnectionEventListener extends EventListener {
-    
+    private long dnsStartNanos;
+    private long connectStartNanos;
+    private long secureConnectStartNanos;
+
+    @Override
+    public void dnsStart(@NotNull Call call, @NotNull String domainName) {
+        dnsStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(@NotNull Call call, @NotNull String domainName, @NotNull List<InetAddress> inetAddressList) {
+        ConnectionPoolMetrics.onDnsResolved(host(call), System.nanoTime() - dnsStartNanos);
+    }
+
     @Override
     public void connectStart(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy) {
         log.debug("Connection starting to {}", inetSocketAddress);
+        connectStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(@NotNull Call call) {
+        secureConnectStartNanos = System.nanoTime();
     }
-    
+
+    @Override
+    public void secureConnectEnd(@NotNull Call call, @Nullable Handshake handshake) {
+        ConnectionPoolMetrics.onTlsHandshake(host(call), System.nanoTime() - secureConnectStartNanos);
+    }
+
     @Override
     public void connectEnd(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress,
                            @NotNull Proxy proxy, @Nullable Protocol protocol) {
         log.debug("New connection established to {}", inetSocketAddress);
-        ConnectionPoolMetrics.onConnectionCreated();
+        ConnectionPoolMetrics.onConnectionCreated(host(call), System.nanoTime() - connectStartNanos);
     }
-    
+
     @Override
-    public void connectionReleased(@NotNull Call call, @NotNull Connection connection) {
-        log.debug("Connection released back to pool: {}", connection);
-        // Connection is being returned to pool after use - it's now idle
+    public void connectFailed(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress,
+                              @NotNull Proxy proxy, @Nullable Protocol protocol, @NotNull IOException ioe) {
+        log.debug("Connection to {} failed: {}", inetSocketAddress, ioe.getMessage());
+        ConnectionPoolMetrics.onConnectFailed(host(call));
     }
-    
+
     @Override
     public void connectionAcquired(@NotNull Call call, @NotNull Connection connection) {
-        log.debug("Connection acquired from pool: {}", connection);
-        // Connection is being taken from pool for use - it's now active
+        ConnectionPoolMetrics.onConnectionAcquired(host(call));
+        ConnectionStreamMetrics.onStreamOpened(connection);
     }
-    
+
     @Override
-    public void callEnd(@NotNull Call call) {
-        // Request completed successfully
+    public void connectionReleased(@NotNull Call call, @NotNull Connection connection) {
+        ConnectionPoolMetrics.onConnectionReleased(host(call));
+        ConnectionStreamMetrics.onStreamClosed(connection);
     }
-    
+
     @Override
-    public void callFailed(@NotNull Call call, IOException ioe) {
-        // Request failed
+    public void callFailed(@NotNull Call call, @NotNull IOException ioe) {
         log.debug("Call failed: {}", ioe.getMessage());
     }
-    
+
+    private static String host(Call call) {
+        return call.request()
+                   .url()
+                   .host();
+    }
+
     public static class Factory implements EventListener.Factory {
         @Override
         public @NotNull EventListener create(@NotNull Call call) {
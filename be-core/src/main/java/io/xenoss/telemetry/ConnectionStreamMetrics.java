@@ -0,0 +1,67 @@
+package io.xenoss.telemetry;
+
+import okhttp3.Connection;
+import okhttp3.Protocol;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks how many calls (streams) share each connection at the same time.
+ * With HTTP/1.1 a connection carries one call at a time; with HTTP/2 many calls are multiplexed over it.
+ */
+public class ConnectionStreamMetrics {
+    private static final Map<Connection, AtomicInteger> activeStreams = new ConcurrentHashMap<>();
+    private static final AtomicInteger peakStreamsPerConnection = new AtomicInteger(0);
+    private static final LongAdder multiplexedAcquisitions = new LongAdder();
+
+    public static void onStreamOpened(Connection connection) {
+        int streams = activeStreams.computeIfAbsent(connection, key -> new AtomicInteger())
+                                   .incrementAndGet();
+        peakStreamsPerConnection.accumulateAndGet(streams, Math::max);
+        if (isMultiplexed(connection)) {
+            multiplexedAcquisitions.increment();
+        }
+    }
+
+    public static void onStreamClosed(Connection connection) {
+        // Drop the entry once the last stream is closed so idle connections are not retained
+        activeStreams.computeIfPresent(connection, (key, streams) -> streams.decrementAndGet() <= 0 ? null : streams);
+    }
+
+    // Get current metrics as a formatted map
+    public static Map<String, String> getMetrics() {
+        int connections = 0;
+        int streams = 0;
+        int maxStreams = 0;
+        for (AtomicInteger connectionStreams : activeStreams.values()) {
+            int current = connectionStreams.get();
+            connections++;
+            streams += current;
+            maxStreams = Math.max(maxStreams, current);
+        }
+
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("🔀 Active Streams", String.valueOf(streams));
+        metrics.put("🧵 Connections With Active Streams", String.valueOf(connections));
+        metrics.put("📶 Streams Per Connection (current max / peak)",
+                String.format("%d / %d", maxStreams, peakStreamsPerConnection.get()));
+        metrics.put("🔁 HTTP/2 Stream Acquisitions", String.valueOf(multiplexedAcquisitions.sum()));
+        return metrics;
+    }
+
+    // Reset metrics (useful for testing)
+    public static void reset() {
+        activeStreams.clear();
+        peakStreamsPerConnection.set(0);
+        multiplexedAcquisitions.reset();
+    }
+
+    private static boolean isMultiplexed(Connection connection) {
+        var protocol = connection.protocol();
+        return protocol == Protocol.HTTP_2 || protocol == Protocol.H2_PRIOR_KNOWLEDGE;
+    }
+}
@@ -7,6 +7,7 @@ import okhttp3.Response;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class HttpMetricsInterceptor implements Interceptor {
@@ -18,7 +19,7 @@ public class HttpMetricsInterceptor implements Interceptor {
         // Track request sent
         ConnectionPoolMetrics.onRequestSent();
         
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         
         try {
             Response response = chain.proceed(request);
@@ -26,28 +27,32 @@ public class HttpMetricsInterceptor implements Interceptor {
             // Track response received
             ConnectionPoolMetrics.onResponseReceived();
             
-            long endTime = System.currentTimeMillis();
-            long duration = endTime - startTime;
+            long duration = System.nanoTime() - startTime;
+            HttpLatencyMetrics.record(request.method(), request.url().host(), duration);
             
             log.debug("HTTP {} {} -> {} ({}ms)", 
                     request.method(), 
                     request.url(),
                     response.code(), 
-                    duration);
+                    TimeUnit.NANOSECONDS.toMillis(duration));
                     
             return response;
             
-        } catch (IOException e) {
-            long endTime = System.currentTimeMillis();
-            long duration = endTime - startTime;
-            
-            log.debug("HTTP {} {} -> ERROR ({}ms): {}", 
-                    request.method(), 
-                    request.url(),
-                    duration,
-                    e.getMessage());
-                    
+        } catch (IOException | RuntimeException e) {
+            // Failed calls are recorded too, otherwise timeouts and interceptor failures would vanish from the tail
+            recordFailure(request, startTime, e);
             throw e;
         }
     }
+
+    private static void recordFailure(Request request, long startTime, Exception e) {
+        long duration = System.nanoTime() - startTime;
+        HttpLatencyMetrics.record(request.method(), request.url().host(), duration);
+
+        log.debug("HTTP {} {} -> ERROR ({}ms): {}",
+                request.method(),
+                request.url(),
+                TimeUnit.NANOSECONDS.toMillis(duration),
+                e.getMessage());
+    }
 }
@@ -0,0 +1,168 @@
+package io.xenoss.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import io.xenoss.config.HttpLogOverflow;
+import io.xenoss.http.Header;
+import io.xenoss.http.Response;
+import io.xenoss.http.log.AsyncHttpLogWriter;
+import io.xenoss.http.log.HttpLogEntry;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncHttpLogWriterTest {
+    private static final int THREADS = 8;
+    private static final int ENTRIES_PER_THREAD = 500;
+    private static final List<Header> HEADERS = List.of(new Header("Connection", "keep-alive"),
+            new Header("X-Trace", "a"), new Header("X-Trace", "b"));
+
+    @Test
+    public void everyAcceptedEntryIsWrittenAsOneJsonLine() throws IOException {
+        var directory = Files.createTempDirectory("http-log");
+        try (var writer = new AsyncHttpLogWriter(directory, THREADS * ENTRIES_PER_THREAD, HttpLogOverflow.DROP)) {
+            var senders = IntStream.range(0, THREADS)
+                                   .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                                       for (int i = 0; i < ENTRIES_PER_THREAD; i++) {
+                                           writer.offer(HttpLogEntry.request(i, "POST", "http://localhost/bid",
+                                                   Map.of("id", String.valueOf(i)), HEADERS, "{\"id\":1}",
+                                                   false));
+                                       }
+                                   }))
+                                   .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(senders)
+                             .join();
+
+            assertThat(writer.flush(Duration.ofSeconds(30))).isTrue();
+            assertThat(writer.getDropped()).isZero();
+        }
+
+        var lines = Files.readAllLines(directory.resolve("http-log-000.ndjson"));
+        assertThat(lines).hasSize(THREADS * ENTRIES_PER_THREAD);
+        var first = JsonParser.parseString(lines.get(0))
+                              .getAsJsonObject();
+        assertThat(first.get("type")
+                        .getAsString()).isEqualTo("request");
+        assertThat(first.get("url")
+                        .getAsString()).startsWith("http://localhost/bid?id=");
+        assertThat(first.get("exchangeId")
+                        .getAsLong()).isLessThan(ENTRIES_PER_THREAD);
+        // Repeated headers keep all their values
+        assertThat(first.getAsJsonObject("headers")
+                        .getAsJsonArray("X-Trace")).containsExactly(new JsonPrimitive("a"), new JsonPrimitive("b"));
+    }
+
+    @Test
+    public void entriesAreSampledOnceTheQueueIsHalfFull() throws IOException {
+        var directory = Files.createTempDirectory("http-log");
+        long offered = 2000;
+        long written;
+        try (var writer = new AsyncHttpLogWriter(directory, 100, HttpLogOverflow.SAMPLE)) {
+            // The writer parks between batches, so a burst from one thread overruns the queue
+            written = LongStream.range(0, offered)
+                                .filter(i -> writer.offer(entry(i)))
+                                .count();
+
+            assertThat(writer.flush(Duration.ofSeconds(30))).isTrue();
+            assertThat(writer.getSampledOut()).isPositive();
+            assertThat(written).isEqualTo(offered - writer.getDropped() - writer.getSampledOut());
+        }
+
+        assertThat(Files.readAllLines(directory.resolve("http-log-000.ndjson"))).hasSize((int) written);
+    }
+
+    @Test
+    public void filesAreRotatedOnceFull() throws IOException {
+        var directory = Files.createTempDirectory("http-log");
+        int offered = 1000;
+        long maxFileChars = 10_000;
+        try (var writer = new AsyncHttpLogWriter(directory, offered, HttpLogOverflow.DROP, maxFileChars)) {
+            LongStream.range(0, offered)
+                      .forEach(i -> writer.offer(entry(i)));
+            assertThat(writer.flush(Duration.ofSeconds(30))).isTrue();
+        }
+
+        List<Path> files;
+        try (var listing = Files.list(directory)) {
+            files = listing.sorted()
+                           .toList();
+        }
+        assertThat(files).hasSizeGreaterThan(1)
+                         .allSatisfy(file -> assertThat(file.getFileName()
+                                                            .toString()).matches("http-log-\\d{3}\\.ndjson"));
+        long lines = 0;
+        for (var file : files) {
+            lines += Files.readAllLines(file)
+                          .size();
+        }
+        assertThat(lines).isEqualTo(offered);
+        // A file is only rotated after crossing the limit, by less than one line
+        for (var file : files.subList(0, files.size() - 1)) {
+            assertThat(Files.size(file)).isBetween(maxFileChars, maxFileChars + 1000);
+        }
+    }
+
+    @Test
+    public void responsesAreWrittenWithABoundedBody() throws IOException {
+        var directory = Files.createTempDirectory("http-log");
+        var okHttpResponse = new okhttp3.Response.Builder().request(new Request.Builder().url("http://localhost/bid")
+                                                                                         .build())
+                                                           .protocol(Protocol.HTTP_1_1)
+                                                           .code(200)
+                                                           .message("OK")
+                                                           .header("Content-Type", "application/json")
+                                                           .header("X-Trace", "a")
+                                                           .addHeader("X-Trace", "b")
+                                                           .body(ResponseBody.create("x".repeat(100_000),
+                                                                   MediaType.get("application/json")))
+                                                           .build();
+        try (var writer = new AsyncHttpLogWriter(directory, 10, HttpLogOverflow.DROP)) {
+            writer.offer(HttpLogEntry.response(1, new Response(okHttpResponse, new ObjectMapper())));
+            assertThat(writer.flush(Duration.ofSeconds(30))).isTrue();
+        }
+
+        var record = JsonParser.parseString(Files.readAllLines(directory.resolve("http-log-000.ndjson"))
+                                                 .getFirst())
+                               .getAsJsonObject();
+        assertThat(record.get("bytes")
+                         .getAsInt()).isEqualTo(100_000);
+        assertThat(record.get("truncated")
+                         .getAsBoolean()).isTrue();
+        assertThat(record.get("body")
+                         .getAsString()).hasSize(HttpLogEntry.BODY_LIMIT);
+        assertThat(record.getAsJsonObject("headers")
+                         .getAsJsonArray("x-trace")).containsExactly(new JsonPrimitive("a"), new JsonPrimitive("b"));
+    }
+
+    @Test
+    public void entriesAreDroppedAndCountedOnceClosed() throws IOException {
+        Path directory = Files.createTempDirectory("http-log");
+        var writer = new AsyncHttpLogWriter(directory, 10, HttpLogOverflow.SAMPLE);
+        writer.close();
+
+        assertThat(writer.offer(entry(1))).isFalse();
+        assertThat(writer.getDropped()).isEqualTo(1);
+        assertThat(writer.getMetrics()
+                         .get("📝 HTTP Log")).contains("dropped=1");
+    }
+
+    private static HttpLogEntry entry(long exchangeId) {
+        return HttpLogEntry.request(exchangeId, "GET", "http://localhost/bid", Map.of("id", exchangeId), HEADERS,
+                null, false);
+    }
+}
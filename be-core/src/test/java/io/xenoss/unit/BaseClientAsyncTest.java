@@ -0,0 +1,141 @@
+package io.xenoss.unit;
+
+import io.xenoss.backend.client.BaseClient;
+import io.xenoss.http.Response;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BaseClientAsyncTest {
+    private MockWebServer server;
+    private AsyncClient client;
+
+    @BeforeMethod
+    public void startServer() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = new AsyncClient(server.url("")
+                                       .toString()
+                                       .replaceAll("/$", ""));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopServer() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void responseIsReturned() {
+        server.enqueue(new MockResponse().setBody("{\"ok\":true}"));
+
+        assertThat(client.fetch()
+                         .join()
+                         .getStatusCode()).isEqualTo(200);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void serverErrorIsReturnedWithoutRetry() {
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        assertThat(client.fetch()
+                         .join()
+                         .getStatusCode()).isEqualTo(503);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void failedAttemptIsRetried() {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setBody("{\"ok\":true}"));
+
+        assertThat(client.fetch()
+                         .join()
+                         .getStatusCode()).isEqualTo(200);
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void failureIsReportedOnceRetriesAreExhausted() {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+
+        assertThatThrownBy(() -> client.fetch()
+                                       .join()).isInstanceOf(CompletionException.class);
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void cancellationCancelsTheCallInFlight() throws InterruptedException {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        var future = client.fetch();
+        assertThat(server.takeRequest(5, TimeUnit.SECONDS)).isNotNull();
+
+        future.cancel(true);
+
+        assertThatThrownBy(future::join).isInstanceOf(CancellationException.class);
+        assertThat(client.calls).singleElement()
+                                .satisfies(call -> assertThat(call.isCanceled()).isTrue());
+        assertNoRetry();
+    }
+
+    @Test
+    public void timeoutCancelsTheCallInFlight() throws InterruptedException {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        var future = client.fetch()
+                           .orTimeout(300, TimeUnit.MILLISECONDS);
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(client.calls).singleElement()
+                                .satisfies(call -> assertThat(call.isCanceled()).isTrue());
+        assertNoRetry();
+    }
+
+    private void assertNoRetry() throws InterruptedException {
+        // Retries are scheduled 1 second after a failed attempt
+        Thread.sleep(1500);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+        assertThat(client.calls).hasSize(1);
+    }
+
+    private static final class AsyncClient extends BaseClient {
+        private final List<Call> calls = new CopyOnWriteArrayList<>();
+
+        private AsyncClient(String baseUrl) {
+            super(baseUrl);
+            setSilent(true);
+            setRetryAttempts(1);
+        }
+
+        @Override
+        protected void configureHttpClient(OkHttpClient.Builder builder) {
+            // Only the client retries, so every attempt reaches the server once
+            builder.retryOnConnectionFailure(false)
+                   .addInterceptor(chain -> {
+                       calls.add(chain.call());
+                       return chain.proceed(chain.request());
+                   });
+        }
+
+        private CompletableFuture<Response> fetch() {
+            return getAsync("bid");
+        }
+    }
+}
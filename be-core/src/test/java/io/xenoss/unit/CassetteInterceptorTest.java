@@ -0,0 +1,129 @@
+package io.xenoss.unit;
+
+import io.xenoss.config.HttpCassetteKeyMode;
+import io.xenoss.http.GzipCodec;
+import io.xenoss.http.GzipRequestBody;
+import io.xenoss.http.cassette.CassetteInterceptor;
+import io.xenoss.http.cassette.CassetteKey;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CassetteInterceptorTest {
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    @Test
+    public void recordedExchangesAreReplayedWithoutNetwork() throws IOException {
+        var cassette = Files.createTempDirectory("cassette")
+                            .resolve("bids.cassette");
+        String url;
+        try (var server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody("{\"bid\":1}")
+                                             .setHeader("Content-Type", "application/json"));
+            server.enqueue(new MockResponse().setResponseCode(204));
+            server.start();
+            url = server.url("/bid")
+                        .toString();
+
+            try (var recorder = CassetteInterceptor.record(cassette)) {
+                var client = new OkHttpClient.Builder().addInterceptor(recorder)
+                                                       .build();
+                try (var response = client.newCall(post(url, "{\"id\":\"a\"}"))
+                                          .execute()) {
+                    assertThat(response.body()
+                                       .string()).isEqualTo("{\"bid\":1}");
+                }
+                client.newCall(post(url, "{\"id\":\"b\"}"))
+                      .execute()
+                      .close();
+            }
+        }
+
+        // The server is gone, so any network access would fail
+        var player = CassetteInterceptor.replay(cassette);
+        var client = new OkHttpClient.Builder().addInterceptor(player)
+                                               .build();
+        try (var response = client.newCall(post(url, "{\"id\":\"a\"}"))
+                                  .execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("Content-Type")).isEqualTo("application/json");
+            assertThat(response.body()
+                               .string()).isEqualTo("{\"bid\":1}");
+        }
+        try (var response = client.newCall(post(url, "{\"id\":\"b\"}"))
+                                  .execute()) {
+            assertThat(response.code()).isEqualTo(204);
+        }
+        assertThatThrownBy(() -> client.newCall(post(url, "{\"id\":\"c\"}"))
+                                       .execute())
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("No response to POST");
+        assertThat(player.getHits()).isEqualTo(2);
+        assertThat(player.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void ignoredFieldsDoNotTakePartInTheKey() throws IOException {
+        var cassette = Files.createTempDirectory("cassette")
+                            .resolve("bids.cassette");
+        var key = CassetteKey.of(HttpCassetteKeyMode.IGNORE_FIELDS, List.of("id", "imp.id"));
+        String url;
+        try (var server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody("{\"bid\":1}"));
+            server.start();
+            url = server.url("/bid")
+                        .toString();
+
+            try (var recorder = CassetteInterceptor.record(cassette, key)) {
+                new OkHttpClient.Builder().addInterceptor(recorder)
+                                          .build()
+                                          .newCall(post(url, "{\"id\":\"a\",\"imp\":[{\"id\":\"1\",\"w\":300}]}"))
+                                          .execute()
+                                          .close();
+            }
+        }
+
+        var player = CassetteInterceptor.replay(cassette, key);
+        var client = new OkHttpClient.Builder().addInterceptor(player)
+                                               .build();
+        try (var response = client.newCall(post(url, "{\"id\":\"b\",\"imp\":[{\"id\":\"2\",\"w\":300}]}"))
+                                  .execute()) {
+            assertThat(response.body()
+                               .string()).isEqualTo("{\"bid\":1}");
+        }
+        assertThatThrownBy(() -> client.newCall(post(url, "{\"id\":\"b\",\"imp\":[{\"id\":\"2\",\"w\":728}]}"))
+                                       .execute())
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void gzipBodiesAreKeyedByTheirUncompressedContent() throws IOException {
+        var content = "{\"id\":\"a\"}".getBytes(StandardCharsets.UTF_8);
+        var url = "http://localhost/bid";
+        var gzipped = new Request.Builder().url(url)
+                                           .post(new GzipRequestBody(content, GzipCodec.of(GzipCodec.DEFAULT_LEVEL)))
+                                           .build();
+
+        assertThat(CassetteKey.EXACT.hash(gzipped)).isEqualTo(CassetteKey.EXACT.hash(post(url, "{\"id\":\"a\"}")));
+        assertThat(CassetteKey.of(HttpCassetteKeyMode.IGNORE_BODY, List.of())
+                              .hash(gzipped)).isNotEqualTo(CassetteKey.EXACT.hash(gzipped));
+    }
+
+    private static Request post(String url, String body) {
+        return new Request.Builder().url(url)
+                                    .post(RequestBody.create(body, JSON))
+                                    .build();
+    }
+}
@@ -0,0 +1,104 @@
+package io.xenoss.unit;
+
+import io.xenoss.exceptions.FrameworkException;
+import io.xenoss.http.GzipCodec;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GzipCodecTest {
+    private static final String BODY = "{\"id\":\"bid-1\",\"seatbid\":[{\"bid\":[{\"price\":1.5}]}]}".repeat(500)
+            + "ünïcödé";
+
+    @Test
+    public void everyLevelIsReadableByGzipInputStream() throws IOException {
+        for (int level = 0; level <= 9; level++) {
+            byte[] compressed = GzipCodec.of(level)
+                                         .compress(BODY);
+
+            try (var in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+            }
+        }
+    }
+
+    @Test
+    public void streamedOutputIsACompleteMember() throws IOException {
+        var out = new ByteArrayOutputStream();
+        GzipCodec.of(1)
+                 .compress(BODY.getBytes(StandardCharsets.UTF_8), out);
+
+        assertThat(GzipCodec.decompressToString(out.toByteArray())).isEqualTo(BODY);
+    }
+
+    @Test
+    public void decompressesConcatenatedMembersWithFileNames() throws IOException {
+        var out = new ByteArrayOutputStream();
+        out.write(gzipWithFileName("first,"));
+        out.write(GzipCodec.of(GzipCodec.DEFAULT_LEVEL)
+                           .compress("second"));
+
+        assertThat(GzipCodec.decompressToString(out.toByteArray())).isEqualTo("first,second");
+    }
+
+    @Test
+    public void concurrentCallsShareThePool() {
+        var codec = GzipCodec.of(GzipCodec.DEFAULT_LEVEL);
+        var calls = IntStream.range(0, 8)
+                             .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                                 for (int i = 0; i < 200; i++) {
+                                     String body = BODY + i;
+                                     assertThat(GzipCodec.decompressToString(codec.compress(body))).isEqualTo(body);
+                                 }
+                             }))
+                             .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(calls)
+                         .join();
+
+        assertThat(GzipCodec.getMetrics()
+                            .get("🗜️ GZIP Codec")).contains("deflaters=");
+    }
+
+    @Test
+    public void corruptDataIsRejected() {
+        byte[] compressed = GzipCodec.of(GzipCodec.DEFAULT_LEVEL)
+                                     .compress(BODY);
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+        byte[] wrongCrc = compressed.clone();
+        wrongCrc[wrongCrc.length - 8] ^= 1;
+
+        assertThatThrownBy(() -> GzipCodec.decompress(truncated)).isInstanceOf(FrameworkException.class);
+        assertThatThrownBy(() -> GzipCodec.decompress(wrongCrc)).isInstanceOf(FrameworkException.class)
+                                                                .hasMessageContaining("CRC");
+        assertThatThrownBy(() -> GzipCodec.decompress(BODY.getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("not in gzip format");
+    }
+
+    private static byte[] gzipWithFileName(String content) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] plain = out.toByteArray();
+        // GZIPOutputStream never sets optional header fields, so insert a file name
+        byte[] name = "body.json\0".getBytes(StandardCharsets.US_ASCII);
+        byte[] withName = new byte[plain.length + name.length];
+        System.arraycopy(plain, 0, withName, 0, 10);
+        withName[3] = 8;
+        System.arraycopy(name, 0, withName, 10, name.length);
+        System.arraycopy(plain, 10, withName, 10 + name.length, plain.length - 10);
+        return withName;
+    }
+}
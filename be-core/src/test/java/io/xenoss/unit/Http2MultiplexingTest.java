@@ -0,0 +1,71 @@
+package io.xenoss.unit;
+
+import io.xenoss.config.HttpProtocol;
+import io.xenoss.http.HttpClientFactory;
+import io.xenoss.http.Response;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Http2MultiplexingTest {
+    private static final int CONCURRENT_CALLS = 10;
+
+    private final MockWebServer server = new MockWebServer();
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server.setProtocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+        // One extra response for the warm-up call that opens the connection
+        for (int i = 0; i <= CONCURRENT_CALLS; i++) {
+            server.enqueue(new MockResponse().setBody("{\"ok\":true}")
+                                             .setHeadersDelay(200, TimeUnit.MILLISECONDS));
+        }
+        server.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void concurrentCallsShareOneH2cConnection() throws InterruptedException {
+        OkHttpClient client = HttpClientFactory.createHttpClient(false, HttpProtocol.H2C);
+        String url = server.url("/bid")
+                           .toString();
+        HttpClientFactory.given(client)
+                         .get(url);
+
+        List<CompletableFuture<Response>> calls = IntStream.range(0, CONCURRENT_CALLS)
+                                                           .mapToObj(i -> HttpClientFactory.given(client)
+                                                                                           .getAsync(url))
+                                                           .toList();
+        List<Response> responses = calls.stream()
+                                        .map(CompletableFuture::join)
+                                        .toList();
+
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getStatusCode()).isEqualTo(200);
+            assertThat(response.getProtocol()).isEqualTo(Protocol.H2_PRIOR_KNOWLEDGE.toString());
+        });
+        // The sequence number counts requests per connection, so one connection yields 0..N
+        int maxSequenceNumber = 0;
+        for (int i = 0; i <= CONCURRENT_CALLS; i++) {
+            maxSequenceNumber = Math.max(maxSequenceNumber, server.takeRequest()
+                                                                  .getSequenceNumber());
+        }
+        assertThat(maxSequenceNumber).isEqualTo(CONCURRENT_CALLS);
+    }
+}
@@ -0,0 +1,29 @@
+package io.xenoss.unit;
+
+import io.xenoss.http.HttpClientFactory;
+import okhttp3.OkHttpClient;
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpClientFactoryTest {
+
+    @Test
+    public void redirectVariantsAreCachedInBothDirections() {
+        var following = new OkHttpClient();
+        var notFollowing = following.newBuilder()
+                                    .followRedirects(false)
+                                    .followSslRedirects(false)
+                                    .build();
+
+        var disabled = HttpClientFactory.withRedirects(following, false);
+        var enabled = HttpClientFactory.withRedirects(notFollowing, true);
+
+        assertThat(disabled.followRedirects()).isFalse();
+        assertThat(enabled.followRedirects()).isTrue();
+        assertThat(enabled.followSslRedirects()).isTrue();
+        assertThat(HttpClientFactory.withRedirects(following, false)).isSameAs(disabled);
+        assertThat(HttpClientFactory.withRedirects(notFollowing, true)).isSameAs(enabled);
+        assertThat(HttpClientFactory.withRedirects(following, true)).isSameAs(following);
+    }
+}
@@ -0,0 +1,89 @@
+package io.xenoss.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.xenoss.config.HttpLogPolicy;
+import io.xenoss.http.Response;
+import io.xenoss.http.log.CapturedResponse;
+import io.xenoss.http.log.ExchangeRingBuffer;
+import io.xenoss.http.log.HttpLogFilter;
+import io.xenoss.http.log.HttpLogFormatter;
+import io.xenoss.http.log.RecordedExchange;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpLogFilterTest {
+
+    @Test
+    public void rateLimitedPolicyLogsFirstExchangesPerEndpoint() {
+        var filter = new HttpLogFilter(HttpLogPolicy.RATE_LIMITED, 1, 3);
+
+        var decisions = IntStream.range(0, 5)
+                                 .mapToObj(i -> filter.decide("GET", "http://localhost/bid?id=" + i))
+                                 .toList();
+
+        assertThat(decisions).containsExactly(HttpLogFilter.Decision.LOG, HttpLogFilter.Decision.LOG,
+                HttpLogFilter.Decision.LOG, HttpLogFilter.Decision.SKIP, HttpLogFilter.Decision.SKIP);
+        assertThat(filter.decide("POST", "http://localhost/bid")).isEqualTo(HttpLogFilter.Decision.LOG);
+        assertThat(filter.getSuppressed()).isEqualTo(2);
+    }
+
+    @Test
+    public void ringBufferKeepsLatestExchangesOldestFirst() {
+        var buffer = new ExchangeRingBuffer(3);
+        var exchanges = IntStream.range(0, 5)
+                                 .mapToObj(i -> new RecordedExchange(i, "GET", "http://localhost/" + i, null, 200, 1,
+                                         null, null, null, false))
+                                 .toList();
+        exchanges.forEach(buffer::add);
+
+        assertThat(buffer.snapshot()).containsExactlyElementsOf(exchanges.subList(2, 5));
+        buffer.clear();
+        assertThat(buffer.snapshot()).isEmpty();
+    }
+
+    @Test
+    public void recordedExchangeIsSummarizedWithItsQuery() {
+        var exchange = new RecordedExchange(0, "GET", "http://localhost/bid", Map.of("id", new Object[]{1, 2}), 0, 35,
+                null, "java.net.SocketTimeoutException: timeout", null, false);
+
+        assertThat(HttpLogFormatter.format(exchange, 100)).endsWith(
+                "GET http://localhost/bid?id=1,2 -> java.net.SocketTimeoutException: timeout in 35 ms");
+    }
+
+    @Test
+    public void recordedExchangeSharesTheBodyAndFormatsItOnlyWhenDumped() {
+        var okHttpResponse = new okhttp3.Response.Builder().request(new Request.Builder().url("http://localhost/bid")
+                                                                                         .build())
+                                                           .protocol(Protocol.HTTP_1_1)
+                                                           .code(200)
+                                                           .message("OK")
+                                                           .header("Content-Type", "application/json")
+                                                           .header("X-Trace", "a")
+                                                           .addHeader("X-Trace", "b")
+                                                           .body(ResponseBody.create("x".repeat(10_000),
+                                                                   MediaType.get("application/json")))
+                                                           .build();
+        var response = new Response(okHttpResponse, new ObjectMapper());
+        var exchange = new RecordedExchange(0, "GET", "http://localhost/bid", null, 200, 5,
+                CapturedResponse.of(response, Integer.MAX_VALUE), null, null, false);
+
+        assertThat(exchange.response()
+                           .body()).isSameAs(response.asByteArray());
+        assertThat(HttpLogFormatter.format(exchange, 100)).contains("Response headers:\n\tx-trace: a\n\tx-trace: b")
+                                                          // The description line counts too
+                                                          .endsWith("... (9942 more characters)");
+
+        // Exchanges logged only on failure appear nowhere else, so their body is kept whole
+        var buffered = new RecordedExchange(0, "GET", "http://localhost/bid", null, 200, 5, exchange.response(), null,
+                null, true);
+        assertThat(HttpLogFormatter.format(buffered, 100)).endsWith("x".repeat(10_000));
+    }
+}
@@ -0,0 +1,32 @@
+package io.xenoss.unit;
+
+import io.xenoss.telemetry.HttpLatencyMetrics;
+import io.xenoss.telemetry.HttpMetricsInterceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HttpMetricsInterceptorTest {
+
+    @Test
+    public void runtimeFailuresAreRecordedAndRethrown() {
+        var client = new OkHttpClient.Builder().addInterceptor(new HttpMetricsInterceptor())
+                                               .addInterceptor(chain -> {
+                                                   // An interceptor further down failing with an unchecked exception
+                                                   throw new IllegalStateException("No recorded response");
+                                               })
+                                               .build();
+        var request = new Request.Builder().url("http://cassette-miss.test/bid")
+                                           .build();
+
+        assertThatThrownBy(() -> client.newCall(request)
+                                       .execute()).isInstanceOf(IllegalStateException.class)
+                                                  .hasMessage("No recorded response");
+        assertThat(HttpLatencyMetrics.getSnapshots()
+                                     .get("GET cassette-miss.test")
+                                     .getCount()).isEqualTo(1);
+    }
+}
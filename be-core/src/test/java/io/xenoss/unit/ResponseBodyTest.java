@@ -0,0 +1,190 @@
+package io.xenoss.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.xenoss.exceptions.HttpClientException;
+import io.xenoss.http.Response;
+import io.xenoss.http.StreamingResponse;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+import org.jetbrains.annotations.NotNull;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResponseBodyTest {
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final MediaType BINARY = MediaType.get("application/octet-stream");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void bodyIsDecodedOnceForConcurrentReaders() {
+        var response = new Response(okHttpResponse(ResponseBody.create("{\"id\":\"bid-1\"}".repeat(1000), JSON)),
+                OBJECT_MAPPER);
+        int readers = 16;
+        var start = new CountDownLatch(1);
+
+        List<CompletableFuture<String>> reads = IntStream.range(0, readers)
+                                                         .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                                                             awaitQuietly(start);
+                                                             return response.asString();
+                                                         }))
+                                                         .toList();
+        start.countDown();
+        var first = reads.getFirst()
+                         .join();
+
+        assertThat(reads).allSatisfy(read -> assertThat(read.join()).isSameAs(first));
+        assertThat(response.asString()).isSameAs(first);
+    }
+
+    @Test
+    public void binaryBodyIsKeptByteForByte() {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        var response = new Response(okHttpResponse(ResponseBody.create(bytes, BINARY)), OBJECT_MAPPER);
+
+        // Decoding to a String first would replace the invalid UTF-8 sequences
+        response.asString();
+        assertThat(response.asByteArray()).isEqualTo(bytes);
+    }
+
+    @Test
+    public void directBindingMatchesBindingFromTheCachedTree() {
+        String json = "{\"id\":\"bid-1\",\"price\":1.25,\"tags\":[\"a\",\"b\"],\"ext\":{\"deal\":7}}";
+        var direct = new Response(okHttpResponse(ResponseBody.create(json, JSON)), OBJECT_MAPPER);
+        var fromTree = new Response(okHttpResponse(ResponseBody.create(json, JSON)), OBJECT_MAPPER);
+        // Pretty-printing for the log builds the tree, which binding then reuses
+        fromTree.asPrettyString();
+
+        var bid = direct.as(Bid.class);
+        assertThat(bid.id).isEqualTo("bid-1");
+        assertThat(bid).usingRecursiveComparison()
+                       .isEqualTo(fromTree.as(Bid.class));
+    }
+
+    @Test
+    public void bodyIsWrittenToFileWithChecksum() throws Exception {
+        byte[] bytes = "x".repeat(200_000)
+                          .getBytes(StandardCharsets.UTF_8);
+        var target = Files.createTempFile("download", ".bin");
+        var closed = new AtomicBoolean();
+
+        try (var response = new StreamingResponse(okHttpResponse(trackedBody(bytes, closed, false)),
+                OBJECT_MAPPER)) {
+            var result = response.writeTo(target, "SHA-256");
+
+            assertThat(result.bytes()).isEqualTo(bytes.length);
+            assertThat(result.checksum()).isEqualTo(HexFormat.of()
+                                                             .formatHex(MessageDigest.getInstance("SHA-256")
+                                                                                     .digest(bytes)));
+        }
+        assertThat(Files.readAllBytes(target)).isEqualTo(bytes);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void bodyIsWrittenToFileWithoutChecksum() throws IOException {
+        byte[] bytes = "y".repeat(200_000)
+                          .getBytes(StandardCharsets.UTF_8);
+        var target = Files.createTempFile("download", ".bin");
+
+        var response = new StreamingResponse(okHttpResponse(ResponseBody.create(bytes, BINARY)), OBJECT_MAPPER);
+
+        assertThat(response.writeTo(target)).isEqualTo(bytes.length);
+        assertThat(Files.readAllBytes(target)).isEqualTo(bytes);
+    }
+
+    @Test
+    public void bodyIsClosedWhenReadingFails() throws IOException {
+        var target = Files.createTempFile("download", ".bin");
+        var closed = new AtomicBoolean();
+        var response = new StreamingResponse(okHttpResponse(trackedBody(new byte[100_000], closed, true)),
+                OBJECT_MAPPER);
+
+        assertThatThrownBy(() -> response.writeTo(target, "MD5")).isInstanceOf(HttpClientException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void bodyIsClosedWhenTheFileCannotBeOpened() throws IOException {
+        var directory = Files.createTempDirectory("download");
+        var closed = new AtomicBoolean();
+        var response = new StreamingResponse(okHttpResponse(trackedBody(new byte[10], closed, false)),
+                OBJECT_MAPPER);
+
+        assertThatThrownBy(() -> response.writeTo(directory)).isInstanceOf(HttpClientException.class);
+        assertThat(closed).isTrue();
+    }
+
+    private static okhttp3.Response okHttpResponse(ResponseBody body) {
+        return new okhttp3.Response.Builder().request(new Request.Builder().url("http://localhost/bid")
+                                                                           .build())
+                                             .protocol(Protocol.HTTP_1_1)
+                                             .code(200)
+                                             .message("OK")
+                                             .body(body)
+                                             .build();
+    }
+
+    /**
+     * A body that records being closed and can fail after its first read.
+     */
+    private static ResponseBody trackedBody(byte[] bytes, AtomicBoolean closed, boolean failAfterFirstRead) {
+        Source source = new ForwardingSource(new Buffer().write(bytes)) {
+            private boolean read;
+
+            @Override
+            public long read(@NotNull Buffer sink, long byteCount) throws IOException {
+                if (failAfterFirstRead && read) {
+                    throw new IOException("Connection reset");
+                }
+                read = true;
+                return super.read(sink, Math.min(byteCount, 1024));
+            }
+
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+        return ResponseBody.create(Okio.buffer(source), BINARY, bytes.length);
+    }
+
+    private static final class Bid {
+        private String id;
+        private double price;
+        private List<String> tags;
+        private Map<String, Object> ext;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.xenoss.unit;
+
+import io.xenoss.http.HttpClientFactory;
+import io.xenoss.http.Response;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualThreadHttpTest {
+    // More than the 64 calls the default OkHttp dispatcher runs at once
+    private static final int CONCURRENT_CALLS = 80;
+
+    private final MockWebServer server = new MockWebServer();
+    private final CountDownLatch received = new CountDownLatch(CONCURRENT_CALLS);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) throws InterruptedException {
+                received.countDown();
+                release.await(30, TimeUnit.SECONDS);
+                return new MockResponse().setBody("{\"ok\":true}");
+            }
+        });
+        server.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() throws IOException {
+        release.countDown();
+        server.shutdown();
+    }
+
+    @Test
+    public void http1CallsFromVirtualThreadsBypassTheDispatcher() throws Exception {
+        OkHttpClient client = new OkHttpClient();
+        String url = server.url("/bid")
+                           .toString();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Response>> calls = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CALLS; i++) {
+                calls.add(executor.submit(() -> HttpClientFactory.given(client)
+                                                                 .get(url)));
+            }
+
+            // Every call reached the server at once, none of them went through the dispatcher
+            assertThat(received.await(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(client.dispatcher()
+                             .runningCallsCount()).isZero();
+            assertThat(client.dispatcher()
+                             .queuedCallsCount()).isZero();
+
+            release.countDown();
+            for (var call : calls) {
+                assertThat(call.get(30, TimeUnit.SECONDS)
+                               .getStatusCode()).isEqualTo(200);
+            }
+        }
+    }
+}
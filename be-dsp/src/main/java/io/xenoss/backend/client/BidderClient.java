@@ -4,10 +4,8 @@ import io.xenoss.backend.model.creative.CreativeType;
 import io.xenoss.http.Response;
 import io.xenoss.backend.model.bidding.response.BidEntity;
 import io.xenoss.backend.model.bidding.BaseExchange;
-import io.xenoss.backend.model.content.nativead.response.NativeAdResponseEntity;
 import io.xenoss.backend.model.content.vast.VastEvent;
 import io.xenoss.backend.model.creative.OpenRtbPlacementType;
-import io.xenoss.backend.model.content.vast.VastVideo;
 import io.xenoss.config.ConfigurationManager;
 import io.xenoss.config.EnvironmentConfig;
 import io.xenoss.utils.ActionTimer;
@@ -16,16 +14,18 @@ import io.xenoss.utils.RandomUtils;
 
 import io.xenoss.utils.RegexUtils;
 import io.xenoss.utils.SerializationUtils;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.testng.TestException;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import static java.net.HttpURLConnection.HTTP_MOVED_TEMP;
 import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
@@ -38,6 +38,9 @@ public class BidderClient extends BaseClient {
     private static final String EVENT_PATH = "t/%s";
     private static final EnvironmentConfig CONFIG = ConfigurationManager.getConfig()
                                                                         .getEnvironmentConfig();
+    private static final CreativeCache CREATIVES = new CreativeCache(CreativeCache.DEFAULT_MAXIMUM_SIZE);
+    private static final boolean PARALLEL_TRACKERS = ConfigurationManager.getConfig()
+                                                                         .getParallelTrackers();
 
     // Instance fields
     private final BaseExchange exchange;
@@ -70,6 +73,10 @@ public class BidderClient extends BaseClient {
                 : exchange.getUrl(), bidRequest);
     }
 
+    public CompletableFuture<Response> sendBidRequestAsync(String bidRequest) {
+        return postAsync(exchange.getUrl(), bidRequest);
+    }
+
     public Response sendWinNotice(BidEntity bid, CreativeType type) {
         return sendWinNotice(bid, type.getOpenRtbCreativeType());
     }
@@ -81,49 +88,46 @@ public class BidderClient extends BaseClient {
         String impressionUrl = switch (impressionType) {
             case IB -> bid.getBurl();
             case IW -> bid.getNurl();
-            case IV -> SerializationUtils.fromXml(bid.getAdm(), VastVideo.class)
-                                         .getAd()
-                                         .getInLine()
-                                         .getImpression()
-                                         .stream()
-                                         .filter(imp -> imp.contains(auctionPricePlaceholder))
-                                         .findFirst()
-                                         .orElseThrow()
-                                         .trim();
+            case IV -> CREATIVES.trackers(bid.getAdm(), OpenRtbPlacementType.VIDEO)
+                                .impressions()
+                                .stream()
+                                .filter(imp -> imp.contains(auctionPricePlaceholder))
+                                .findFirst()
+                                .orElseThrow();
             default -> null;
         };
 
         assert impressionUrl != null;
 
         if (type == OpenRtbPlacementType.VIDEO) {
-            var impTrackers = SerializationUtils.fromXml(bid.getAdm(), VastVideo.class)
-                                                .getAd()
-                                                .getInLine()
-                                                .getImpression()
-                                                .stream()
-                                                .filter(imp -> !imp.contains(auctionPricePlaceholder))
-                                                .toList();
-            for (var impTracker : impTrackers) {
-                log.info("Triggering Impression Tracker for Video creative...");
-                noticesClient.get(impTracker);
+            var impTrackers = CREATIVES.trackers(bid.getAdm(), type)
+                                       .impressions()
+                                       .stream()
+                                       .filter(imp -> !imp.contains(auctionPricePlaceholder))
+                                       .toList();
+            if (PARALLEL_TRACKERS) {
+                fanOut("Impression", impTrackers, noticesClient::getAsync).assertNoErrors();
+            } else {
+                for (var impTracker : impTrackers) {
+                    log.info("Triggering Impression Tracker for Video creative...");
+                    noticesClient.get(impTracker);
+                }
             }
-        } else if (bid.getAdm() != null) {
-            var htmlContent = Jsoup.parse(bid.getAdm());
-            var impTrackers = htmlContent.getElementsByTag("img")
-                                         .stream()
-                                         .filter(img -> img.attribute("height") != null
-                                                 && img.attribute("height")
-                                                       .getValue()
-                                                       .equalsIgnoreCase("1"))
-                                         .map(img -> img.attribute("src")
-                                                        .getValue())
-                                         .toList();
-            for (var impTracker : impTrackers) {
-                log.info("Triggering Impression Tracker for HTML creative...");
-                doClick(impTracker);
+        } else if (type != OpenRtbPlacementType.NATIVE && bid.getAdm() != null) {
+            // Native markup is JSON and has no HTML impression pixels
+            var impTrackers = CREATIVES.trackers(bid.getAdm(), type)
+                                       .impressions();
+            if (PARALLEL_TRACKERS) {
+                fanOut("Impression", impTrackers, this::doClickAsync).assertNoErrors();
+            } else {
+                for (var impTracker : impTrackers) {
+                    log.info("Triggering Impression Tracker for HTML creative...");
+                    doClick(impTracker);
+                }
             }
         }
 
+        // The win notice is sent only once the trackers have completed
         return sendWinNotice(impressionUrl.replace(auctionPricePlaceholder, bid.getPrice()
                                                                                .toString()));
     }
@@ -138,41 +142,31 @@ public class BidderClient extends BaseClient {
         return doClick(bid, type.getOpenRtbCreativeType());
     }
 
-    @SneakyThrows
     public Response doClick(BidEntity bid, OpenRtbPlacementType type) {
-        if (type.equals(OpenRtbPlacementType.VIDEO)) {
-            var vastContent = SerializationUtils.fromXml(bid.getAdm(), VastVideo.class);
-            var vastClicks = vastContent.getAd()
-                                        .getInLine()
-                                        .getCreatives()
-                                        .getFirst()
-                                        .getLinear()
-                                        .getVideoClicks();
-
-            for (var clickTracker : vastClicks.getClickTracking()) {
-                log.info("Triggering Click Tracker for Video creative...");
-                doClick(clickTracker.trim());
-            }
-            return doClick(vastClicks.getClickThrough());
-        } else if (type.equals(OpenRtbPlacementType.NATIVE)) {
-            var nativeContent = bid.getAdm() == null
-                    ? SerializationUtils.fromJson(SerializationUtils.toJson(bid.getExt()), NativeAdResponseEntity.class)
-                    : SerializationUtils.fromJson(bid.getAdm(), NativeAdResponseEntity.class);
-
-            var linkSection = nativeContent.getNativeAd()
-                                           .getLink();
-            for (var clickTracker : linkSection.getClicktrackers()) {
+        var markup = type == OpenRtbPlacementType.NATIVE && bid.getAdm() == null
+                ? SerializationUtils.toJson(bid.getExt())
+                : bid.getAdm();
+        var trackers = CREATIVES.trackers(markup, type);
+        if (trackers.clickThrough() == null) {
+            throw new TestException(String.format("No click URL in %s creative", type));
+        }
+
+        if (PARALLEL_TRACKERS) {
+            fanOut("Click", trackers.clickTrackers(), this::doClickAsync).assertNoErrors();
+        } else {
+            for (var clickTracker : trackers.clickTrackers()) {
+                log.info("Triggering Click Tracker for {} creative...", type);
                 doClick(clickTracker);
             }
-            return doClick(linkSection.getUrl());
-        } else {
-            var htmlContent = Jsoup.parse(bid.getAdm());
-            var clickUrl = htmlContent.getElementsByTag("a")
-                                      .getFirst()
-                                      .attribute("href")
-                                      .getValue();
-            return doClick(clickUrl);
         }
+        return doClick(trackers.clickThrough());
+    }
+
+    /**
+     * @return the cache of parsed creatives shared by all bidder clients
+     */
+    public static CreativeCache getCreativeCache() {
+        return CREATIVES;
     }
 
     public Response doClick(String url) {
@@ -203,22 +197,41 @@ public class BidderClient extends BaseClient {
     }
 
     public void sendVideoEvents(List<VastEvent> eventNames, BidEntity bid) {
-        var vastContent = SerializationUtils.fromXml(bid.getAdm(), VastVideo.class);
-        var trackingEvents = vastContent.getAd()
-                                        .getInLine()
-                                        .getCreatives()
-                                        .getFirst()
-                                        .getLinear()
-                                        .getTrackingEvents();
-        for (var eventName : eventNames) {
-            assertThat(noticesClient.get(trackingEvents.stream()
-                                                       .filter(trackingEntity -> trackingEntity.getEvent()
-                                                                                               .equals(eventName))
-                                                       .findFirst()
-                                                       .orElseThrow(() -> new TestException(String.format("No %s event", eventName)))
-                                                       .getValue())
+        var trackingEvents = CREATIVES.trackers(bid.getAdm(), OpenRtbPlacementType.VIDEO)
+                                      .events();
+        var urls = eventNames.stream()
+                             .map(eventName -> Optional.ofNullable(trackingEvents.get(eventName))
+                                                       .orElseThrow(() -> new TestException(
+                                                               String.format("No %s event", eventName))))
+                             .toList();
+
+        if (PARALLEL_TRACKERS) {
+            fanOut("Video event", urls, noticesClient::getAsync).assertAllStatus(HTTP_NO_CONTENT);
+            return;
+        }
+        for (var url : urls) {
+            assertThat(noticesClient.get(url)
                                     .statusCode())
                     .isEqualTo(HTTP_NO_CONTENT);
         }
     }
+
+    private CompletableFuture<Response> doClickAsync(String url) {
+        return noticesClient.getAsync(url, null, true, false)
+                            .thenCompose(response -> response.statusCode() == HTTP_MOVED_TEMP
+                                    ? noticesClient.getAsync(URLDecoder.decode(response.getHeader("Location"),
+                                    StandardCharsets.UTF_8))
+                                    : CompletableFuture.completedFuture(response));
+    }
+
+    private static TrackerFanOut.Result fanOut(String kind, List<String> urls,
+                                               Function<String, CompletableFuture<Response>> sender) {
+        if (urls.isEmpty()) {
+            return new TrackerFanOut.Result(List.of(), Duration.ZERO);
+        }
+        log.info("Triggering {} {} Trackers concurrently...", urls.size(), kind);
+        var result = TrackerFanOut.fire(urls, sender);
+        log.info("{} Trackers: {}", kind, result);
+        return result;
+    }
 }
@@ -0,0 +1,121 @@
+package io.xenoss.backend.client;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.xenoss.backend.model.content.CreativeTrackers;
+import io.xenoss.backend.model.content.nativead.response.NativeAdResponseEntity;
+import io.xenoss.backend.model.content.vast.VastTrackerExtractor;
+import io.xenoss.backend.model.creative.OpenRtbPlacementType;
+import io.xenoss.exceptions.FrameworkException;
+import io.xenoss.utils.SerializationUtils;
+import org.jsoup.Jsoup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the trackers parsed from bid {@code adm} markup.
+ * <p>
+ * A bid's creative is needed for the win notice, the click and every video event, so without the cache the same
+ * markup is parsed several times per funnel. Entries are keyed on the markup itself; the least recently used ones
+ * are evicted once a format holds {@code maximumSize} entries.
+ * <ul>
+ *     <li>VAST - streamed with {@link VastTrackerExtractor}</li>
+ *     <li>native - bound to {@link NativeAdResponseEntity}</li>
+ *     <li>HTML - parsed with Jsoup: 1x1 images are impression trackers, the first link is the click-through</li>
+ * </ul>
+ */
+public final class CreativeCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 1_024;
+
+    private final LoadingCache<String, CreativeTrackers> vast;
+    private final LoadingCache<String, CreativeTrackers> nativeAds;
+    private final LoadingCache<String, CreativeTrackers> html;
+
+    /**
+     * @param maximumSize maximum number of cached creatives per format
+     */
+    public CreativeCache(long maximumSize) {
+        this.vast = build(maximumSize, VastTrackerExtractor::extract);
+        this.nativeAds = build(maximumSize, CreativeCache::parseNative);
+        this.html = build(maximumSize, CreativeCache::parseHtml);
+    }
+
+    /**
+     * Returns the trackers of a creative, parsing it on first use.
+     *
+     * @param markup the bid's {@code adm}, or the native object for native bids without one
+     * @param type placement type, which defines the markup format
+     * @return the trackers
+     */
+    public CreativeTrackers trackers(String markup, OpenRtbPlacementType type) {
+        Objects.requireNonNull(markup, "Creative markup is null");
+        var cache = switch (type) {
+            case VIDEO -> vast;
+            case NATIVE -> nativeAds;
+            default -> html;
+        };
+        try {
+            return cache.getUnchecked(markup);
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new FrameworkException("Failed to parse creative", e.getCause());
+        }
+    }
+
+    /**
+     * @return hit and load statistics summed over all formats
+     */
+    public CacheStats getStats() {
+        return vast.stats()
+                   .plus(nativeAds.stats())
+                   .plus(html.stats());
+    }
+
+    /**
+     * Discards all cached creatives.
+     */
+    public void invalidateAll() {
+        vast.invalidateAll();
+        nativeAds.invalidateAll();
+        html.invalidateAll();
+    }
+
+    private static LoadingCache<String, CreativeTrackers> build(long maximumSize,
+                                                                Function<String, CreativeTrackers> parser) {
+        return CacheBuilder.newBuilder()
+                           .maximumSize(maximumSize)
+                           .recordStats()
+                           .build(CacheLoader.from(parser::apply));
+    }
+
+    private static CreativeTrackers parseNative(String json) {
+        var nativeAd = SerializationUtils.fromJson(json, NativeAdResponseEntity.class)
+                                         .getNativeAd();
+        var link = nativeAd.getLink();
+        return new CreativeTrackers(
+                Objects.requireNonNullElse(nativeAd.getImptrackers(), List.of()),
+                link == null ? null : link.getUrl(),
+                link == null ? List.of() : Objects.requireNonNullElse(link.getClicktrackers(), List.of()),
+                Map.of());
+    }
+
+    private static CreativeTrackers parseHtml(String markup) {
+        var document = Jsoup.parse(markup);
+        var impressions = document.getElementsByTag("img")
+                                  .stream()
+                                  .filter(img -> "1".equalsIgnoreCase(img.attr("height")))
+                                  .map(img -> img.attr("src"))
+                                  .toList();
+        var link = document.getElementsByTag("a")
+                           .first();
+        return new CreativeTrackers(impressions, link == null ? null : link.attr("href"), List.of(), Map.of());
+    }
+}
@@ -1,5 +1,10 @@
 package io.xenoss.backend.client;
 
+import io.xenoss.http.DownloadResult;
+import io.xenoss.http.StreamingResponse;
+
+import java.nio.file.Path;
+
 import static java.net.HttpURLConnection.HTTP_OK;
 
 public class FileDownloadClient extends BaseClient {
@@ -8,10 +13,43 @@ public class FileDownloadClient extends BaseClient {
     }
 
     public byte[] downloadFile(String path) {
-        return get(path).then()
-                        .assertThat()
-                        .statusCode(HTTP_OK)
-                        .extract()
-                        .asByteArray();
+        // Stream straight into a byte[] instead of buffering the body as a String first
+        try (var response = getStreaming(path)) {
+            assertOk(response);
+            return response.asByteArray();
+        }
+    }
+
+    /**
+     * Streams the file into the target path without holding it in memory.
+     *
+     * @param path the file URL
+     * @param target the file to write
+     * @return the download result
+     */
+    public DownloadResult downloadTo(String path, Path target) {
+        return downloadTo(path, target, null);
+    }
+
+    /**
+     * Streams the file into the target path, computing a checksum on the fly.
+     *
+     * @param path the file URL
+     * @param target the file to write
+     * @param digestAlgorithm checksum algorithm, e.g. "MD5" or "SHA-256"; null for none
+     * @return the download result with the checksum
+     */
+    public DownloadResult downloadTo(String path, Path target, String digestAlgorithm) {
+        try (var response = getStreaming(path)) {
+            assertOk(response);
+            return response.writeTo(target, digestAlgorithm);
+        }
+    }
+
+    private static void assertOk(StreamingResponse response) {
+        if (response.getStatusCode() != HTTP_OK) {
+            throw new AssertionError(String.format("Expected status code %d but was %d",
+                    HTTP_OK, response.getStatusCode()));
+        }
     }
 }
@@ -0,0 +1,142 @@
+package io.xenoss.backend.client;
+
+import io.xenoss.exceptions.HttpClientException;
+import io.xenoss.http.Response;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires independent tracker URLs concurrently and aggregates the outcome.
+ * <p>
+ * Requests are enqueued through the asynchronous client methods, so concurrency is bounded by the shared OkHttp
+ * dispatcher and no thread is held per tracker. A funnel with N trackers costs one round trip instead of N.
+ * Callers keep ordering where the protocol needs it, e.g. trackers complete before the win notice is sent.
+ */
+public final class TrackerFanOut {
+    private TrackerFanOut() {
+    }
+
+    /**
+     * Sends all trackers at once and waits for every one of them to complete.
+     *
+     * @param urls tracker URLs
+     * @param sender sends one tracker request asynchronously
+     * @return the per-tracker outcome, in the order of {@code urls}
+     */
+    public static Result fire(Collection<String> urls, Function<String, CompletableFuture<Response>> sender) {
+        long started = System.nanoTime();
+        var calls = urls.stream()
+                        .map(url -> send(url, sender))
+                        .toList();
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new))
+                         .join();
+        return new Result(calls.stream()
+                               .map(CompletableFuture::join)
+                               .toList(), Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private static CompletableFuture<Call> send(String url, Function<String, CompletableFuture<Response>> sender) {
+        long started = System.nanoTime();
+        CompletableFuture<Response> response;
+        try {
+            response = sender.apply(url);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        return response.handle((result, error) -> new Call(url,
+                result == null ? -1 : result.getStatusCode(),
+                Duration.ofNanos(System.nanoTime() - started),
+                error instanceof CompletionException && error.getCause() != null ? error.getCause() : error));
+    }
+
+    /**
+     * Outcome of a single tracker request.
+     *
+     * @param url the tracker URL
+     * @param statusCode the response status, -1 if the request failed
+     * @param latency time from enqueueing to completion
+     * @param error the failure, {@code null} if a response was received
+     */
+    public record Call(String url, int statusCode, Duration latency, Throwable error) {
+    }
+
+    /**
+     * Aggregated outcome of a fan-out.
+     *
+     * @param calls per-tracker outcome
+     * @param elapsed wall-clock time of the whole fan-out
+     */
+    public record Result(List<Call> calls, Duration elapsed) {
+        /**
+         * @return the number of trackers per status code, -1 counting failed requests
+         */
+        public Map<Integer, Long> statusCounts() {
+            return calls.stream()
+                        .collect(Collectors.groupingBy(Call::statusCode, TreeMap::new, Collectors.counting()));
+        }
+
+        /**
+         * @return the latency of the slowest tracker, zero if there were none
+         */
+        public Duration maxLatency() {
+            return calls.stream()
+                        .map(Call::latency)
+                        .max(Duration::compareTo)
+                        .orElse(Duration.ZERO);
+        }
+
+        /**
+         * Fails if any tracker request did not get a response.
+         *
+         * @return this result
+         * @throws HttpClientException naming the failed trackers, caused by the first failure
+         */
+        public Result assertNoErrors() {
+            var failed = calls.stream()
+                              .filter(call -> call.error() != null)
+                              .toList();
+            if (!failed.isEmpty()) {
+                throw new HttpClientException(String.format("%d of %d trackers failed: %s", failed.size(),
+                        calls.size(), failed.stream()
+                                            .map(Call::url)
+                                            .toList()), failed.getFirst()
+                                                              .error());
+            }
+            return this;
+        }
+
+        /**
+         * Asserts that every tracker responded with the expected status.
+         *
+         * @param expectedStatus the expected HTTP status
+         * @return this result
+         */
+        public Result assertAllStatus(int expectedStatus) {
+            assertNoErrors();
+            if (calls.isEmpty()) {
+                return this;
+            }
+            assertThat(statusCounts()).as("Tracker statuses of %s", calls.stream()
+                                                                        .map(Call::url)
+                                                                        .toList())
+                                      .containsOnlyKeys(expectedStatus);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d trackers in %d ms (slowest %d ms), statuses %s", calls.size(),
+                    elapsed.toMillis(), maxLatency().toMillis(), statusCounts());
+        }
+    }
+}
@@ -9,16 +9,14 @@ import io.xenoss.backend.model.bidding.response.trace.DecisionStagesEntity;
 import io.xenoss.http.Response;
 import io.xenoss.utils.ActionTimer;
 import io.xenoss.utils.SerializationUtils;
-import io.xenoss.utils.WaitUtils;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.testng.TestException;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
@@ -47,40 +45,31 @@ public interface BaseBiddingTest {
         return waitForStartBidding(exchange, bidRequest, 30);
     }
 
-    @SneakyThrows
     default Response waitForStartBidding(BaseExchange exchange, String bidRequest, int timeoutSeconds) {
-        var attempts = 0;
-        var timer = ActionTimer.start(timeoutSeconds);
-        while (!timer.isExpired()) {
-            var response = getBidderClient(exchange).sendBidRequest(bidRequest);
-            attempts++;
-            if (response.getStatusCode() == HTTP_OK) {
-                return response;
-            }
-            WaitUtils.forSeconds(1);
+        var attempts = new AtomicInteger();
+        var response = ActionTimer.waitFor(() -> {
+            attempts.incrementAndGet();
+            return getBidderClient(exchange).sendBidRequest(bidRequest);
+        }, r -> r.getStatusCode() == HTTP_OK, timeoutSeconds, false);
+        if (response != null && response.getStatusCode() == HTTP_OK) {
+            return response;
         }
 
         throw new NoBidException(String.format(
                 "No bid response in %s seconds (%s attempts). Response:\n%s",
-                attempts,
                 timeoutSeconds,
+                attempts.get(),
                 getBidderClient(exchange).sendBidRequest(bidRequest, true)
                                          .asString()
         ));
     }
 
-    @SneakyThrows
     default Response waitForNoBid(BaseExchange exchange, String bidRequest) {
         final int timeout = 30; // seconds
-        var timer = ActionTimer.start(timeout);
-
-        while (!timer.isExpired()) {
-            var response = getBidderClient(exchange).sendBidRequest(bidRequest);
-            if (response.getStatusCode() == HTTP_NO_CONTENT && response.asString()
-                                                                       .isEmpty()) {
-                return response;
-            }
-            WaitUtils.forSeconds(1);
+        var response = ActionTimer.waitFor(() -> getBidderClient(exchange).sendBidRequest(bidRequest),
+                BaseBiddingTest::isNoBid, timeout, false);
+        if (response != null && isNoBid(response)) {
+            return response;
         }
 
         throw new UnexpectedBidException(String.format(
@@ -95,7 +84,7 @@ public interface BaseBiddingTest {
         var response = waitForNoBid(exchange, bidRequest);
         var actualTrace = getBidderClient(exchange).sendBidRequest(bidRequest, true)
                                                    .asString();
-        var actualParsedTrace = parseBidResponseTrace(actualTrace);
+        var actualParsedTrace = BidResponseTraceParser.parse(actualTrace);
         if (expectedTrace.getTargetingTree() != null) {
             checkTargetingTree(actualParsedTrace.getTargetingTree(), expectedTrace.getTargetingTree());
         }
@@ -106,48 +95,9 @@ public interface BaseBiddingTest {
         return response;
     }
 
-    private static BidResponseTrace parseBidResponseTrace(String trace) {
-        var tree = new HashMap<String, List<String>>();
-        var found = new ArrayList<String>();
-        var traceRows = trace.split("\n");
-
-        var decisionStagesString = new StringBuilder();
-        var foundCollectionMode = false;
-        var decisionStageCollectionMode = false;
-
-        String treeRecord = null;
-        for (var row : traceRows) {
-            var trimmedRow = row.trim();
-            if (trimmedRow.startsWith("Found:")) {
-                foundCollectionMode = true;
-            } else if (trimmedRow.startsWith("[") && foundCollectionMode) {
-                decisionStageCollectionMode = true;
-                decisionStagesString.append(trimmedRow)
-                                    .append(System.lineSeparator());
-            } else if (trimmedRow.startsWith("(org=")) {
-                if (foundCollectionMode) {
-                    found.add(trimmedRow);
-                } else {
-                    treeRecord = trimmedRow;
-                    tree.put(treeRecord, new ArrayList<>());
-                }
-            } else {
-                if (decisionStageCollectionMode) {
-                    decisionStagesString.append(trimmedRow)
-                                        .append(System.lineSeparator());
-                } else if (treeRecord != null && tree.get(treeRecord) != null) {
-                    tree.get(treeRecord)
-                        .add(trimmedRow);
-                }
-            }
-        }
-
-        return BidResponseTrace.builder()
-                               .targetingTree(tree)
-                               .found(found)
-                               .decisionStages(SerializationUtils.fromJson(decisionStagesString.toString(), DecisionStagesEntity.class))
-                               .build();
-
+    private static boolean isNoBid(Response response) {
+        return response.getStatusCode() == HTTP_NO_CONTENT && response.asString()
+                                                                      .isEmpty();
     }
 
     private static void checkTargetingTree(Map<String, List<String>> actualTree, Map<String, List<String>> expectedTree) {
@@ -199,7 +149,7 @@ public interface BaseBiddingTest {
             assertThat(isFound)
                     .as("The following Decision Stage:\n%s\nis not found in\n%s",
                             expectedDecisionStage.toString(),
-                            SerializationUtils.toJson(actualDecisionStages))
+                            SerializationUtils.toPrettyJson(actualDecisionStages))
                     .isTrue();
         }
     }
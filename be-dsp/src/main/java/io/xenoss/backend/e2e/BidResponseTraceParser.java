@@ -0,0 +1,60 @@
+package io.xenoss.backend.e2e;
+
+import io.xenoss.backend.model.bidding.response.trace.BidResponseTrace;
+import io.xenoss.backend.model.bidding.response.trace.DecisionStagesEntity;
+import io.xenoss.utils.SerializationUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Parses the plain-text trace the bidder returns for bid requests sent with {@code ?trace=true}.
+ */
+public final class BidResponseTraceParser {
+    private BidResponseTraceParser() {
+    }
+
+    public static BidResponseTrace parse(String trace) {
+        var tree = new HashMap<String, List<String>>();
+        var found = new ArrayList<String>();
+        var traceRows = trace.split("\n");
+
+        var decisionStagesString = new StringBuilder();
+        var foundCollectionMode = false;
+        var decisionStageCollectionMode = false;
+
+        String treeRecord = null;
+        for (var row : traceRows) {
+            var trimmedRow = row.trim();
+            if (trimmedRow.startsWith("Found:")) {
+                foundCollectionMode = true;
+            } else if (trimmedRow.startsWith("[") && foundCollectionMode) {
+                decisionStageCollectionMode = true;
+                decisionStagesString.append(trimmedRow)
+                                    .append(System.lineSeparator());
+            } else if (trimmedRow.startsWith("(org=")) {
+                if (foundCollectionMode) {
+                    found.add(trimmedRow);
+                } else {
+                    treeRecord = trimmedRow;
+                    tree.put(treeRecord, new ArrayList<>());
+                }
+            } else {
+                if (decisionStageCollectionMode) {
+                    decisionStagesString.append(trimmedRow)
+                                        .append(System.lineSeparator());
+                } else if (treeRecord != null && tree.get(treeRecord) != null) {
+                    tree.get(treeRecord)
+                        .add(trimmedRow);
+                }
+            }
+        }
+
+        return BidResponseTrace.builder()
+                               .targetingTree(tree)
+                               .found(found)
+                               .decisionStages(SerializationUtils.fromJson(decisionStagesString.toString(), DecisionStagesEntity.class))
+                               .build();
+    }
+}
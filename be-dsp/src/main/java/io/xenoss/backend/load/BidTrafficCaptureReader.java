@@ -0,0 +1,168 @@
+package io.xenoss.backend.load;
+
+import io.xenoss.exceptions.FrameworkException;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads a capture written by {@link BidTrafficCaptureWriter} from a memory mapping.
+ * <p>
+ * Iterating decodes one segment at a time and the next one in the background, so the caller does no file I/O and
+ * no decompression, and at most two segments are held in memory. A segment cut short, e.g. by an interrupted
+ * capture, ends the iteration.
+ */
+public class BidTrafficCaptureReader implements Iterable<CapturedBidRequest> {
+    private final Path file;
+    private final ByteBuffer capture;
+
+    private BidTrafficCaptureReader(Path file, ByteBuffer capture) {
+        this.file = file;
+        this.capture = capture;
+    }
+
+    /**
+     * Maps a capture file.
+     *
+     * @param file the capture file
+     * @return the reader
+     */
+    public static BidTrafficCaptureReader open(Path file) throws IOException {
+        ByteBuffer capture;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(String.format("Capture %s is larger than 2 GB", file));
+            }
+            // The mapping stays valid after the channel is closed
+            capture = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (capture.limit() < BidTrafficCaptureWriter.FILE_HEADER_BYTES
+                || capture.getInt(0) != BidTrafficCaptureWriter.MAGIC
+                || capture.getInt(Integer.BYTES) != BidTrafficCaptureWriter.VERSION) {
+            throw new IOException(String.format("%s is not a bid traffic capture of version %d", file,
+                    BidTrafficCaptureWriter.VERSION));
+        }
+        return new BidTrafficCaptureReader(file, capture);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public Iterator<CapturedBidRequest> iterator() {
+        return new SegmentIterator();
+    }
+
+    /**
+     * Decodes the segment at the given offset.
+     *
+     * @param offset where the segment header starts
+     * @return the segment, or null if there are no more complete segments
+     */
+    private Segment decode(int offset) {
+        if (offset + BidTrafficCaptureWriter.SEGMENT_HEADER_BYTES > capture.limit()) {
+            return null;
+        }
+        int payloadLength = capture.getInt(offset);
+        int rawLength = capture.getInt(offset + Integer.BYTES);
+        int count = capture.getInt(offset + 2 * Integer.BYTES);
+        boolean deflated = capture.get(offset + 3 * Integer.BYTES) != 0;
+        int payloadOffset = offset + BidTrafficCaptureWriter.SEGMENT_HEADER_BYTES;
+        if ((long) payloadOffset + payloadLength > capture.limit()) {
+            return null;
+        }
+
+        // Absolute slices keep the shared mapping free of position changes
+        var payload = capture.slice(payloadOffset, payloadLength);
+        var raw = new byte[rawLength];
+        if (deflated) {
+            inflate(payload, raw);
+        } else {
+            payload.get(raw);
+        }
+
+        List<CapturedBidRequest> requests = new ArrayList<>(count);
+        try (var in = new DataInputStream(new ByteArrayInputStream(raw))) {
+            for (int i = 0; i < count; i++) {
+                var exchange = in.readUTF();
+                long timestampMillis = in.readLong();
+                boolean gzip = in.readBoolean();
+                var body = new byte[in.readInt()];
+                in.readFully(body);
+                requests.add(new CapturedBidRequest(exchange, timestampMillis, gzip,
+                        new String(body, StandardCharsets.UTF_8)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Corrupted segment at offset %d of %s", offset, file), e);
+        }
+        return new Segment(requests, payloadOffset + payloadLength);
+    }
+
+    private void inflate(ByteBuffer payload, byte[] raw) {
+        var inflater = new Inflater();
+        try {
+            inflater.setInput(payload);
+            int inflated = 0;
+            while (inflated < raw.length && !inflater.finished()) {
+                inflated += inflater.inflate(raw, inflated, raw.length - inflated);
+            }
+            if (inflated != raw.length) {
+                throw new FrameworkException(String.format("Truncated compressed segment in %s", file));
+            }
+        } catch (DataFormatException e) {
+            throw new FrameworkException(String.format("Corrupted compressed segment in %s", file), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private record Segment(List<CapturedBidRequest> requests, int nextOffset) {
+    }
+
+    private final class SegmentIterator implements Iterator<CapturedBidRequest> {
+        private Segment current = decode(BidTrafficCaptureWriter.FILE_HEADER_BYTES);
+        private CompletableFuture<Segment> next = prefetch(current);
+        private int position;
+
+        @Override
+        public boolean hasNext() {
+            while (current != null && position == current.requests()
+                                                          .size()) {
+                current = next.join();
+                next = prefetch(current);
+                position = 0;
+            }
+            return current != null;
+        }
+
+        @Override
+        public CapturedBidRequest next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.requests()
+                          .get(position++);
+        }
+
+        private CompletableFuture<Segment> prefetch(Segment segment) {
+            return segment == null
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.supplyAsync(() -> decode(segment.nextOffset()));
+        }
+    }
+}
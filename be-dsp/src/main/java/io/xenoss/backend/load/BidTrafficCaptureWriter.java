@@ -0,0 +1,113 @@
+package io.xenoss.backend.load;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+
+/**
+ * Writes captured bid requests to a file for {@link BidTrafficReplayer}.
+ * <p>
+ * The file starts with a magic number and a version, followed by segments of about 1 MB of records. A segment is
+ * length-prefixed: the size of its payload, the size once inflated, the record count and whether the payload is
+ * deflated. A record is the exchange name, the capture timestamp, the gzip flag and the body. Records are expected
+ * in capture order. Appending is thread-safe.
+ */
+public class BidTrafficCaptureWriter implements Closeable {
+    static final int MAGIC = 0x58424944;
+    static final int VERSION = 1;
+    static final int FILE_HEADER_BYTES = 2 * Integer.BYTES;
+    static final int SEGMENT_HEADER_BYTES = 3 * Integer.BYTES + 1;
+    static final int SEGMENT_BYTES = 1 << 20;
+
+    private final DataOutputStream out;
+    private final Deflater deflater;
+    private final ByteArrayOutputStream segment = new ByteArrayOutputStream(SEGMENT_BYTES + (SEGMENT_BYTES >> 4));
+    private final DataOutputStream records = new DataOutputStream(segment);
+    private final byte[] deflateBuffer = new byte[64 * 1024];
+    private int segmentRecords;
+
+    /**
+     * Creates the capture file, replacing an existing one.
+     *
+     * @param file the capture file
+     * @param compress whether to deflate the segments; bid requests typically shrink 5 to 10 times
+     */
+    public BidTrafficCaptureWriter(Path file, boolean compress) throws IOException {
+        var parent = file.toAbsolutePath()
+                         .getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        this.deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    /**
+     * Appends a bid request to the current segment, writing the segment once it is full.
+     *
+     * @param request the captured bid request
+     */
+    public synchronized void append(CapturedBidRequest request) throws IOException {
+        var body = request.body()
+                          .getBytes(StandardCharsets.UTF_8);
+        records.writeUTF(request.exchange());
+        records.writeLong(request.timestampMillis());
+        records.writeBoolean(request.gzip());
+        records.writeInt(body.length);
+        records.write(body);
+        segmentRecords++;
+        if (segment.size() >= SEGMENT_BYTES) {
+            writeSegment();
+        }
+    }
+
+    /**
+     * Writes the last segment and closes the file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            writeSegment();
+        } finally {
+            out.close();
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    private void writeSegment() throws IOException {
+        if (segmentRecords == 0) {
+            return;
+        }
+        var raw = segment.toByteArray();
+        var payload = deflater == null ? raw : deflate(raw);
+        out.writeInt(payload.length);
+        out.writeInt(raw.length);
+        out.writeInt(segmentRecords);
+        out.writeBoolean(deflater != null);
+        out.write(payload);
+        segment.reset();
+        segmentRecords = 0;
+    }
+
+    private byte[] deflate(byte[] raw) {
+        var deflated = new ByteArrayOutputStream(raw.length / 4);
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        while (!deflater.finished()) {
+            int length = deflater.deflate(deflateBuffer);
+            deflated.write(deflateBuffer, 0, length);
+        }
+        return deflated.toByteArray();
+    }
+}
@@ -0,0 +1,181 @@
+package io.xenoss.backend.load;
+
+import io.xenoss.backend.client.BidderClient;
+import io.xenoss.backend.model.bidding.BaseExchange;
+import io.xenoss.exceptions.FrameworkException;
+import io.xenoss.testdata.BidRequestData;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-loop bid request generator.
+ * <p>
+ * Requests are fired on a fixed schedule derived from the target QPS and the ramp profile, whether or not
+ * earlier requests have returned. If the scheduler falls behind, it catches up immediately and the delay is
+ * counted in the latency, which is measured from the intended send time. This keeps a slow bidder from hiding
+ * its tail latency by slowing down the load (coordinated omission).
+ * <p>
+ * Usage:
+ * <pre>{@code
+ * var report = BidTrafficGenerator.builder()
+ *         .exchange(exchange)
+ *         .bidRequestFileName("banner")
+ *         .targetQps(500)
+ *         .rampProfile(RampProfile.linear(Duration.ofSeconds(10)))
+ *         .duration(Duration.ofMinutes(1))
+ *         .build()
+ *         .run();
+ * }</pre>
+ */
+@Slf4j
+public class BidTrafficGenerator {
+
+    private final BaseExchange exchange;
+    private final Supplier<String> bidRequestSupplier;
+    private final double targetQps;
+    private final RampProfile rampProfile;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final Duration drainTimeout;
+    private final BidderClient client;
+
+    /**
+     * @param exchange the exchange to send bid requests to
+     * @param bidRequestFileName bid request template name, resolved via {@link BidRequestData}
+     * @param bidRequestParams template parameters
+     * @param bidRequestSupplier custom bid request source; takes precedence over the template
+     * @param targetQps target requests per second, at least {@link RampProfile#MIN_QPS}
+     * @param rampProfile how the rate evolves over the run, constant by default
+     * @param duration how long to generate traffic
+     * @param gzip whether to gzip bid requests
+     * @param maxInFlight requests allowed in flight before new ones are dropped, 10000 by default
+     * @param drainTimeout how long to wait for in-flight requests after the run, 30 seconds by default
+     */
+    @Builder
+    private BidTrafficGenerator(BaseExchange exchange,
+                                String bidRequestFileName,
+                                Map<String, Object> bidRequestParams,
+                                Supplier<String> bidRequestSupplier,
+                                double targetQps,
+                                RampProfile rampProfile,
+                                Duration duration,
+                                boolean gzip,
+                                Integer maxInFlight,
+                                Duration drainTimeout) {
+        Objects.requireNonNull(exchange, "Exchange is required");
+        // The schedule never waits longer than 1 / MIN_QPS between requests, so a lower target could not be honored
+        if (!(targetQps >= RampProfile.MIN_QPS)) {
+            throw new FrameworkException(String.format("Target QPS must be at least %s, got: %s",
+                    RampProfile.MIN_QPS, targetQps));
+        }
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new FrameworkException("Duration must be positive");
+        }
+        if (bidRequestSupplier == null && bidRequestFileName == null) {
+            throw new FrameworkException("Either bid request file name or bid request supplier is required");
+        }
+
+        this.exchange = exchange;
+        this.targetQps = targetQps;
+        this.duration = duration;
+        this.rampProfile = rampProfile == null ? RampProfile.constant() : rampProfile;
+        this.maxInFlight = maxInFlight == null ? 10_000 : maxInFlight;
+        this.drainTimeout = drainTimeout == null ? Duration.ofSeconds(30) : drainTimeout;
+
+        if (bidRequestSupplier == null) {
+            var bidRequestData = new BidRequestData();
+            var params = bidRequestParams == null ? Map.<String, Object>of() : bidRequestParams;
+            this.bidRequestSupplier = () -> bidRequestData.getBidRequest(exchange, bidRequestFileName, params);
+        } else {
+            this.bidRequestSupplier = bidRequestSupplier;
+        }
+
+        this.client = new BidderClient(exchange, gzip);
+        // Per-request logging and retries would distort both throughput and latency
+        this.client.setSilent(true);
+        this.client.setRetryAttempts(0);
+    }
+
+    /**
+     * Runs the traffic on the calling thread and waits for in-flight requests to complete.
+     *
+     * @return the run report
+     */
+    public BidTrafficReport run() {
+        var stats = new BidTrafficStats(exchange.getName());
+        log.info("Starting bid traffic to {}: target {} QPS for {}", exchange.getName(), targetQps, duration);
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long intended = start;
+        stats.publishTelemetry(start);
+
+        while (intended < end && !Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            if (now < intended) {
+                LockSupport.parkNanos(intended - now);
+                continue;
+            }
+
+            fire(stats, intended);
+
+            double qps = rampProfile.qpsAt(Duration.ofNanos(intended - start), duration, targetQps);
+            intended += (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(RampProfile.MIN_QPS, qps));
+        }
+        long elapsed = System.nanoTime() - start;
+
+        awaitDrain(stats);
+
+        var report = stats.finish(elapsed);
+        log.info("Bid traffic finished. {}", report);
+        return report;
+    }
+
+    /**
+     * Runs the traffic on a dedicated thread, e.g. to load several exchanges at once.
+     *
+     * @return a future completed with the run report
+     */
+    public CompletableFuture<BidTrafficReport> start() {
+        var result = new CompletableFuture<BidTrafficReport>();
+        var thread = new Thread(() -> {
+            try {
+                result.complete(run());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }, String.format("bid-traffic-%s", exchange.getName()));
+        thread.setDaemon(true);
+        thread.start();
+        return result;
+    }
+
+    private void fire(BidTrafficStats stats, long intendedStartNanos) {
+        if (stats.getInFlight() >= maxInFlight) {
+            stats.onDropped();
+            return;
+        }
+
+        stats.onSent();
+        try {
+            client.sendBidRequestAsync(bidRequestSupplier.get())
+                  .whenComplete((response, error) -> stats.onCompleted(intendedStartNanos, response, error));
+        } catch (Throwable t) {
+            stats.onCompleted(intendedStartNanos, null, t);
+        }
+    }
+
+    private void awaitDrain(BidTrafficStats stats) {
+        if (!stats.awaitDrain(drainTimeout)) {
+            log.warn("{} bid requests still in flight after {}", stats.getInFlight(), drainTimeout);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package io.xenoss.backend.load;
+
+import io.xenoss.backend.client.BidderClient;
+import io.xenoss.backend.model.bidding.BaseExchange;
+import io.xenoss.exceptions.FrameworkException;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Replays captured bid traffic against the bidder.
+ * <p>
+ * Every captured request is sent to the URL of the exchange with the captured name, gzipped if it was captured
+ * gzipped. With a timed {@link ReplaySpeed} the replay is open-loop like {@link BidTrafficGenerator}: requests
+ * follow the captured schedule whether or not earlier ones have returned, and latency is measured from the
+ * intended send time. At {@link ReplaySpeed#maxThroughput() max throughput} the next request is sent as soon as
+ * the in-flight limit allows. The capture is read through a memory mapping, so no file I/O happens per request.
+ * <p>
+ * Usage:
+ * <pre>{@code
+ * var report = BidTrafficReplayer.builder()
+ *         .capture(Path.of("captures/peak-hour.bin"))
+ *         .exchanges(List.of(new Verve(), new BidSwitch()))
+ *         .speed(ReplaySpeed.times(10))
+ *         .build()
+ *         .run();
+ * }</pre>
+ */
+@Slf4j
+public class BidTrafficReplayer {
+    private static final long CAPACITY_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final BidTrafficCaptureReader capture;
+    private final Map<String, BaseExchange> exchanges;
+    private final ReplaySpeed speed;
+    private final int maxInFlight;
+    private final Duration drainTimeout;
+    // Only used by the replay thread
+    private final Map<String, BidderClient[]> clients = new HashMap<>();
+
+    /**
+     * @param capture the capture file written by {@link BidTrafficCaptureWriter}
+     * @param exchanges the exchanges the captured requests are sent to, matched by name
+     * @param speed how fast to replay, the captured timing by default
+     * @param maxInFlight requests allowed in flight before new ones are dropped (or, at max throughput, delayed),
+     * 10000 by default
+     * @param drainTimeout how long to wait for in-flight requests after the run, 30 seconds by default
+     */
+    @Builder
+    private BidTrafficReplayer(Path capture,
+                               Collection<BaseExchange> exchanges,
+                               ReplaySpeed speed,
+                               Integer maxInFlight,
+                               Duration drainTimeout) {
+        Objects.requireNonNull(capture, "Capture file is required");
+        if (exchanges == null || exchanges.isEmpty()) {
+            throw new FrameworkException("At least one exchange is required");
+        }
+        try {
+            this.capture = BidTrafficCaptureReader.open(capture);
+        } catch (IOException e) {
+            throw new FrameworkException(String.format("Cannot open bid traffic capture %s", capture), e);
+        }
+
+        this.exchanges = exchanges.stream()
+                                  .collect(Collectors.toMap(BaseExchange::getName, Function.identity()));
+        this.speed = speed == null ? ReplaySpeed.original() : speed;
+        this.maxInFlight = maxInFlight == null ? 10_000 : maxInFlight;
+        this.drainTimeout = drainTimeout == null ? Duration.ofSeconds(30) : drainTimeout;
+    }
+
+    /**
+     * Replays the capture on the calling thread and waits for in-flight requests to complete.
+     *
+     * @return the run report
+     */
+    public BidTrafficReport run() {
+        var name = capture.getFile()
+                          .getFileName()
+                          .toString();
+        var stats = new BidTrafficStats(name);
+        log.info("Replaying bid traffic from {} at {}", name, speed);
+
+        long start = System.nanoTime();
+        stats.publishTelemetry(start);
+        long firstTimestamp = Long.MIN_VALUE;
+
+        for (var request : capture) {
+            if (Thread.currentThread()
+                      .isInterrupted()) {
+                break;
+            }
+            if (firstTimestamp == Long.MIN_VALUE) {
+                firstTimestamp = request.timestampMillis();
+            }
+
+            long intended;
+            if (speed.isMaxThroughput()) {
+                awaitCapacity(stats);
+                intended = System.nanoTime();
+            } else {
+                intended = start + speed.scheduleNanos(request.timestampMillis() - firstTimestamp);
+                for (long now = System.nanoTime(); now < intended; now = System.nanoTime()) {
+                    LockSupport.parkNanos(intended - now);
+                }
+            }
+            fire(stats, intended, request);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (!stats.awaitDrain(drainTimeout)) {
+            log.warn("{} bid requests still in flight after {}", stats.getInFlight(), drainTimeout);
+        }
+
+        var report = stats.finish(elapsed);
+        log.info("Bid traffic replay finished. {}", report);
+        return report;
+    }
+
+    /**
+     * Replays the capture on a dedicated thread, e.g. alongside generated traffic.
+     *
+     * @return a future completed with the run report
+     */
+    public CompletableFuture<BidTrafficReport> start() {
+        var result = new CompletableFuture<BidTrafficReport>();
+        var thread = new Thread(() -> {
+            try {
+                result.complete(run());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }, String.format("bid-replay-%s", capture.getFile()
+                                                 .getFileName()));
+        thread.setDaemon(true);
+        thread.start();
+        return result;
+    }
+
+    private void fire(BidTrafficStats stats, long intendedStartNanos, CapturedBidRequest request) {
+        if (stats.getInFlight() >= maxInFlight) {
+            stats.onDropped();
+            return;
+        }
+
+        var client = client(request);
+        stats.onSent();
+        try {
+            client.sendBidRequestAsync(request.body())
+                  .whenComplete((response, error) -> stats.onCompleted(intendedStartNanos, response, error));
+        } catch (Throwable t) {
+            stats.onCompleted(intendedStartNanos, null, t);
+        }
+    }
+
+    private void awaitCapacity(BidTrafficStats stats) {
+        while (stats.getInFlight() >= maxInFlight && !Thread.currentThread()
+                                                            .isInterrupted()) {
+            LockSupport.parkNanos(CAPACITY_POLL_NANOS);
+        }
+    }
+
+    /**
+     * Returns the client for the exchange and gzip flag of a captured request, creating it on first use.
+     */
+    private BidderClient client(CapturedBidRequest request) {
+        // Indexed by the gzip flag
+        var exchangeClients = clients.computeIfAbsent(request.exchange(), name -> new BidderClient[2]);
+        int slot = request.gzip() ? 1 : 0;
+        if (exchangeClients[slot] == null) {
+            var exchange = exchanges.get(request.exchange());
+            if (exchange == null) {
+                throw new FrameworkException(String.format("Captured bid request from unknown exchange %s. "
+                        + "Known exchanges: %s", request.exchange(), exchanges.keySet()));
+            }
+            var client = new BidderClient(exchange, request.gzip());
+            // Per-request logging and retries would distort both throughput and latency
+            client.setSilent(true);
+            client.setRetryAttempts(0);
+            exchangeClients[slot] = client;
+        }
+        return exchangeClients[slot];
+    }
+}
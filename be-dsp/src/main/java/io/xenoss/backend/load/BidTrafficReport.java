@@ -0,0 +1,57 @@
+package io.xenoss.backend.load;
+
+import io.xenoss.telemetry.LatencyHistogram;
+
+/**
+ * Result of a bid traffic run against a single exchange.
+ *
+ * @param exchangeName the exchange the traffic was sent to
+ * @param elapsedNanos run duration
+ * @param sent requests sent
+ * @param bids responses with HTTP 200
+ * @param noBids responses with HTTP 204
+ * @param otherStatuses responses with any other status
+ * @param errors requests failed without a response
+ * @param dropped requests skipped because the in-flight limit was reached
+ * @param latency latency distribution in microseconds, measured from the intended send time
+ */
+public record BidTrafficReport(
+        String exchangeName,
+        long elapsedNanos,
+        long sent,
+        long bids,
+        long noBids,
+        long otherStatuses,
+        long errors,
+        long dropped,
+        LatencyHistogram.Snapshot latency) {
+
+    /**
+     * @return completed requests per second over the run
+     */
+    public double achievedQps() {
+        return BidTrafficStats.achievedQps(completed(), elapsedNanos);
+    }
+
+    /**
+     * @return share of HTTP 200 among HTTP 200 and 204 responses, in range [0, 1]
+     */
+    public double bidRate() {
+        return BidTrafficStats.bidRate(bids, noBids);
+    }
+
+    /**
+     * @return requests that received a response or failed
+     */
+    public long completed() {
+        return bids + noBids + otherStatuses + errors;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Exchange %s: sent=%d, completed=%d, achievedQps=%.1f, bids=%d, noBids=%d, "
+                        + "otherStatuses=%d, errors=%d, dropped=%d, bidRate=%.2f%%%nLatency: %s",
+                exchangeName, sent, completed(), achievedQps(), bids, noBids, otherStatuses, errors, dropped,
+                bidRate() * 100, latency);
+    }
+}
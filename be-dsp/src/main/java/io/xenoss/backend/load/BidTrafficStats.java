@@ -0,0 +1,167 @@
+package io.xenoss.backend.load;
+
+import io.xenoss.http.Response;
+import io.xenoss.telemetry.LatencyHistogram;
+import io.xenoss.telemetry.TelemetryData;
+import io.xenoss.telemetry.TelemetryData.Counter;
+import io.xenoss.telemetry.TelemetryData.Gauge;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
+import static java.net.HttpURLConnection.HTTP_OK;
+
+/**
+ * Thread-safe counters and latency histogram collected while bid traffic is running.
+ * Latencies are measured from the intended send time, not from the moment the request left the client.
+ * The counters are published to the telemetry dashboard as they are, so the request path never formats anything.
+ */
+public class BidTrafficStats {
+    private static final long DRAIN_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final String exchangeName;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final Counter sent = new Counter();
+    private final Counter bids = new Counter();
+    private final Counter noBids = new Counter();
+    private final Counter otherStatuses = new Counter();
+    private final Counter errors = new Counter();
+    private final Counter dropped = new Counter();
+    private final Gauge inFlight = new Gauge();
+    private volatile long startNanos = System.nanoTime();
+    // Frozen when the run finishes, so the dashboard keeps showing the final rate
+    private volatile long finalElapsedNanos = -1;
+
+    public BidTrafficStats(String exchangeName) {
+        this.exchangeName = exchangeName;
+    }
+
+    /**
+     * Publishes the statistics of this run to the telemetry dashboard, replacing those of an earlier run to the
+     * same exchange. Derived values are formatted only when the dashboard is rendered.
+     *
+     * @param startNanos {@link System#nanoTime()} at which the run started
+     */
+    public void publishTelemetry(long startNanos) {
+        this.startNanos = startNanos;
+        var prefix = String.format("🚀 %s", exchangeName);
+        TelemetryData.view(prefix + " QPS", () -> String.format("%.1f", achievedQps(completed(), elapsedNanos())));
+        TelemetryData.view(prefix + " Bid Rate", () -> String.format("%.1f%%", bidRate(bids.value(),
+                noBids.value()) * 100));
+        TelemetryData.view(prefix + " Errors", () -> String.valueOf(errors.value() + otherStatuses.value()));
+        TelemetryData.view(prefix + " Latency", () -> latency.snapshot()
+                                                              .toString());
+        TelemetryData.publish(prefix + " Sent", sent);
+        TelemetryData.publish(prefix + " In Flight", inFlight);
+    }
+
+    /**
+     * Registers a request that is about to be sent.
+     */
+    public void onSent() {
+        sent.increment();
+        inFlight.add(1);
+    }
+
+    /**
+     * Registers a request skipped because too many requests were already in flight.
+     */
+    public void onDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Registers the outcome of a sent request.
+     *
+     * @param intendedStartNanos {@link System#nanoTime()} at which the request was scheduled
+     * @param response the response, or null if the request failed
+     * @param error the failure, or null if a response was received
+     */
+    public void onCompleted(long intendedStartNanos, Response response, Throwable error) {
+        latency.recordNanos(System.nanoTime() - intendedStartNanos);
+        inFlight.add(-1);
+
+        if (error != null || response == null) {
+            errors.increment();
+        } else if (response.getStatusCode() == HTTP_OK) {
+            bids.increment();
+        } else if (response.getStatusCode() == HTTP_NO_CONTENT) {
+            noBids.increment();
+        } else {
+            otherStatuses.increment();
+        }
+    }
+
+    /**
+     * Waits until every sent request has completed.
+     *
+     * @param timeout how long to wait
+     * @return false if requests are still in flight after the timeout
+     */
+    public boolean awaitDrain(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (inFlight.value() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(DRAIN_POLL_NANOS);
+        }
+        return inFlight.value() == 0;
+    }
+
+    public int getInFlight() {
+        return (int) inFlight.value();
+    }
+
+    public long getSent() {
+        return sent.value();
+    }
+
+    /**
+     * Freezes the run time shown on the dashboard and builds the final report.
+     *
+     * @param elapsedNanos time since the first scheduled request
+     * @return the report
+     */
+    public BidTrafficReport finish(long elapsedNanos) {
+        finalElapsedNanos = elapsedNanos;
+        return toReport(elapsedNanos);
+    }
+
+    /**
+     * Builds a report for the given elapsed run time.
+     *
+     * @param elapsedNanos time since the first scheduled request
+     * @return the report
+     */
+    public BidTrafficReport toReport(long elapsedNanos) {
+        return new BidTrafficReport(
+                exchangeName,
+                elapsedNanos,
+                sent.value(),
+                bids.value(),
+                noBids.value(),
+                otherStatuses.value(),
+                errors.value(),
+                dropped.value(),
+                latency.snapshot());
+    }
+
+    private long completed() {
+        return bids.value() + noBids.value() + otherStatuses.value() + errors.value();
+    }
+
+    private long elapsedNanos() {
+        long elapsed = finalElapsedNanos;
+        return elapsed >= 0 ? elapsed : System.nanoTime() - startNanos;
+    }
+
+    static double achievedQps(long completed, long elapsedNanos) {
+        double seconds = (double) elapsedNanos / TimeUnit.SECONDS.toNanos(1);
+        return seconds == 0 ? 0 : completed / seconds;
+    }
+
+    static double bidRate(long bids, long noBids) {
+        long answered = bids + noBids;
+        return answered == 0 ? 0 : (double) bids / answered;
+    }
+}
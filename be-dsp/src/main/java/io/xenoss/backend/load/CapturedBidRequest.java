@@ -0,0 +1,13 @@
+package io.xenoss.backend.load;
+
+/**
+ * A bid request captured from a real bid stream.
+ *
+ * @param exchange name of the exchange that sent it, matched against {@link
+ * io.xenoss.backend.model.bidding.BaseExchange#getName()} on replay
+ * @param timestampMillis when it was received
+ * @param gzip whether it was sent gzipped
+ * @param body the bid request JSON
+ */
+public record CapturedBidRequest(String exchange, long timestampMillis, boolean gzip, String body) {
+}
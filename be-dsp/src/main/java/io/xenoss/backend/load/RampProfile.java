@@ -0,0 +1,63 @@
+package io.xenoss.backend.load;
+
+import java.time.Duration;
+
+/**
+ * Defines how the request rate of a {@link BidTrafficGenerator} evolves over the run.
+ */
+@FunctionalInterface
+public interface RampProfile {
+    /**
+     * Lowest rate a profile may return, so that the gap to the next request stays bounded. Lower target rates are
+     * rejected by the generator; ramps start at this rate.
+     */
+    double MIN_QPS = 1;
+
+    /**
+     * Returns the rate to apply at the given point of the run.
+     *
+     * @param elapsed time since the run started
+     * @param duration total run duration
+     * @param targetQps the target rate of the run
+     * @return requests per second to apply at this moment
+     */
+    double qpsAt(Duration elapsed, Duration duration, double targetQps);
+
+    /**
+     * Runs at the target rate for the whole duration.
+     */
+    static RampProfile constant() {
+        return (elapsed, duration, targetQps) -> targetQps;
+    }
+
+    /**
+     * Grows the rate linearly from {@link #MIN_QPS} to the target over the ramp-up period, then holds it.
+     *
+     * @param rampUp time to reach the target rate
+     */
+    static RampProfile linear(Duration rampUp) {
+        return (elapsed, duration, targetQps) -> {
+            if (rampUp.isZero() || elapsed.compareTo(rampUp) >= 0) {
+                return targetQps;
+            }
+            double fraction = (double) elapsed.toNanos() / rampUp.toNanos();
+            return Math.max(MIN_QPS, targetQps * fraction);
+        };
+    }
+
+    /**
+     * Splits the run into equal steps, raising the rate by {@code targetQps / steps} at each step.
+     *
+     * @param steps number of steps; the last one runs at the target rate
+     */
+    static RampProfile steps(int steps) {
+        if (steps < 1) {
+            throw new IllegalArgumentException("Steps count must be positive");
+        }
+        return (elapsed, duration, targetQps) -> {
+            long stepNanos = Math.max(1, duration.toNanos() / steps);
+            long step = Math.min(steps, elapsed.toNanos() / stepNanos + 1);
+            return Math.max(MIN_QPS, targetQps * step / steps);
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package io.xenoss.backend.load;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How fast a {@link BidTrafficReplayer} plays a capture back.
+ *
+ * @param factor how many times faster than captured; infinite to send as fast as the bidder keeps up
+ */
+public record ReplaySpeed(double factor) {
+
+    public ReplaySpeed {
+        if (!(factor > 0)) {
+            throw new IllegalArgumentException("Replay speed must be positive");
+        }
+    }
+
+    /**
+     * Keeps the captured gaps between requests.
+     */
+    public static ReplaySpeed original() {
+        return new ReplaySpeed(1);
+    }
+
+    /**
+     * Shrinks the captured gaps between requests {@code factor} times.
+     *
+     * @param factor the speed-up, e.g. 10 to replay an hour of traffic in 6 minutes
+     */
+    public static ReplaySpeed times(double factor) {
+        return new ReplaySpeed(factor);
+    }
+
+    /**
+     * Ignores the captured timing and sends the next request as soon as the in-flight limit allows.
+     */
+    public static ReplaySpeed maxThroughput() {
+        return new ReplaySpeed(Double.POSITIVE_INFINITY);
+    }
+
+    public boolean isMaxThroughput() {
+        return Double.isInfinite(factor);
+    }
+
+    /**
+     * @param capturedOffsetMillis time between the first captured request and this one
+     * @return when to send this request, relative to the start of the replay
+     */
+    long scheduleNanos(long capturedOffsetMillis) {
+        return (long) (TimeUnit.MILLISECONDS.toNanos(capturedOffsetMillis) / factor);
+    }
+
+    @Override
+    public String toString() {
+        return isMaxThroughput() ? "max throughput" : String.format("%sx speed", factor);
+    }
+}
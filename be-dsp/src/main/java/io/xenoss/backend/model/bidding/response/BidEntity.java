@@ -1,5 +1,6 @@
 package io.xenoss.backend.model.bidding.response;
 
+import io.xenoss.utils.json.JsonFastPath;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -12,6 +13,7 @@ import java.util.Map;
 @SuperBuilder
 @EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor
+@JsonFastPath
 public class BidEntity {
     private String id;
     private String impid;
@@ -1,5 +1,6 @@
 package io.xenoss.backend.model.bidding.response;
 
+import io.xenoss.utils.json.JsonFastPath;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ import java.util.List;
 @SuperBuilder
 @EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor
+@JsonFastPath
 public class BidResponse {
     private List<SeatbidEntity> seatbid;
     private String bidid;
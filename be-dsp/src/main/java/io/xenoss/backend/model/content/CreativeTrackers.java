@@ -0,0 +1,25 @@
+package io.xenoss.backend.model.content;
+
+import io.xenoss.backend.model.content.vast.VastEvent;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * URLs the client fires for a creative, extracted once from the bid's {@code adm} regardless of its format.
+ *
+ * @param impressions impression trackers; for VAST this includes the price impression
+ * @param clickThrough landing (click) URL, {@code null} if the creative has none
+ * @param clickTrackers click trackers fired before the click-through
+ * @param events VAST tracking events, the first URL per event; empty for other formats
+ */
+public record CreativeTrackers(List<String> impressions,
+                               String clickThrough,
+                               List<String> clickTrackers,
+                               Map<VastEvent, String> events) {
+    public CreativeTrackers {
+        impressions = List.copyOf(impressions);
+        clickTrackers = List.copyOf(clickTrackers);
+        events = Map.copyOf(events);
+    }
+}
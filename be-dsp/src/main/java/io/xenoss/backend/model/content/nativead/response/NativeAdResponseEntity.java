@@ -1,6 +1,7 @@
 package io.xenoss.backend.model.content.nativead.response;
 
 import com.google.gson.annotations.SerializedName;
+import io.xenoss.utils.json.JsonFastPath;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -10,6 +11,7 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor
+@JsonFastPath
 public class NativeAdResponseEntity {
     @SerializedName("native")
     private NativeSubSectionEntity nativeAd;
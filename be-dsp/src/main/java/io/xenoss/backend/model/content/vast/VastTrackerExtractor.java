@@ -0,0 +1,119 @@
+package io.xenoss.backend.model.content.vast;
+
+import io.xenoss.backend.model.content.CreativeTrackers;
+import io.xenoss.exceptions.FrameworkException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming extractor of the tracker URLs in a VAST document.
+ * <p>
+ * Reads {@code Impression}, {@code Tracking}, {@code ClickThrough} and {@code ClickTracking} elements in a single
+ * pass without binding the {@link VastVideo} tree. As with the model, tracking events and clicks are taken from the
+ * first {@code Linear} only; tracking events the framework does not know are skipped.
+ */
+public final class VastTrackerExtractor {
+    private static final XMLInputFactory FACTORY = createFactory();
+    private static final Map<String, VastEvent> EVENTS = Arrays.stream(VastEvent.values())
+                                                               .collect(Collectors.toMap(VastEvent::toString,
+                                                                       Function.identity()));
+
+    private VastTrackerExtractor() {
+    }
+
+    /**
+     * Extracts the trackers of a VAST document.
+     *
+     * @param vast the VAST XML
+     * @return the trackers, with URLs trimmed
+     */
+    public static CreativeTrackers extract(String vast) {
+        var impressions = new ArrayList<String>();
+        var clickTrackers = new ArrayList<String>();
+        var events = new EnumMap<VastEvent, String>(VastEvent.class);
+        String clickThrough = null;
+        boolean inLinear = false;
+        boolean linearDone = false;
+
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.createXMLStreamReader(new StringReader(vast));
+            while (reader.hasNext()) {
+                int token = reader.next();
+                if (token == XMLStreamConstants.END_ELEMENT && "Linear".equals(reader.getLocalName())) {
+                    inLinear = false;
+                    linearDone = true;
+                }
+                if (token != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+
+                boolean firstLinear = inLinear && !linearDone;
+                switch (reader.getLocalName()) {
+                    case "Linear" -> inLinear = true;
+                    case "Impression" -> impressions.add(reader.getElementText()
+                                                               .trim());
+                    case "Tracking" -> {
+                        var event = EVENTS.get(reader.getAttributeValue(null, "event"));
+                        var url = reader.getElementText()
+                                        .trim();
+                        if (firstLinear && event != null) {
+                            events.putIfAbsent(event, url);
+                        }
+                    }
+                    case "ClickThrough" -> {
+                        var url = reader.getElementText()
+                                        .trim();
+                        if (firstLinear && clickThrough == null) {
+                            clickThrough = url;
+                        }
+                    }
+                    case "ClickTracking" -> {
+                        var url = reader.getElementText()
+                                        .trim();
+                        if (firstLinear) {
+                            clickTrackers.add(url);
+                        }
+                    }
+                    default -> {
+                        // Not a tracker
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new FrameworkException("Failed to extract VAST trackers", e);
+        } finally {
+            close(reader);
+        }
+        return new CreativeTrackers(impressions, clickThrough, clickTrackers, events);
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Nothing to release for an in-memory source
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        var factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
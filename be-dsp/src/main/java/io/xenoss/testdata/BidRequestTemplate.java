@@ -0,0 +1,172 @@
+package io.xenoss.testdata;
+
+import io.xenoss.utils.RandomUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bid request template parsed once into literal segments and {@code ${name}} placeholders.
+ * <p>
+ * Rendering is a single pass over the segments into a reusable per-thread buffer and follows the substitution
+ * rules of {@link BidRequestData}:
+ * <ul>
+ *     <li>{@code null} values, JSON objects/arrays (unless the key contains {@code _str}) and {@code number:}
+ *     values replace the quoted form {@code "${name}"}, so they are emitted without quotes</li>
+ *     <li>any other value replaces {@code ${name}} and keeps surrounding quotes</li>
+ *     <li>placeholders without a parameter are left as is, except {@code ${uuid}}, which is replaced by one
+ *     random UUID per rendered document</li>
+ * </ul>
+ */
+public final class BidRequestTemplate {
+    private static final String UUID = "uuid";
+    private static final String UUID_PLACEHOLDER = "${uuid}";
+    private static final String NUMBER_PREFIX = "number:";
+    private static final String STRING_KEY_MARKER = "_str";
+    private static final String NULL = "null";
+    /** Buffers grown beyond this size by an unusually large document are not kept for reuse. */
+    private static final int MAX_RETAINED_BUFFER = 1024 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final List<Object> segments;
+    private final int literalLength;
+
+    private BidRequestTemplate(List<Object> segments, int literalLength) {
+        this.segments = segments;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Parses template source.
+     *
+     * @param source the template text
+     * @return the compiled template
+     */
+    public static BidRequestTemplate compile(String source) {
+        var segments = new ArrayList<>();
+        int literalLength = 0;
+        int literalStart = 0;
+        int position = 0;
+
+        while (true) {
+            int open = source.indexOf("${", position);
+            int close = open < 0 ? -1 : source.indexOf('}', open + 2);
+            if (close < 0) {
+                break;
+            }
+
+            boolean quoted = open > literalStart && source.charAt(open - 1) == '"'
+                    && close + 1 < source.length() && source.charAt(close + 1) == '"';
+            int literalEnd = quoted ? open - 1 : open;
+            if (literalEnd > literalStart) {
+                segments.add(source.substring(literalStart, literalEnd));
+                literalLength += literalEnd - literalStart;
+            }
+            segments.add(new Placeholder(source.substring(open + 2, close), quoted));
+
+            literalStart = quoted ? close + 2 : close + 1;
+            position = literalStart;
+        }
+
+        if (literalStart < source.length()) {
+            segments.add(source.substring(literalStart));
+            literalLength += source.length() - literalStart;
+        }
+        return new BidRequestTemplate(List.copyOf(segments), literalLength);
+    }
+
+    /**
+     * Renders the template with the given parameters.
+     *
+     * @param params placeholder values
+     * @return the rendered document
+     */
+    public String render(Map<String, Object> params) {
+        if (Thread.currentThread()
+                  .isVirtual()) {
+            // Virtual threads are short-lived and numerous, a cached buffer per thread would not be reused
+            var buffer = new StringBuilder(literalLength + 256);
+            renderTo(buffer, params);
+            return buffer.toString();
+        }
+
+        var buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(literalLength + 256);
+        try {
+            renderTo(buffer, params);
+            return buffer.toString();
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    /**
+     * Renders the template with the given parameters, appending to the target.
+     *
+     * @param target where to append the document
+     * @param params placeholder values
+     */
+    public void renderTo(StringBuilder target, Map<String, Object> params) {
+        String uuid = null;
+        for (var segment : segments) {
+            if (segment instanceof String literal) {
+                target.append(literal);
+                continue;
+            }
+
+            var placeholder = (Placeholder) segment;
+            if (params.containsKey(placeholder.name())) {
+                var rawValue = params.get(placeholder.name());
+                var text = rawValue == null ? NULL : rawValue.toString();
+                var value = text.replace(NUMBER_PREFIX, "");
+                // Parameters are substituted before UUIDs, so UUID placeholders inside values are filled as well
+                if (value.contains(UUID_PLACEHOLDER)) {
+                    uuid = uuid == null ? RandomUtils.randomUuid() : uuid;
+                    value = value.replace(UUID_PLACEHOLDER, uuid);
+                }
+                appendParam(target, placeholder, text, value);
+            } else if (UUID.equals(placeholder.name())) {
+                uuid = uuid == null ? RandomUtils.randomUuid() : uuid;
+                appendPlain(target, placeholder, uuid);
+            } else {
+                appendPlain(target, placeholder, "${" + placeholder.name() + "}");
+            }
+        }
+    }
+
+    private static void appendParam(StringBuilder target, Placeholder placeholder, String text, String value) {
+        var trimmed = text.trim();
+        boolean replacesQuoted = NULL.equals(text)
+                || (!placeholder.name()
+                                .contains(STRING_KEY_MARKER) && (trimmed.startsWith("{") || trimmed.startsWith("[")))
+                || text.startsWith(NUMBER_PREFIX);
+
+        if (!replacesQuoted) {
+            appendPlain(target, placeholder, value);
+        } else if (placeholder.quoted()) {
+            target.append(value);
+        } else {
+            // Only the quoted form would have been replaced, an unquoted placeholder stays as is
+            target.append("${")
+                  .append(placeholder.name())
+                  .append('}');
+        }
+    }
+
+    private static void appendPlain(StringBuilder target, Placeholder placeholder, String value) {
+        if (placeholder.quoted()) {
+            target.append('"')
+                  .append(value)
+                  .append('"');
+        } else {
+            target.append(value);
+        }
+    }
+
+    private record Placeholder(String name, boolean quoted) {
+    }
+}
@@ -0,0 +1,74 @@
+package io.xenoss.unit;
+
+import io.xenoss.testdata.BidRequestTemplate;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BidRequestTemplateTest {
+    private static final String TEMPLATE = """
+            {"id": "${requestId}", "imp": [{"bidfloor": ${bidFloor}, "ext": "${impExt}"}],
+             "app": {"bundle": "${bundle}", "storeurl": "https://store/app?id=${bundle}", "cat": "${cat}"},
+             "device": {"w": "${width}", "ifa": "${missing}", "ext": ${unquotedExt}},
+             "user": {"keywords": "${keywords_str}", "gender": "${gender}"}}""";
+
+    @Test
+    public void rendersLikeSequentialReplacement() {
+        var params = new LinkedHashMap<String, Object>();
+        params.put("requestId", "req-1");
+        params.put("bidFloor", 0.5);
+        params.put("impExt", "{\"deals\": [1, 2]}");
+        params.put("bundle", "io.xenoss.app");
+        params.put("cat", " [\"IAB1\"]");
+        params.put("width", "number:320");
+        params.put("unquotedExt", "{\"a\": 1}");
+        params.put("keywords_str", "{not json}");
+        params.put("gender", null);
+
+        assertThat(BidRequestTemplate.compile(TEMPLATE)
+                                     .render(params)).isEqualTo(sequentialReplace(TEMPLATE, params));
+    }
+
+    @Test
+    public void fillsOneUuidPerDocument() {
+        var rendered = BidRequestTemplate.compile("{\"id\": \"${uuid}\", \"tid\": \"${uuid}\", \"ext\": \"${ext}\"}")
+                                         .render(Map.of("ext", "user-${uuid}"));
+
+        var matcher = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}")
+                             .matcher(rendered);
+        var uuids = new HashMap<String, Integer>();
+        while (matcher.find()) {
+            uuids.merge(matcher.group(), 1, Integer::sum);
+        }
+        assertThat(uuids).hasSize(1)
+                         .containsValue(3);
+    }
+
+    /**
+     * The substitution previously done by BidRequestData, kept as the reference behavior.
+     */
+    private static String sequentialReplace(String template, Map<String, Object> params) {
+        var result = template;
+        for (var param : params.entrySet()) {
+            var replacementString = param.getValue() == null ? "null" : param.getValue()
+                                                                             .toString();
+            var replacementPattern = Objects.equals(replacementString, "null")
+                    || (!param.getKey()
+                              .contains("_str") && (replacementString.trim()
+                                                                     .startsWith("{") || replacementString.trim()
+                                                                                                          .startsWith("[")))
+                    || replacementString.startsWith("number:")
+                    ? "\"${%s}\""
+                    : "${%s}";
+            result = result.replace(String.format(replacementPattern, param.getKey()),
+                    replacementString.replace("number:", ""));
+        }
+        return result;
+    }
+}
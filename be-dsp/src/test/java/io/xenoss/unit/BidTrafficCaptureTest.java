@@ -0,0 +1,47 @@
+package io.xenoss.unit;
+
+import io.xenoss.backend.load.BidTrafficCaptureReader;
+import io.xenoss.backend.load.BidTrafficCaptureWriter;
+import io.xenoss.backend.load.CapturedBidRequest;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BidTrafficCaptureTest {
+    // Enough to span several 1 MB segments
+    private static final int REQUESTS = 20_000;
+
+    @DataProvider
+    public Object[][] compression() {
+        return new Object[][]{{true}, {false}};
+    }
+
+    @Test(dataProvider = "compression")
+    public void capturedRequestsAreReadBackInOrder(boolean compress) throws IOException {
+        var file = Files.createTempDirectory("capture")
+                        .resolve("bids.bin");
+        var requests = IntStream.range(0, REQUESTS)
+                                .mapToObj(i -> new CapturedBidRequest(i % 2 == 0 ? "verve" : "bidswitch", 1_000L + i,
+                                        i % 3 == 0, String.format("{\"id\":\"%d\",\"imp\":[{\"id\":\"1\"}],"
+                                        + "\"site\":{\"page\":\"https://example.com/ü\"}}", i)))
+                                .toList();
+        try (var writer = new BidTrafficCaptureWriter(file, compress)) {
+            for (var request : requests) {
+                writer.append(request);
+            }
+        }
+
+        List<CapturedBidRequest> replayed = new ArrayList<>();
+        BidTrafficCaptureReader.open(file)
+                               .forEach(replayed::add);
+
+        assertThat(replayed).containsExactlyElementsOf(requests);
+    }
+}
@@ -0,0 +1,95 @@
+package io.xenoss.unit;
+
+import io.xenoss.backend.client.CreativeCache;
+import io.xenoss.backend.model.content.vast.AdEntity;
+import io.xenoss.backend.model.content.vast.CreativeEntity;
+import io.xenoss.backend.model.content.vast.InLineEntity;
+import io.xenoss.backend.model.content.vast.LinearEntity;
+import io.xenoss.backend.model.content.vast.TrackingEntity;
+import io.xenoss.backend.model.content.vast.VastEvent;
+import io.xenoss.backend.model.content.vast.VastTrackerExtractor;
+import io.xenoss.backend.model.content.vast.VastVideo;
+import io.xenoss.backend.model.content.vast.VideoClicksEntity;
+import io.xenoss.backend.model.creative.OpenRtbPlacementType;
+import io.xenoss.utils.SerializationUtils;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CreativeCacheTest {
+    @Test
+    public void vastExtractionMatchesModel() {
+        var xml = SerializationUtils.toXml(vast());
+        var model = SerializationUtils.fromXml(xml, VastVideo.class);
+        var linear = model.getAd()
+                          .getInLine()
+                          .getCreatives()
+                          .getFirst()
+                          .getLinear();
+
+        var trackers = VastTrackerExtractor.extract(xml);
+
+        assertThat(trackers.impressions()).isEqualTo(model.getAd()
+                                                          .getInLine()
+                                                          .getImpression());
+        assertThat(trackers.clickThrough()).isEqualTo(linear.getVideoClicks()
+                                                            .getClickThrough());
+        assertThat(trackers.clickTrackers()).isEqualTo(linear.getVideoClicks()
+                                                             .getClickTracking());
+        for (var tracking : linear.getTrackingEvents()) {
+            assertThat(trackers.events()).containsEntry(tracking.getEvent(), tracking.getValue());
+        }
+    }
+
+    @Test
+    public void parsesEachCreativeOnce() {
+        var cache = new CreativeCache(CreativeCache.DEFAULT_MAXIMUM_SIZE);
+        var banner = "<a href=\"https://bidder/c/1\"><img src=\"https://cdn/banner.png\" height=\"250\"/></a>"
+                + "<img src=\"https://bidder/px\" width=\"1\" height=\"1\"/>";
+
+        var first = cache.trackers(banner, OpenRtbPlacementType.BANNER);
+        var second = cache.trackers(banner, OpenRtbPlacementType.BANNER);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.impressions()).containsExactly("https://bidder/px");
+        assertThat(first.clickThrough()).isEqualTo("https://bidder/c/1");
+        assertThat(cache.getStats()
+                        .loadCount()).isEqualTo(1);
+        assertThat(cache.getStats()
+                        .hitCount()).isEqualTo(1);
+    }
+
+    private static VastVideo vast() {
+        var trackingEvents = Arrays.stream(VastEvent.values())
+                                   .map(event -> TrackingEntity.builder()
+                                                               .event(event)
+                                                               .value("https://bidder/ev?e=" + event)
+                                                               .build())
+                                   .toList();
+        var linear = LinearEntity.builder()
+                                 .duration("00:00:15")
+                                 .videoClicks(VideoClicksEntity.builder()
+                                                               .clickThrough("https://bidder/c/1")
+                                                               .clickTracking(List.of("https://bidder/t/click"))
+                                                               .build())
+                                 .trackingEvents(trackingEvents)
+                                 .build();
+        return VastVideo.builder()
+                        .version("3.0")
+                        .ad(AdEntity.builder()
+                                    .id("1")
+                                    .inLine(InLineEntity.builder()
+                                                        .adTitle("Video")
+                                                        .impression(List.of("https://bidder/iv?p=${AUCTION_PRICE}",
+                                                                "https://bidder/px"))
+                                                        .creatives(List.of(CreativeEntity.builder()
+                                                                                         .linear(linear)
+                                                                                         .build()))
+                                                        .build())
+                                    .build())
+                        .build();
+    }
+}
@@ -0,0 +1,63 @@
+package io.xenoss.unit;
+
+import io.xenoss.backend.client.FileDownloadClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FileDownloadClientTest {
+    private MockWebServer server;
+
+    @BeforeMethod
+    public void startServer() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopServer() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void fileIsStreamedToDiskWithChecksum() throws Exception {
+        byte[] content = new byte[1024 * 1024];
+        new Random(42).nextBytes(content);
+        server.enqueue(new MockResponse().setBody(new Buffer().write(content))
+                                         .setHeader("Content-Type", "application/octet-stream"));
+        var target = Files.createTempFile("download", ".bin");
+
+        var result = new FileDownloadClient().downloadTo(server.url("/creative.mp4")
+                                                               .toString(), target, "SHA-256");
+
+        assertThat(result.bytes()).isEqualTo(content.length);
+        assertThat(result.checksum()).isEqualTo(HexFormat.of()
+                                                         .formatHex(MessageDigest.getInstance("SHA-256")
+                                                                                 .digest(content)));
+        assertThat(Files.readAllBytes(target)).isEqualTo(content);
+    }
+
+    @Test
+    public void unexpectedStatusIsRejectedWithoutWritingTheFile() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(404));
+        var target = Files.createTempFile("download", ".bin");
+
+        assertThatThrownBy(() -> new FileDownloadClient().downloadTo(server.url("/missing.mp4")
+                                                                           .toString(), target))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("404");
+        assertThat(Files.size(target)).isZero();
+    }
+}
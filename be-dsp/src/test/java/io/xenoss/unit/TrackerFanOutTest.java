@@ -0,0 +1,81 @@
+package io.xenoss.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.xenoss.backend.client.TrackerFanOut;
+import io.xenoss.exceptions.HttpClientException;
+import io.xenoss.http.Response;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TrackerFanOutTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void firesTrackersConcurrently() {
+        var urls = List.of("http://tracker/1", "http://tracker/2", "http://tracker/3");
+        // Each request completes only once all of them are in flight
+        var inFlight = new CountDownLatch(urls.size());
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var result = TrackerFanOut.fire(urls, url -> CompletableFuture.supplyAsync(() -> {
+                inFlight.countDown();
+                await(inFlight);
+                return response(url, HTTP_NO_CONTENT);
+            }, executor));
+
+            assertThat(result.calls()).extracting(TrackerFanOut.Call::url)
+                                      .containsExactlyElementsOf(urls);
+            assertThat(result.assertAllStatus(HTTP_NO_CONTENT)
+                             .statusCounts()).isEqualTo(Map.of(HTTP_NO_CONTENT, 3L));
+        }
+    }
+
+    @Test
+    public void aggregatesFailures() {
+        var result = TrackerFanOut.fire(List.of("http://tracker/ok", "http://tracker/down"),
+                url -> url.endsWith("down")
+                        ? CompletableFuture.failedFuture(new IOException("Connection refused"))
+                        : CompletableFuture.completedFuture(response(url, HTTP_OK)));
+
+        assertThat(result.statusCounts()).isEqualTo(Map.of(-1, 1L, HTTP_OK, 1L));
+        assertThatThrownBy(result::assertNoErrors).isInstanceOf(HttpClientException.class)
+                                                  .hasMessageContaining("http://tracker/down")
+                                                  .hasCauseInstanceOf(IOException.class);
+        assertThatThrownBy(() -> result.assertAllStatus(HTTP_OK)).isInstanceOf(HttpClientException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).as("All trackers in flight")
+                                                        .isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Response response(String url, int status) {
+        return new Response(new okhttp3.Response.Builder().request(new Request.Builder().url(url)
+                                                                                         .build())
+                                                          .protocol(Protocol.HTTP_1_1)
+                                                          .code(status)
+                                                          .message("")
+                                                          .body(ResponseBody.create(new byte[0], null))
+                                                          .build(), OBJECT_MAPPER);
+    }
+}
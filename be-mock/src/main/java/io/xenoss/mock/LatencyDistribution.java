@@ -0,0 +1,65 @@
+package io.xenoss.mock;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Defines how long the {@link MockBidderServer} holds a bid request before answering it.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+    /**
+     * Samples the delay for the next request.
+     *
+     * @return delay in nanoseconds, zero or negative for none
+     */
+    long nextDelayNanos();
+
+    /**
+     * Answers immediately.
+     */
+    static LatencyDistribution none() {
+        return () -> 0;
+    }
+
+    /**
+     * Answers after the same delay every time.
+     *
+     * @param delay the delay
+     */
+    static LatencyDistribution fixed(Duration delay) {
+        long nanos = delay.toNanos();
+        return () -> nanos;
+    }
+
+    /**
+     * Answers after a delay drawn uniformly from the given range.
+     *
+     * @param min shortest delay
+     * @param max longest delay
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        if (maxNanos <= minNanos) {
+            return () -> minNanos;
+        }
+        return () -> ThreadLocalRandom.current()
+                                      .nextLong(minNanos, maxNanos + 1);
+    }
+
+    /**
+     * Answers after a log-normally distributed delay, which matches the long right tail of real bidders.
+     *
+     * @param median the median delay
+     * @param p99 the 99th percentile delay, must be greater than the median
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        // z-score of the 99th percentile of the standard normal distribution
+        double z99 = 2.326;
+        double mu = Math.log(median.toNanos());
+        double sigma = Math.max(0, (Math.log(p99.toNanos()) - mu) / z99);
+        return () -> (long) Math.exp(mu + sigma * ThreadLocalRandom.current()
+                                                                   .nextGaussian());
+    }
+}
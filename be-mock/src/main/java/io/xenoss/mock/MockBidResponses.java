@@ -0,0 +1,218 @@
+package io.xenoss.mock;
+
+import com.google.gson.JsonPrimitive;
+import io.xenoss.backend.model.bidding.response.BidEntity;
+import io.xenoss.backend.model.bidding.response.BidResponse;
+import io.xenoss.backend.model.bidding.response.SeatbidEntity;
+import io.xenoss.backend.model.bidding.response.trace.DecisionStageEntity;
+import io.xenoss.backend.model.bidding.response.trace.DecisionStageStatus;
+import io.xenoss.backend.model.bidding.response.trace.DecisionStagesEntity;
+import io.xenoss.backend.model.bidding.response.trace.SelectionEntity;
+import io.xenoss.backend.model.content.nativead.response.LinkEntity;
+import io.xenoss.backend.model.content.nativead.response.NativeAdResponseEntity;
+import io.xenoss.backend.model.content.nativead.response.NativeSubSectionEntity;
+import io.xenoss.backend.model.content.vast.AdEntity;
+import io.xenoss.backend.model.content.vast.CreativeEntity;
+import io.xenoss.backend.model.content.vast.InLineEntity;
+import io.xenoss.backend.model.content.vast.LinearEntity;
+import io.xenoss.backend.model.content.vast.TrackingEntity;
+import io.xenoss.backend.model.content.vast.VastEvent;
+import io.xenoss.backend.model.content.vast.VastVideo;
+import io.xenoss.backend.model.content.vast.VideoClicksEntity;
+import io.xenoss.backend.model.creative.OpenRtbPlacementType;
+import io.xenoss.utils.SerializationUtils;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Canned bid responses and traces served by {@link MockBidderServer}.
+ * <p>
+ * Payloads are serialized once per placement type with placeholders for the per-request ids,
+ * so answering a request costs a few string replacements instead of a model build and serialization.
+ */
+final class MockBidResponses {
+    static final String ORGANIZATION_ID = "DFLT";
+    static final String CAMPAIGN_ID = "mock-campaign";
+    static final String LINE_ITEM_ID = "mock-lineitem";
+    static final String CREATIVE_ID = "mock-creative";
+
+    private static final String REQUEST_ID = "__REQUEST_ID__";
+    private static final String IMP_ID = "__IMP_ID__";
+    private static final String IMPRESSION_ID = "__IMPRESSION_ID__";
+    private static final String AUCTION_PRICE = "${AUCTION_PRICE}";
+
+    private final Map<OpenRtbPlacementType, String> bidTemplates = new EnumMap<>(OpenRtbPlacementType.class);
+    private final String acceptedTrace;
+    private final String rejectedTrace;
+
+    MockBidResponses(String baseUrl, float price) {
+        for (var type : OpenRtbPlacementType.values()) {
+            bidTemplates.put(type, SerializationUtils.toJson(bidResponse(baseUrl, type, price), false)
+                                                     .replace(quoted(REQUEST_ID), REQUEST_ID)
+                                                     .replace(quoted(IMP_ID), IMP_ID));
+        }
+        acceptedTrace = trace("Passed all targeting checks", DecisionStageStatus.ACCEPT);
+        rejectedTrace = trace("No bid: sampled by the mock no-bid ratio", DecisionStageStatus.REJECT);
+    }
+
+    /**
+     * Builds a bid response for the given request.
+     *
+     * @param type placement type of the first impression
+     * @param requestId the bid request id
+     * @param impId the id of the first impression
+     * @param impressionId the id embedded into notice and tracker URLs
+     * @return the serialized bid response
+     */
+    String bid(OpenRtbPlacementType type, String requestId, String impId, String impressionId) {
+        return bidTemplates.get(type)
+                           .replace(REQUEST_ID, quoted(requestId))
+                           .replace(IMP_ID, quoted(impId))
+                           .replace(IMPRESSION_ID, impressionId);
+    }
+
+    /**
+     * Returns a trace in the plain-text format the bidder serves for {@code ?trace=true}.
+     *
+     * @param bid whether the request was answered with a bid
+     * @return the trace
+     */
+    String trace(boolean bid) {
+        return bid ? acceptedTrace : rejectedTrace;
+    }
+
+    private static BidResponse bidResponse(String baseUrl, OpenRtbPlacementType type, float price) {
+        var rtbUrl = String.format("%s/rtb/%s", baseUrl, IMPRESSION_ID);
+        var bid = BidEntity.builder()
+                           .id(IMPRESSION_ID)
+                           .impid(IMP_ID)
+                           .adid(CREATIVE_ID)
+                           .cid(CAMPAIGN_ID)
+                           .crid(CREATIVE_ID)
+                           .price(price)
+                           .adomain(List.of("xenoss.io"))
+                           .burl(String.format("%s/ib?p=%s", rtbUrl, AUCTION_PRICE))
+                           .nurl(String.format("%s/iw?p=%s", rtbUrl, AUCTION_PRICE))
+                           .lurl(String.format("%s/il?reason=${AUCTION_LOSS}", rtbUrl));
+
+        switch (type) {
+            case VIDEO -> bid.adm(SerializationUtils.toXml(vast(baseUrl, rtbUrl)));
+            case NATIVE -> bid.adm(SerializationUtils.toJson(nativeAd(baseUrl, rtbUrl), false));
+            default -> bid.adm(banner(baseUrl, rtbUrl))
+                          .w(300)
+                          .h(250);
+        }
+
+        return BidResponse.builder()
+                          .id(REQUEST_ID)
+                          .bidid(IMPRESSION_ID)
+                          .cur("USD")
+                          .seatbid(List.of(SeatbidEntity.builder()
+                                                        .bid(List.of(bid.build()))
+                                                        .build()))
+                          .build();
+    }
+
+    private static String banner(String baseUrl, String rtbUrl) {
+        return String.format("<a href=\"%s\" target=\"_blank\">"
+                        + "<img src=\"%s/static/banner.png\" width=\"300\" height=\"250\"/></a>"
+                        + "<img src=\"%s/px\" width=\"1\" height=\"1\"/>",
+                clickUrl(baseUrl), baseUrl, rtbUrl);
+    }
+
+    private static VastVideo vast(String baseUrl, String rtbUrl) {
+        var trackingEvents = Arrays.stream(VastEvent.values())
+                                   .map(event -> TrackingEntity.builder()
+                                                               .event(event)
+                                                               .value(String.format("%s/ev?e=%s", rtbUrl, event))
+                                                               .build())
+                                   .toList();
+        var linear = LinearEntity.builder()
+                                 .duration("00:00:15")
+                                 .videoClicks(VideoClicksEntity.builder()
+                                                               .clickThrough(clickUrl(baseUrl))
+                                                               .clickTracking(List.of(clickTrackerUrl(baseUrl)))
+                                                               .build())
+                                 .trackingEvents(trackingEvents)
+                                 .build();
+        var inLine = InLineEntity.builder()
+                                 .adTitle("Mock video")
+                                 .impression(List.of(String.format("%s/iv?p=%s", rtbUrl, AUCTION_PRICE),
+                                         String.format("%s/px", rtbUrl)))
+                                 .creatives(List.of(CreativeEntity.builder()
+                                                                  .id(CREATIVE_ID)
+                                                                  .linear(linear)
+                                                                  .build()))
+                                 .build();
+        return VastVideo.builder()
+                        .version("3.0")
+                        .ad(AdEntity.builder()
+                                    .id(IMPRESSION_ID)
+                                    .inLine(inLine)
+                                    .build())
+                        .build();
+    }
+
+    private static NativeAdResponseEntity nativeAd(String baseUrl, String rtbUrl) {
+        return NativeAdResponseEntity.builder()
+                                     .nativeAd(NativeSubSectionEntity.builder()
+                                                                     .link(LinkEntity.builder()
+                                                                                     .url(clickUrl(baseUrl))
+                                                                                     .clicktrackers(List.of(
+                                                                                             clickTrackerUrl(baseUrl)))
+                                                                                     .build())
+                                                                     .imptrackers(List.of(rtbUrl + "/px"))
+                                                                     .build())
+                                     .build();
+    }
+
+    private static String clickUrl(String baseUrl) {
+        return String.format("%s/c/%s?r=%s", baseUrl, IMPRESSION_ID,
+                URLEncoder.encode(baseUrl + MockBidderServer.LANDING_PATH, StandardCharsets.UTF_8));
+    }
+
+    private static String clickTrackerUrl(String baseUrl) {
+        return String.format("%s/t/click?impression=%s", baseUrl, IMPRESSION_ID);
+    }
+
+    private static String trace(String reason, DecisionStageStatus status) {
+        var selection = String.format("(org=%s, account=%s, campaign=%s, lineitem=%s, creative=%s)",
+                ORGANIZATION_ID, ORGANIZATION_ID, CAMPAIGN_ID, LINE_ITEM_ID, CREATIVE_ID);
+        var selectionEntity = SelectionEntity.builder()
+                                             .organizationId(ORGANIZATION_ID)
+                                             .account(ORGANIZATION_ID)
+                                             .campaign(CAMPAIGN_ID)
+                                             .lineitem(LINE_ITEM_ID)
+                                             .creative(CREATIVE_ID)
+                                             .build();
+        var decisionStages = new DecisionStagesEntity(List.of(DecisionStageEntity.builder()
+                                                                                 .type("targeting")
+                                                                                 .description(reason)
+                                                                                 .status(status)
+                                                                                 .selection(selectionEntity)
+                                                                                 .build()));
+
+        var trace = new StringBuilder().append(selection)
+                                       .append('\n')
+                                       .append("    ")
+                                       .append(reason)
+                                       .append('\n')
+                                       .append("Found:\n");
+        if (status == DecisionStageStatus.ACCEPT) {
+            trace.append(selection)
+                 .append('\n');
+        }
+        return trace.append(SerializationUtils.toPrettyJson(decisionStages))
+                    .append('\n')
+                    .toString();
+    }
+
+    private static String quoted(String value) {
+        return new JsonPrimitive(value).toString();
+    }
+}
@@ -0,0 +1,290 @@
+package io.xenoss.mock;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.xenoss.backend.model.creative.OpenRtbPlacementType;
+import io.xenoss.exceptions.FrameworkException;
+import io.xenoss.utils.RandomUtils;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_MOVED_TEMP;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
+import static java.net.HttpURLConnection.HTTP_OK;
+
+/**
+ * Embedded stand-in for the bidder and its trackers, for measuring the framework's own overhead offline.
+ * <p>
+ * Served endpoints:
+ * <ul>
+ *     <li>{@code POST /rtb/{exchange}/bid} - a canned banner, VAST or native bid, or 204 for a no-bid,
+ *     after a sampled delay; with {@code ?trace=true} the plain-text decision trace instead</li>
+ *     <li>{@code GET /rtb/{impression}/...} - win, billing, impression and video event notices, 204</li>
+ *     <li>{@code GET /t/...} - custom and post-click events, 204</li>
+ *     <li>{@code GET /c/{impression}?r={url}} - click redirect, 302 to the landing page</li>
+ * </ul>
+ * The JDK server accepts connections on a single selector thread and runs each exchange on a virtual thread,
+ * so sampled latencies do not tie up platform threads.
+ * <p>
+ * Usage:
+ * <pre>{@code
+ * try (var bidder = MockBidderServer.builder()
+ *         .bidRatio(0.8)
+ *         .latency(LatencyDistribution.logNormal(Duration.ofMillis(20), Duration.ofMillis(120)))
+ *         .build()
+ *         .start()) {
+ *     var exchange = new BaseExchange("verve", bidder.bidUrl("verve")) { };
+ *     ...
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class MockBidderServer implements Closeable {
+    public static final String LANDING_PATH = "/landing";
+
+    private static final String RTB_PATH = "/rtb/";
+    private static final String BID_SUFFIX = "/bid";
+    private static final String EVENT_PATH = "/t/";
+    private static final String CLICK_PATH = "/c/";
+    private static final String TRACE_PARAM = "trace=true";
+    private static final String REDIRECT_PARAM = "r=";
+    private static final String LANDING_PAGE = "<html><body>Mock landing page</body></html>";
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int port;
+    private final double bidRatio;
+    private final LatencyDistribution latency;
+    private final float price;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private MockBidResponses responses;
+
+    @Getter
+    private final LongAdder bidRequests = new LongAdder();
+    @Getter
+    private final LongAdder bids = new LongAdder();
+    @Getter
+    private final LongAdder notices = new LongAdder();
+    @Getter
+    private final LongAdder clicks = new LongAdder();
+
+    /**
+     * @param port port to listen on, 0 (default) picks a free one
+     * @param bidRatio share of bid requests answered with a bid, 1.0 by default
+     * @param latency delay applied to bid requests, none by default
+     * @param price bid price, 1.0 by default
+     */
+    @Builder
+    private MockBidderServer(int port, Double bidRatio, LatencyDistribution latency, Float price) {
+        if (bidRatio != null && (bidRatio < 0 || bidRatio > 1)) {
+            throw new FrameworkException("Bid ratio must be between 0 and 1");
+        }
+
+        this.port = port;
+        this.bidRatio = bidRatio == null ? 1.0 : bidRatio;
+        this.latency = latency == null ? LatencyDistribution.none() : latency;
+        this.price = price == null ? 1.0F : price;
+    }
+
+    /**
+     * Starts listening on the loopback interface.
+     *
+     * @return this server
+     */
+    public synchronized MockBidderServer start() {
+        if (server != null) {
+            return this;
+        }
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start mock bidder", e);
+        }
+        responses = new MockBidResponses(getBaseUrl(), price);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+
+        log.info("Mock bidder started on {} (bid ratio {})", getBaseUrl(), bidRatio);
+        return this;
+    }
+
+    /**
+     * @return the base URL, e.g. {@code http://127.0.0.1:54321}
+     */
+    public String getBaseUrl() {
+        if (server == null) {
+            throw new FrameworkException("Mock bidder is not started");
+        }
+        var address = server.getAddress();
+        return String.format("http://%s:%d", address.getHostString(), address.getPort());
+    }
+
+    /**
+     * Returns the bid endpoint for an exchange, to be used as the {@code BaseExchange} URL.
+     *
+     * @param exchange exchange name
+     * @return the bid URL
+     */
+    public String bidUrl(String exchange) {
+        return String.format("%s%s%s%s", getBaseUrl(), RTB_PATH, exchange, BID_SUFFIX);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.close();
+        server = null;
+        log.info("Mock bidder stopped: {} bid requests, {} bids, {} notices, {} clicks",
+                bidRequests.sum(), bids.sum(), notices.sum(), clicks.sum());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            var path = exchange.getRequestURI()
+                               .getPath();
+            if (path.startsWith(RTB_PATH) && path.endsWith(BID_SUFFIX)) {
+                handleBidRequest(exchange);
+            } else if (path.startsWith(RTB_PATH) || path.startsWith(EVENT_PATH)) {
+                notices.increment();
+                send(exchange, HTTP_NO_CONTENT, null, EMPTY);
+            } else if (path.startsWith(CLICK_PATH)) {
+                handleClick(exchange);
+            } else if (path.equals(LANDING_PATH)) {
+                send(exchange, HTTP_OK, "text/html; charset=UTF-8", LANDING_PAGE.getBytes(StandardCharsets.UTF_8));
+            } else {
+                send(exchange, HTTP_NOT_FOUND, null, EMPTY);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Mock bidder failed to handle {}: {}", exchange.getRequestURI(), e.getMessage());
+            send(exchange, HTTP_BAD_REQUEST, "text/plain", String.valueOf(e.getMessage())
+                                                                 .getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleBidRequest(HttpExchange exchange) throws IOException {
+        bidRequests.increment();
+        var bidRequest = readJson(exchange);
+        var bid = ThreadLocalRandom.current()
+                                   .nextDouble() < bidRatio;
+
+        long delay = latency.nextDelayNanos();
+        if (delay > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(delay));
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+        }
+
+        var query = exchange.getRequestURI()
+                            .getRawQuery();
+        if (query != null && query.contains(TRACE_PARAM)) {
+            send(exchange, HTTP_OK, "text/plain; charset=UTF-8",
+                    responses.trace(bid)
+                             .getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        if (!bid) {
+            send(exchange, HTTP_NO_CONTENT, null, EMPTY);
+            return;
+        }
+
+        bids.increment();
+        var imp = bidRequest.getAsJsonArray("imp")
+                            .get(0)
+                            .getAsJsonObject();
+        var body = responses.bid(placementType(imp), bidRequest.get("id")
+                                                               .getAsString(),
+                imp.get("id")
+                   .getAsString(), RandomUtils.randomUuid());
+        send(exchange, HTTP_OK, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void handleClick(HttpExchange exchange) throws IOException {
+        clicks.increment();
+        var query = exchange.getRequestURI()
+                            .getRawQuery();
+        var target = LANDING_PATH;
+        if (query != null) {
+            for (var param : query.split("&")) {
+                if (param.startsWith(REDIRECT_PARAM)) {
+                    target = URLDecoder.decode(param.substring(REDIRECT_PARAM.length()), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        exchange.getResponseHeaders()
+                .set("Location", target);
+        send(exchange, HTTP_MOVED_TEMP, null, EMPTY);
+    }
+
+    private static JsonObject readJson(HttpExchange exchange) throws IOException {
+        InputStream body = exchange.getRequestBody();
+        if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders()
+                                            .getFirst("Content-Encoding"))) {
+            body = new GZIPInputStream(body);
+        }
+        try (var reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader)
+                             .getAsJsonObject();
+        }
+    }
+
+    private static OpenRtbPlacementType placementType(JsonObject imp) {
+        if (imp.has("video")) {
+            return OpenRtbPlacementType.VIDEO;
+        }
+        if (imp.has("native")) {
+            return OpenRtbPlacementType.NATIVE;
+        }
+        if (imp.has("audio")) {
+            return OpenRtbPlacementType.AUDIO;
+        }
+        return OpenRtbPlacementType.BANNER;
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders()
+                    .set("Content-Type", contentType);
+        }
+        // -1 tells the server there is no body, which 204 and 302 responses require
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        }
+    }
+}
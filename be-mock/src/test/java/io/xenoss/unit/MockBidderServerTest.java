@@ -0,0 +1,66 @@
+package io.xenoss.unit;
+
+import io.xenoss.backend.client.BidderClient;
+import io.xenoss.backend.e2e.BidResponseTraceParser;
+import io.xenoss.backend.model.bidding.BaseExchange;
+import io.xenoss.backend.model.bidding.response.BidResponse;
+import io.xenoss.backend.model.bidding.response.trace.DecisionStageEntity;
+import io.xenoss.backend.model.bidding.response.trace.DecisionStageStatus;
+import io.xenoss.backend.model.creative.OpenRtbPlacementType;
+import io.xenoss.mock.MockBidderServer;
+import org.testng.annotations.Test;
+
+import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MockBidderServerTest {
+    private static final String BANNER_BID_REQUEST =
+            "{\"id\":\"request-1\",\"imp\":[{\"id\":\"imp-1\",\"banner\":{\"w\":300,\"h\":250}}]}";
+
+    @Test
+    public void bidNoticeAndClickRoundTrip() {
+        try (var bidder = MockBidderServer.builder()
+                                          .build()
+                                          .start()) {
+            var client = new BidderClient(new BaseExchange("mock", bidder.bidUrl("mock")) {
+            });
+
+            var response = client.sendBidRequest(BANNER_BID_REQUEST);
+            assertThat(response.getStatusCode()).isEqualTo(HTTP_OK);
+            var bidResponse = response.as(BidResponse.class);
+            assertThat(bidResponse.getId()).isEqualTo("request-1");
+            var bid = bidResponse.getSeatbid()
+                                 .getFirst()
+                                 .getBid()
+                                 .getFirst();
+            assertThat(bid.getImpid()).isEqualTo("imp-1");
+
+            assertThat(client.sendWinNotice(bid, OpenRtbPlacementType.BANNER)
+                             .getStatusCode()).isEqualTo(HTTP_NO_CONTENT);
+            assertThat(client.doClick(bid, OpenRtbPlacementType.BANNER)
+                             .asString()).contains("landing");
+            assertThat(bidder.getClicks()
+                             .sum()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void noBidAndTrace() {
+        try (var bidder = MockBidderServer.builder()
+                                          .bidRatio(0.0)
+                                          .build()
+                                          .start()) {
+            var client = new BidderClient(new BaseExchange("mock", bidder.bidUrl("mock")) {
+            });
+
+            assertThat(client.sendBidRequest(BANNER_BID_REQUEST)
+                             .getStatusCode()).isEqualTo(HTTP_NO_CONTENT);
+            var trace = BidResponseTraceParser.parse(client.sendBidRequest(BANNER_BID_REQUEST, true)
+                                                           .asString());
+            assertThat(trace.getFound()).isEmpty();
+            assertThat(trace.getDecisionStages()).extracting(DecisionStageEntity::getStatus)
+                                                 .containsExactly(DecisionStageStatus.REJECT);
+        }
+    }
+}
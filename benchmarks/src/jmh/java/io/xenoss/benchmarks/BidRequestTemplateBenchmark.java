@@ -0,0 +1,45 @@
+package io.xenoss.benchmarks;
+
+import io.xenoss.testdata.BidRequestData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bid request templating as done for every request a load run sends.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BidRequestTemplateBenchmark {
+    private static final String TEMPLATE = "benchmark/bid-request.json";
+
+    private final BidRequestData bidRequestData = new BidRequestData();
+    private Map<String, Object> params;
+
+    @Setup
+    public void setUp() {
+        params = new HashMap<>();
+        params.put("tagId", "benchmark-tag");
+        params.put("bidFloor", 0.5);
+        params.put("appId", "app-42");
+        params.put("bundle", "io.xenoss.benchmark");
+        params.put("publisherId", "pub-7");
+        params.put("userAgent", "Mozilla/5.0 (Linux; Android 13; SM-G991B) AppleWebKit/537.36 Chrome/120.0 Mobile");
+        params.put("ip", "203.0.113.7");
+        params.put("userExt", "{\"consent\":\"CPXxRfAPXxRfAAfKABENB-CgAAAAAAAAAAYgAAAAAAAA\"}");
+    }
+
+    @Benchmark
+    public String getBidRequest() {
+        return bidRequestData.getBidRequest(TEMPLATE, params);
+    }
+}
@@ -0,0 +1,34 @@
+package io.xenoss.benchmarks;
+
+import io.xenoss.backend.e2e.BidResponseTraceParser;
+import io.xenoss.backend.model.bidding.response.trace.BidResponseTrace;
+import io.xenoss.utils.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the plain-text bidder trace used by no-bid assertions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BidResponseTraceBenchmark {
+    private String trace;
+
+    @Setup
+    public void setUp() {
+        trace = FileUtils.getResourceFileAsString("benchmark/trace.txt");
+    }
+
+    @Benchmark
+    public BidResponseTrace parse() {
+        return BidResponseTraceParser.parse(trace);
+    }
+}
@@ -0,0 +1,96 @@
+package io.xenoss.benchmarks;
+
+import io.xenoss.http.GzipCodec;
+import io.xenoss.http.GzipRequestBody;
+import io.xenoss.utils.FileUtils;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip of a bid response sized body: the stream-per-call approach {@code BaseClient} used before, which allocates
+ * a zlib context and buffers every time, against the pooled {@link GzipCodec}, into an array and streamed into an
+ * Okio buffer the way {@link GzipRequestBody} writes to the connection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GzipBenchmark {
+    @Param({"1", "6"})
+    private int level;
+
+    private String body;
+    private byte[] bodyBytes;
+    private byte[] gzipped;
+    private GzipCodec codec;
+
+    @Setup
+    public void setUp() throws IOException {
+        body = FileUtils.getResourceFileAsString("benchmark/bid-response.json");
+        bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+        codec = GzipCodec.of(level);
+        gzipped = codec.compress(bodyBytes);
+    }
+
+    @Benchmark
+    public byte[] compressStreamPerCall() throws IOException {
+        var bos = new ByteArrayOutputStream();
+        try (var gzip = new LeveledGzipOutputStream(bos, level)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return bos.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] compressPooled() {
+        return codec.compress(body);
+    }
+
+    @Benchmark
+    public long compressPooledIntoSink() throws IOException {
+        var sink = new Buffer();
+        new GzipRequestBody(bodyBytes, codec).writeTo(sink);
+        long size = sink.size();
+        sink.clear();
+        return size;
+    }
+
+    @Benchmark
+    public String decompressStreamPerCall() throws IOException {
+        try (var out = new ByteArrayOutputStream();
+             var gzip = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = gzip.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public String decompressPooled() {
+        return GzipCodec.decompressToString(gzipped);
+    }
+
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(ByteArrayOutputStream out, int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+}
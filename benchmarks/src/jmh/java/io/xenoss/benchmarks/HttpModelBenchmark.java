@@ -0,0 +1,103 @@
+package io.xenoss.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.xenoss.http.Header;
+import io.xenoss.http.Headers;
+import io.xenoss.http.RequestSpecification;
+import io.xenoss.http.Response;
+import io.xenoss.utils.FileUtils;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request work of the HTTP layer that does not touch the network: response wrapping and formatting,
+ * header conversion and request specification copying.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HttpModelBenchmark {
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private OkHttpClient httpClient;
+    private Request request;
+    private byte[] bidResponseBytes;
+    private Headers headers;
+    private RequestSpecification specification;
+    private Map<String, String> queryParams;
+
+    @Setup
+    public void setUp() {
+        httpClient = new OkHttpClient();
+        request = new Request.Builder().url("http://localhost/rtb/benchmark/bid")
+                                       .build();
+        bidResponseBytes = FileUtils.getResourceFileAsString("benchmark/bid-response.json")
+                                    .getBytes(StandardCharsets.UTF_8);
+        headers = new Headers(
+                new Header("Content-Type", "application/json"),
+                new Header("Accept", "application/json"),
+                new Header("Accept-Encoding", "gzip"),
+                new Header("x-openrtb-version", "2.5"),
+                new Header("User-Agent", "xenoss-automation-framework"));
+        specification = new RequestSpecification(httpClient, objectMapper, headers, "");
+        queryParams = Map.of("exchange", "benchmark", "trace", "false");
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.dispatcher()
+                  .executorService()
+                  .shutdown();
+    }
+
+    /**
+     * Includes building the OkHttp response, since a body can only be consumed once.
+     */
+    @Benchmark
+    public Response responseConstruction() {
+        return new Response(okHttpResponse(), objectMapper);
+    }
+
+    @Benchmark
+    public String responseAsPrettyString() {
+        return new Response(okHttpResponse(), objectMapper).asPrettyString();
+    }
+
+    @Benchmark
+    public okhttp3.Headers toOkHttpHeaders() {
+        return headers.toOkHttpHeaders();
+    }
+
+    @Benchmark
+    public RequestSpecification requestSpecificationCopy() {
+        return specification.queryParams(queryParams)
+                            .param("page", 1)
+                            .headers(headers);
+    }
+
+    private okhttp3.Response okHttpResponse() {
+        return new okhttp3.Response.Builder().request(request)
+                                             .protocol(Protocol.HTTP_1_1)
+                                             .code(200)
+                                             .message("OK")
+                                             .header("Content-Type", "application/json")
+                                             .body(ResponseBody.create(bidResponseBytes, JSON))
+                                             .build();
+    }
+}
@@ -0,0 +1,91 @@
+package io.xenoss.benchmarks;
+
+import io.xenoss.backend.model.bidding.response.BidResponse;
+import io.xenoss.backend.model.content.CreativeTrackers;
+import io.xenoss.backend.model.content.vast.VastTrackerExtractor;
+import io.xenoss.backend.model.content.vast.VastVideo;
+import io.xenoss.utils.FileUtils;
+import io.xenoss.utils.SerializationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON and XML (de)serialization through {@link SerializationUtils} on bid response and VAST payloads.
+ * The engine-specific benchmarks compare Gson with the Jackson fast path on the same DTO, and
+ * {@code extractVastTrackers} the streaming VAST extraction with the full model binding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    private String bidResponseJson;
+    private byte[] bidResponseBytes;
+    private String vastXml;
+    private BidResponse bidResponse;
+
+    @Setup
+    public void setUp() {
+        bidResponseJson = FileUtils.getResourceFileAsString("benchmark/bid-response.json");
+        vastXml = FileUtils.getResourceFileAsString("benchmark/vast.xml");
+        bidResponseBytes = bidResponseJson.getBytes(StandardCharsets.UTF_8);
+        bidResponse = SerializationUtils.fromJson(bidResponseJson, BidResponse.class);
+    }
+
+    @Benchmark
+    public String toJsonPretty() {
+        return SerializationUtils.toJson(bidResponse, true);
+    }
+
+    @Benchmark
+    public String toJsonCompact() {
+        return SerializationUtils.toJson(bidResponse, false);
+    }
+
+    @Benchmark
+    public BidResponse fromJson() {
+        return SerializationUtils.fromJson(bidResponseJson, BidResponse.class);
+    }
+
+    @Benchmark
+    public BidResponse fromJsonGson() {
+        return SerializationUtils.GSON_ENGINE.fromJson(bidResponseJson, BidResponse.class);
+    }
+
+    @Benchmark
+    public BidResponse fromJsonJackson() {
+        return SerializationUtils.JACKSON_ENGINE.fromJson(bidResponseJson, BidResponse.class);
+    }
+
+    @Benchmark
+    public BidResponse fromJsonBytesJackson() {
+        return SerializationUtils.JACKSON_ENGINE.fromJson(bidResponseBytes, BidResponse.class);
+    }
+
+    @Benchmark
+    public String toJsonGson() {
+        return SerializationUtils.GSON_ENGINE.toJson(bidResponse, false);
+    }
+
+    @Benchmark
+    public String toJsonJackson() {
+        return SerializationUtils.JACKSON_ENGINE.toJson(bidResponse, false);
+    }
+
+    @Benchmark
+    public VastVideo fromXmlVast() {
+        return SerializationUtils.fromXml(vastXml, VastVideo.class);
+    }
+
+    @Benchmark
+    public CreativeTrackers extractVastTrackers() {
+        return VastTrackerExtractor.extract(vastXml);
+    }
+}
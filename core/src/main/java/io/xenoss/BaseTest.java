@@ -2,20 +2,43 @@ package io.xenoss;
 
 import io.xenoss.config.ConfigInstance;
 import io.xenoss.config.ConfigurationManager;
+import io.xenoss.telemetry.WaitMetrics;
+import io.xenoss.utils.PollingStrategy;
+import io.xenoss.utils.PollingStrategyInterval;
+import org.awaitility.core.ConditionTimeoutException;
 import org.awaitility.core.ThrowingRunnable;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.awaitility.Awaitility.await;
 
 public class BaseTest {
     protected static final ConfigInstance CONFIG = ConfigurationManager.getConfig();
+    private static final PollingStrategy POLLING = PollingStrategy.fromConfig();
 
     protected void assertWithAwait(ThrowingRunnable assertion, long timeoutSeconds) {
-        await()
-                .pollInterval(5L, TimeUnit.SECONDS)
-                .timeout(timeoutSeconds, TimeUnit.SECONDS)
-                .ignoreExceptions()
-                .untilAsserted(assertion);
+        var callSite = WaitMetrics.callSite(BaseTest.class);
+        var attempts = new AtomicInteger();
+        long startNanos = System.nanoTime();
+        try {
+            await()
+                    .pollDelay(Duration.ZERO)
+                    .pollInterval(new PollingStrategyInterval(POLLING, callSite))
+                    .timeout(timeoutSeconds, TimeUnit.SECONDS)
+                    .ignoreExceptions()
+                    .untilAsserted(() -> {
+                        attempts.incrementAndGet();
+                        assertion.run();
+                    });
+        } catch (ConditionTimeoutException e) {
+            WaitMetrics.recordTimeout(callSite, attempts.get(), System.nanoTime() - startNanos);
+            throw e;
+        }
+
+        var timeToSatisfy = Duration.ofNanos(System.nanoTime() - startNanos);
+        POLLING.onSatisfied(callSite, attempts.get(), timeToSatisfy);
+        WaitMetrics.recordSatisfied(callSite, attempts.get(), timeToSatisfy.toNanos());
     }
 }
@@ -29,6 +29,42 @@ public class ConfigEntity {
     Integer httpTimeoutSeconds;
     @Getter
     Integer httpKeepAliveSeconds;
+    @Getter
+    Integer httpExpectedIntervalMs;
+    @Getter
+    String httpProtocol;
+    @Getter
+    Boolean parallelTrackers;
+    @Getter
+    Boolean useVirtualThreads;
+    @Getter
+    String waitPollingStrategy;
+    @Getter
+    String httpLogMode;
+    @Getter
+    Integer httpLogQueueCapacity;
+    @Getter
+    String httpLogOverflow;
+    @Getter
+    String httpLogPolicy;
+    @Getter
+    Integer httpLogSampleRate;
+    @Getter
+    Integer httpLogEndpointLimit;
+    @Getter
+    Integer httpLogBufferSize;
+    @Getter
+    String httpCassetteMode;
+    @Getter
+    String httpCassetteFile;
+    @Getter
+    String httpCassetteKey;
+    @Getter
+    String httpCassetteIgnoredFields;
+    @Getter
+    Integer httpGzipLevel;
+    @Getter
+    Boolean httpGzipStreaming;
     Map<String, EnvironmentConfig> environments;
 
     public Map<String, EnvironmentConfig> getEnvironments() {
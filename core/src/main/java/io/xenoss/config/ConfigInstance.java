@@ -2,6 +2,9 @@ package io.xenoss.config;
 
 import io.xenoss.exceptions.ConfigurationException;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class ConfigInstance {
     private final ConfigEntity configEntity;
 
@@ -171,6 +174,208 @@ public class ConfigInstance {
         }
     }
 
+    public Integer getHttpExpectedIntervalMs() {
+        String value = getSystemProperty(
+                "httpExpectedIntervalMs",
+                configEntity.getHttpExpectedIntervalMs() != null
+                        ? configEntity.getHttpExpectedIntervalMs()
+                        : 0);
+        try {
+            int interval = Integer.parseInt(value);
+            if (interval < 0) {
+                throw new ConfigurationException("httpExpectedIntervalMs must not be negative, got: " + interval);
+            }
+            return interval;
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("Invalid value for httpExpectedIntervalMs: " + value, e);
+        }
+    }
+
+    public HttpProtocol getHttpProtocol() {
+        return HttpProtocol.fromString(getSystemProperty(
+                "httpProtocol",
+                configEntity.getHttpProtocol() != null
+                        ? configEntity.getHttpProtocol()
+                        : HttpProtocol.HTTP_1_1.name()));
+    }
+
+    public Boolean getParallelTrackers() {
+        return Boolean.parseBoolean(getSystemProperty(
+                "parallelTrackers",
+                configEntity.getParallelTrackers() != null
+                        ? configEntity.getParallelTrackers()
+                        : false));
+    }
+
+    public Boolean getUseVirtualThreads() {
+        return Boolean.parseBoolean(getSystemProperty(
+                "useVirtualThreads",
+                configEntity.getUseVirtualThreads() != null
+                        ? configEntity.getUseVirtualThreads()
+                        : false));
+    }
+
+    public WaitPollingStrategy getWaitPollingStrategy() {
+        return WaitPollingStrategy.fromString(getSystemProperty(
+                "waitPollingStrategy",
+                configEntity.getWaitPollingStrategy() != null
+                        ? configEntity.getWaitPollingStrategy()
+                        : WaitPollingStrategy.EXPONENTIAL.name()));
+    }
+
+    public HttpLogMode getHttpLogMode() {
+        return HttpLogMode.fromString(getSystemProperty(
+                "httpLogMode",
+                configEntity.getHttpLogMode() != null
+                        ? configEntity.getHttpLogMode()
+                        : HttpLogMode.SYNC.name()));
+    }
+
+    public Integer getHttpLogQueueCapacity() {
+        String value = getSystemProperty(
+                "httpLogQueueCapacity",
+                configEntity.getHttpLogQueueCapacity() != null
+                        ? configEntity.getHttpLogQueueCapacity()
+                        : 16384);
+        try {
+            int capacity = Integer.parseInt(value);
+            if (capacity <= 0) {
+                throw new ConfigurationException("httpLogQueueCapacity must be positive, got: " + capacity);
+            }
+            return capacity;
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("Invalid value for httpLogQueueCapacity: " + value, e);
+        }
+    }
+
+    public HttpLogOverflow getHttpLogOverflow() {
+        return HttpLogOverflow.fromString(getSystemProperty(
+                "httpLogOverflow",
+                configEntity.getHttpLogOverflow() != null
+                        ? configEntity.getHttpLogOverflow()
+                        : HttpLogOverflow.DROP.name()));
+    }
+
+    public HttpLogPolicy getHttpLogPolicy() {
+        return HttpLogPolicy.fromString(getSystemProperty(
+                "httpLogPolicy",
+                configEntity.getHttpLogPolicy() != null
+                        ? configEntity.getHttpLogPolicy()
+                        : HttpLogPolicy.ALL.name()));
+    }
+
+    public Integer getHttpLogSampleRate() {
+        String value = getSystemProperty(
+                "httpLogSampleRate",
+                configEntity.getHttpLogSampleRate() != null
+                        ? configEntity.getHttpLogSampleRate()
+                        : 100);
+        try {
+            int rate = Integer.parseInt(value);
+            if (rate <= 0) {
+                throw new ConfigurationException("httpLogSampleRate must be positive, got: " + rate);
+            }
+            return rate;
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("Invalid value for httpLogSampleRate: " + value, e);
+        }
+    }
+
+    public Integer getHttpLogEndpointLimit() {
+        String value = getSystemProperty(
+                "httpLogEndpointLimit",
+                configEntity.getHttpLogEndpointLimit() != null
+                        ? configEntity.getHttpLogEndpointLimit()
+                        : 10);
+        try {
+            int limit = Integer.parseInt(value);
+            if (limit <= 0) {
+                throw new ConfigurationException("httpLogEndpointLimit must be positive, got: " + limit);
+            }
+            return limit;
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("Invalid value for httpLogEndpointLimit: " + value, e);
+        }
+    }
+
+    public Integer getHttpLogBufferSize() {
+        String value = getSystemProperty(
+                "httpLogBufferSize",
+                configEntity.getHttpLogBufferSize() != null
+                        ? configEntity.getHttpLogBufferSize()
+                        : 50);
+        try {
+            int size = Integer.parseInt(value);
+            if (size <= 0) {
+                throw new ConfigurationException("httpLogBufferSize must be positive, got: " + size);
+            }
+            return size;
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("Invalid value for httpLogBufferSize: " + value, e);
+        }
+    }
+
+    public HttpCassetteMode getHttpCassetteMode() {
+        return HttpCassetteMode.fromString(getSystemProperty(
+                "httpCassetteMode",
+                configEntity.getHttpCassetteMode() != null
+                        ? configEntity.getHttpCassetteMode()
+                        : HttpCassetteMode.OFF.name()));
+    }
+
+    public String getHttpCassetteFile() {
+        return getSystemProperty(
+                "httpCassetteFile",
+                configEntity.getHttpCassetteFile() != null
+                        ? configEntity.getHttpCassetteFile()
+                        : "src/test/resources/cassettes/http.cassette");
+    }
+
+    public HttpCassetteKeyMode getHttpCassetteKey() {
+        return HttpCassetteKeyMode.fromString(getSystemProperty(
+                "httpCassetteKey",
+                configEntity.getHttpCassetteKey() != null
+                        ? configEntity.getHttpCassetteKey()
+                        : HttpCassetteKeyMode.BODY.name()));
+    }
+
+    public List<String> getHttpCassetteIgnoredFields() {
+        String value = getSystemProperty(
+                "httpCassetteIgnoredFields",
+                configEntity.getHttpCassetteIgnoredFields() != null
+                        ? configEntity.getHttpCassetteIgnoredFields()
+                        : "id");
+        return Arrays.stream(value.split(","))
+                     .map(String::trim)
+                     .filter(field -> !field.isEmpty())
+                     .toList();
+    }
+
+    public Integer getHttpGzipLevel() {
+        String value = getSystemProperty(
+                "httpGzipLevel",
+                configEntity.getHttpGzipLevel() != null
+                        ? configEntity.getHttpGzipLevel()
+                        : 6);
+        try {
+            int level = Integer.parseInt(value);
+            if (level < 0 || level > 9) {
+                throw new ConfigurationException("httpGzipLevel must be between 0 and 9, got: " + level);
+            }
+            return level;
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("Invalid value for httpGzipLevel: " + value, e);
+        }
+    }
+
+    public Boolean getHttpGzipStreaming() {
+        return Boolean.parseBoolean(getSystemProperty(
+                "httpGzipStreaming",
+                configEntity.getHttpGzipStreaming() != null
+                        ? configEntity.getHttpGzipStreaming()
+                        : false));
+    }
+
     public static String getSystemProperty(String propertyName, Object defaultValue) {
         return System.getProperty(propertyName) == null
                 ? defaultValue.toString()
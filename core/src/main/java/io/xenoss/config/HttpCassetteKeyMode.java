@@ -0,0 +1,36 @@
+package io.xenoss.config;
+
+import io.xenoss.exceptions.ConfigurationException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Which part of the request body identifies a request in an HTTP cassette, in addition to the method and the URL.
+ */
+public enum HttpCassetteKeyMode {
+    /** The body as sent; requests with generated values such as random ids never match a recording. */
+    BODY,
+    /** The body is ignored, so all requests with the same method and URL share one recorded response. */
+    IGNORE_BODY,
+    /** The JSON body without the fields listed in {@code httpCassetteIgnoredFields}. */
+    IGNORE_FIELDS;
+
+    /**
+     * Parses a mode by name, ignoring case.
+     *
+     * @param value the configured value
+     * @return the mode
+     */
+    public static HttpCassetteKeyMode fromString(String value) {
+        var normalized = value.trim()
+                              .toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                     .filter(mode -> mode.name()
+                                         .equals(normalized))
+                     .findFirst()
+                     .orElseThrow(() -> new ConfigurationException(String.format(
+                             "Invalid value for httpCassetteKey: %s. Supported values: body, ignore_body, "
+                                     + "ignore_fields", value)));
+    }
+}
@@ -0,0 +1,35 @@
+package io.xenoss.config;
+
+import io.xenoss.exceptions.ConfigurationException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Whether the framework HTTP clients record exchanges to a cassette file or replay them from it.
+ */
+public enum HttpCassetteMode {
+    /** Every request goes to the network. */
+    OFF,
+    /** Requests go to the network and the first response to each distinct request is stored. */
+    RECORD,
+    /** Requests are answered from the cassette without any network I/O; unknown requests fail. */
+    REPLAY;
+
+    /**
+     * Parses a mode by name, ignoring case.
+     *
+     * @param value the configured value
+     * @return the mode
+     */
+    public static HttpCassetteMode fromString(String value) {
+        var normalized = value.trim()
+                              .toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                     .filter(mode -> mode.name()
+                                         .equals(normalized))
+                     .findFirst()
+                     .orElseThrow(() -> new ConfigurationException(String.format(
+                             "Invalid value for httpCassetteMode: %s. Supported values: off, record, replay", value)));
+    }
+}
@@ -0,0 +1,33 @@
+package io.xenoss.config;
+
+import io.xenoss.exceptions.ConfigurationException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * How the framework HTTP clients log requests and responses.
+ */
+public enum HttpLogMode {
+    /** Format and print every exchange on the calling thread, storing long bodies to separate files. */
+    SYNC,
+    /** Queue exchanges for a background writer that spools them to NDJSON files, printing nothing per exchange. */
+    ASYNC;
+
+    /**
+     * Parses a mode by name, ignoring case.
+     *
+     * @param value the configured value
+     * @return the mode
+     */
+    public static HttpLogMode fromString(String value) {
+        var normalized = value.trim()
+                              .toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                     .filter(mode -> mode.name()
+                                         .equals(normalized))
+                     .findFirst()
+                     .orElseThrow(() -> new ConfigurationException(String.format(
+                             "Invalid value for httpLogMode: %s. Supported values: sync, async", value)));
+    }
+}
@@ -0,0 +1,33 @@
+package io.xenoss.config;
+
+import io.xenoss.exceptions.ConfigurationException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * What the asynchronous HTTP log does when the writer cannot keep up with the clients.
+ */
+public enum HttpLogOverflow {
+    /** Accept everything while the queue has room, drop new entries once it is full. */
+    DROP,
+    /** Once the queue is half full, accept only a sample of new entries; drop them once it is full. */
+    SAMPLE;
+
+    /**
+     * Parses a policy by name, ignoring case.
+     *
+     * @param value the configured value
+     * @return the policy
+     */
+    public static HttpLogOverflow fromString(String value) {
+        var normalized = value.trim()
+                              .toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                     .filter(policy -> policy.name()
+                                             .equals(normalized))
+                     .findFirst()
+                     .orElseThrow(() -> new ConfigurationException(String.format(
+                             "Invalid value for httpLogOverflow: %s. Supported values: drop, sample", value)));
+    }
+}
@@ -0,0 +1,46 @@
+package io.xenoss.config;
+
+import io.xenoss.exceptions.ConfigurationException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Which requests and responses the framework HTTP clients log.
+ */
+public enum HttpLogPolicy {
+    /** Every exchange. */
+    ALL,
+    /** One exchange in {@code httpLogSampleRate}, picked at random. */
+    SAMPLED,
+    /** Only exchanges with a non-2xx response or a failed request; the request is held until the outcome is known. */
+    FAILURES,
+    /** The first {@code httpLogEndpointLimit} exchanges per endpoint in every minute. */
+    RATE_LIMITED,
+    /** Nothing while the test passes; the last {@code httpLogBufferSize} exchanges of the thread are logged with
+     * their full requests when it fails. */
+    ON_FAILURE;
+
+    /**
+     * Parses a policy by name ignoring case, dashes and underscores, e.g. "on_failure" or "onFailure".
+     *
+     * @param value the configured value
+     * @return the policy
+     */
+    public static HttpLogPolicy fromString(String value) {
+        var normalized = normalize(value);
+        return Arrays.stream(values())
+                     .filter(policy -> normalize(policy.name()).equals(normalized))
+                     .findFirst()
+                     .orElseThrow(() -> new ConfigurationException(String.format(
+                             "Invalid value for httpLogPolicy: %s. Supported values: all, sampled, failures, "
+                                     + "rate_limited, on_failure", value)));
+    }
+
+    private static String normalize(String value) {
+        return value.trim()
+                    .replace("_", "")
+                    .replace("-", "")
+                    .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,42 @@
+package io.xenoss.config;
+
+import io.xenoss.exceptions.ConfigurationException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Wire protocol used by the framework HTTP clients.
+ */
+public enum HttpProtocol {
+    /** HTTP/1.1 only: one request per connection at a time. */
+    HTTP_1_1("http1"),
+    /** HTTP/2 negotiated via ALPN over TLS; plain-text URLs fall back to HTTP/1.1. */
+    HTTP_2("http2"),
+    /** Clear-text HTTP/2 with prior knowledge; HTTPS URLs are not supported in this mode. */
+    H2C("h2c");
+
+    private final String alias;
+
+    HttpProtocol(String alias) {
+        this.alias = alias;
+    }
+
+    /**
+     * Parses a protocol by name (e.g. "HTTP_2") or alias (e.g. "http2", "h2c"), ignoring case.
+     *
+     * @param value the configured value
+     * @return the protocol
+     */
+    public static HttpProtocol fromString(String value) {
+        var normalized = value.trim()
+                              .toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                     .filter(protocol -> protocol.name()
+                                                 .toLowerCase(Locale.ROOT)
+                                                 .equals(normalized) || protocol.alias.equals(normalized))
+                     .findFirst()
+                     .orElseThrow(() -> new ConfigurationException(String.format(
+                             "Invalid value for httpProtocol: %s. Supported values: http1, http2, h2c", value)));
+    }
+}
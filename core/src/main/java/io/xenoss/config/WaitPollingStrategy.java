@@ -0,0 +1,38 @@
+package io.xenoss.config;
+
+import io.xenoss.exceptions.ConfigurationException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * How long condition waits sleep between two attempts.
+ */
+public enum WaitPollingStrategy {
+    /** The legacy 1-second interval. */
+    FIXED,
+    /** Doubles the delay from 10 ms up to 1 second, with jitter. */
+    EXPONENTIAL,
+    /** Grows the delay along the Fibonacci sequence from 10 ms up to 1 second. */
+    FIBONACCI,
+    /** Polls around the time-to-satisfy previously observed at the call site. */
+    ADAPTIVE;
+
+    /**
+     * Parses a strategy by name, ignoring case.
+     *
+     * @param value the configured value
+     * @return the strategy
+     */
+    public static WaitPollingStrategy fromString(String value) {
+        var normalized = value.trim()
+                              .toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                     .filter(strategy -> strategy.name()
+                                                 .equals(normalized))
+                     .findFirst()
+                     .orElseThrow(() -> new ConfigurationException(String.format(
+                             "Invalid value for waitPollingStrategy: %s. "
+                                     + "Supported values: fixed, exponential, fibonacci, adaptive", value)));
+    }
+}
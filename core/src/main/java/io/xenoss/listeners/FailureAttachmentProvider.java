@@ -0,0 +1,15 @@
+package io.xenoss.listeners;
+
+import org.testng.ITestResult;
+
+import java.io.File;
+
+public interface FailureAttachmentProvider {
+    /**
+     * Collects diagnostics of a failed test. Called on the thread that ran the test.
+     *
+     * @param result the failed test
+     * @return the file to attach to the failure, or null if there is nothing to attach
+     */
+    File collectFailureAttachment(ITestResult result);
+}
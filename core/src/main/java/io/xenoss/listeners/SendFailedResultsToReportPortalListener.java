@@ -16,5 +16,11 @@ public class SendFailedResultsToReportPortalListener implements ITestListener {
             ReportPortal.emitLog("Test failed", LogLevel.ERROR.name(), new Date(),
                     ((Screenshotable) testClassInstance).makeScreenshot());
         }
+        if (testClassInstance instanceof FailureAttachmentProvider) {
+            var attachment = ((FailureAttachmentProvider) testClassInstance).collectFailureAttachment(result);
+            if (attachment != null) {
+                ReportPortal.emitLog("Test failure details", LogLevel.ERROR.name(), new Date(), attachment);
+            }
+        }
     }
 }
@@ -0,0 +1,44 @@
+package io.xenoss.listeners;
+
+import io.xenoss.config.ConfigurationManager;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IExecutorServiceFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs TestNG workers, including parallel data-provider rows, on virtual threads when {@code useVirtualThreads}
+ * is enabled in the config, and on the usual platform thread pool otherwise.
+ * <p>
+ * Every row gets its own virtual thread, so the pool sizes TestNG asks for (e.g. the data-provider thread count)
+ * no longer cap I/O-bound scenarios. Register it in the consuming build:
+ * <pre>{@code
+ * test {
+ *     useTestNG {
+ *         threadPoolFactoryClass = 'io.xenoss.listeners.VirtualThreadExecutorServiceFactory'
+ *     }
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class VirtualThreadExecutorServiceFactory implements IExecutorServiceFactory {
+    @Override
+    public ExecutorService create(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        if (!ConfigurationManager.getConfig()
+                                 .getUseVirtualThreads()) {
+            return new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue,
+                    threadFactory);
+        }
+
+        log.debug("Running TestNG workers on virtual threads instead of a pool of {}", maximumPoolSize);
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                                                        .name("TestNG-virtual-", 1)
+                                                        .factory());
+    }
+}
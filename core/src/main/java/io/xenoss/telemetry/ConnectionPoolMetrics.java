@@ -1,97 +1,167 @@
 package io.xenoss.telemetry;
 
-import io.xenoss.utils.ThreadingUtils;
-import io.xenoss.utils.WaitUtils;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
 
+/**
+ * Connection pool and connection lifecycle metrics.
+ * <p>
+ * Pool occupancy is sampled from the real connection pool registered via
+ * {@link #registerPoolSampler(IntSupplier, IntSupplier)}, dispatcher load from the sampler registered via
+ * {@link #registerDispatcherSampler(IntSupplier, IntSupplier)}; lifecycle events (acquire/release, connect failures,
+ * DNS/connect/TLS timings) are counted per host by the HTTP client event listener.
+ */
 @Slf4j
 public class ConnectionPoolMetrics {
-    private static final AtomicInteger activeConnections = new AtomicInteger(0);
-    private static final AtomicInteger totalConnectionsCreated = new AtomicInteger(0);
-    private static final AtomicInteger totalConnectionsClosed = new AtomicInteger(0);
+    private static final AtomicLong totalConnectionsCreated = new AtomicLong(0);
     private static final AtomicLong totalRequestCount = new AtomicLong(0);
     private static final AtomicLong totalResponseCount = new AtomicLong(0);
-    
-    // Simulate connection closures based on keep-alive timeout
-    static {
-        // Start a background thread to simulate connection closures
-        ThreadingUtils.startAsync(() -> {
-            WaitUtils.forSeconds(35); // Check every 35 seconds (slightly more than keep-alive)
-
-            // Simulate some idle connections being closed due to timeout
-            int created = totalConnectionsCreated.get();
-            int closed = totalConnectionsClosed.get();
-            int currentActive = Math.max(0, (int) (totalRequestCount.get() - totalResponseCount.get()));
-            int currentIdle = Math.max(0, created - closed - currentActive);
-
-            // Close some idle connections (simulate keep-alive timeout)
-            if (currentIdle > 2) {
-                int toClose = 2;
-                totalConnectionsClosed.addAndGet(toClose);
-                log.debug("Simulated {} connection closures due to keep-alive timeout", toClose);
-            }
-
-            return null;
-        }, "ConnectionPool-Simulator", true);
+    private static final Map<String, HostMetrics> hostMetrics = new ConcurrentHashMap<>();
+
+    private static volatile IntSupplier connectionCountSampler = () -> 0;
+    private static volatile IntSupplier idleConnectionCountSampler = () -> 0;
+    private static volatile IntSupplier runningCallsSampler;
+    private static volatile IntSupplier queuedCallsSampler;
+
+    /**
+     * Registers the source of pool occupancy values.
+     *
+     * @param connectionCount supplies the number of open connections in the pool
+     * @param idleConnectionCount supplies the number of idle connections in the pool
+     */
+    public static void registerPoolSampler(IntSupplier connectionCount, IntSupplier idleConnectionCount) {
+        connectionCountSampler = connectionCount;
+        idleConnectionCountSampler = idleConnectionCount;
+    }
+
+    /**
+     * Registers the source of dispatcher load values.
+     *
+     * @param runningCalls supplies the number of asynchronous calls currently executing
+     * @param queuedCalls supplies the number of asynchronous calls waiting for a free slot
+     */
+    public static void registerDispatcherSampler(IntSupplier runningCalls, IntSupplier queuedCalls) {
+        runningCallsSampler = runningCalls;
+        queuedCallsSampler = queuedCalls;
     }
-    
+
     // Track connection lifecycle
-    public static void onConnectionCreated() {
+    public static void onConnectionCreated(String host, long connectNanos) {
         totalConnectionsCreated.incrementAndGet();
-        activeConnections.incrementAndGet();
-        log.debug("Connection created. Active: {}, Total created: {}", 
-                activeConnections.get(), totalConnectionsCreated.get());
+        var metrics = forHost(host);
+        metrics.connects.increment();
+        metrics.connectNanos.add(connectNanos);
+        log.debug("Connection created to {}. Total created: {}", host, totalConnectionsCreated.get());
+    }
+
+    public static void onConnectFailed(String host) {
+        forHost(host).connectFailures.increment();
     }
-    
-    public static void onConnectionClosed() {
-        totalConnectionsClosed.incrementAndGet();
-        activeConnections.decrementAndGet();
-        log.debug("Connection closed. Active: {}, Total closed: {}", 
-                activeConnections.get(), totalConnectionsClosed.get());
+
+    public static void onConnectionAcquired(String host) {
+        forHost(host).acquired.increment();
+    }
+
+    public static void onConnectionReleased(String host) {
+        forHost(host).released.increment();
+    }
+
+    public static void onDnsResolved(String host, long dnsNanos) {
+        var metrics = forHost(host);
+        metrics.dnsLookups.increment();
+        metrics.dnsNanos.add(dnsNanos);
+    }
+
+    public static void onTlsHandshake(String host, long tlsNanos) {
+        var metrics = forHost(host);
+        metrics.tlsHandshakes.increment();
+        metrics.tlsNanos.add(tlsNanos);
     }
-    
+
     // Track request/response activity
     public static void onRequestSent() {
         totalRequestCount.incrementAndGet();
     }
-    
+
     public static void onResponseReceived() {
         totalResponseCount.incrementAndGet();
     }
-    
+
     // Get current metrics as a formatted map
-    public static java.util.Map<String, String> getMetrics() {
-        int created = totalConnectionsCreated.get();
-        int closed = totalConnectionsClosed.get();
-        long requests = totalRequestCount.get();
-        long responses = totalResponseCount.get();
-        
-        // Estimate active connections based on in-flight requests
-        int estimatedActive = Math.max(0, (int)(requests - responses));
-        
-        // Estimate idle connections (created - closed - active)
-        int estimatedIdle = Math.max(0, created - closed - estimatedActive);
-        
-        return java.util.Map.of(
-                "🔗 Active Connections", String.valueOf(estimatedActive),
-                "💤 Idle Connections", String.valueOf(estimatedIdle),
-                "📈 Total Connections Created", String.valueOf(created),
-                "📉 Total Connections Closed", String.valueOf(closed),
-                "📤 Total Requests Sent", String.valueOf(requests),
-                "📥 Total Responses Received", String.valueOf(responses)
-        );
+    public static Map<String, String> getMetrics() {
+        int total = connectionCountSampler.getAsInt();
+        int idle = idleConnectionCountSampler.getAsInt();
+        long created = totalConnectionsCreated.get();
+
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("🔗 Active Connections", String.valueOf(Math.max(0, total - idle)));
+        metrics.put("💤 Idle Connections", String.valueOf(idle));
+        metrics.put("📈 Total Connections Created", String.valueOf(created));
+        // Every connection that is no longer in the pool has been evicted or closed
+        metrics.put("📉 Total Connections Closed", String.valueOf(Math.max(0, created - total)));
+        metrics.put("📤 Total Requests Sent", String.valueOf(totalRequestCount.get()));
+        metrics.put("📥 Total Responses Received", String.valueOf(totalResponseCount.get()));
+
+        var running = runningCallsSampler;
+        var queued = queuedCallsSampler;
+        if (running != null && queued != null) {
+            metrics.put("🚦 Dispatcher Running Calls", String.valueOf(running.getAsInt()));
+            metrics.put("🚥 Dispatcher Queued Calls", String.valueOf(queued.getAsInt()));
+        }
+
+        new TreeMap<>(hostMetrics).forEach((host, hostMetric) ->
+                metrics.put(String.format("🔌 %s", host), hostMetric.toString()));
+        return metrics;
     }
-    
+
     // Reset metrics (useful for testing)
     public static void reset() {
-        activeConnections.set(0);
         totalConnectionsCreated.set(0);
-        totalConnectionsClosed.set(0);
         totalRequestCount.set(0);
         totalResponseCount.set(0);
+        hostMetrics.clear();
         log.debug("Connection pool metrics reset");
     }
+
+    private static HostMetrics forHost(String host) {
+        return hostMetrics.computeIfAbsent(host, key -> new HostMetrics());
+    }
+
+    /**
+     * Per-host lifecycle counters. High connect/TLS counts relative to acquisitions indicate connection churn.
+     */
+    private static final class HostMetrics {
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder released = new LongAdder();
+        private final LongAdder connects = new LongAdder();
+        private final LongAdder connectNanos = new LongAdder();
+        private final LongAdder connectFailures = new LongAdder();
+        private final LongAdder dnsLookups = new LongAdder();
+        private final LongAdder dnsNanos = new LongAdder();
+        private final LongAdder tlsHandshakes = new LongAdder();
+        private final LongAdder tlsNanos = new LongAdder();
+
+        @Override
+        public String toString() {
+            return String.format("acquired=%d, released=%d, connects=%d (avg %.1fms), connectFailed=%d, "
+                            + "dns=%d (avg %.1fms), tls=%d (avg %.1fms)",
+                    acquired.sum(), released.sum(),
+                    connects.sum(), averageMillis(connectNanos, connects), connectFailures.sum(),
+                    dnsLookups.sum(), averageMillis(dnsNanos, dnsLookups),
+                    tlsHandshakes.sum(), averageMillis(tlsNanos, tlsHandshakes));
+        }
+
+        private static double averageMillis(LongAdder totalNanos, LongAdder count) {
+            long events = count.sum();
+            return events == 0 ? 0 : (double) totalNanos.sum() / events / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
 }
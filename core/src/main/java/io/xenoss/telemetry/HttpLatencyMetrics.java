@@ -0,0 +1,130 @@
+package io.xenoss.telemetry;
+
+import io.xenoss.config.ConfigurationManager;
+import io.xenoss.utils.FileUtils;
+import io.xenoss.utils.RandomUtils;
+import io.xenoss.utils.SerializationUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP call latency distributions keyed by method and host.
+ * <p>
+ * Every call is recorded into a {@link LatencyHistogram}. When an expected request interval is configured
+ * ({@code httpExpectedIntervalMs} or {@link #setExpectedInterval(Duration)}), recording is corrected for
+ * coordinated omission, so closed-loop runs report the latency a fixed-rate client would have seen.
+ */
+@Slf4j
+public final class HttpLatencyMetrics {
+    private static final String REPORTS_DIR_PATH = "build/reports/httpLatency";
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    // Keyed by a record rather than a formatted string, so recording a call does not build a key
+    private static final Map<Endpoint, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private static volatile long expectedIntervalMicros = TimeUnit.MILLISECONDS.toMicros(
+            ConfigurationManager.getConfig()
+                                .getHttpExpectedIntervalMs());
+
+    private HttpLatencyMetrics() {
+    }
+
+    /**
+     * Records a completed (or failed) HTTP call.
+     *
+     * @param method HTTP method
+     * @param host target host
+     * @param durationNanos call duration measured with {@link System#nanoTime()}
+     */
+    public static void record(String method, String host, long durationNanos) {
+        histograms.computeIfAbsent(new Endpoint(method, host), key -> new LatencyHistogram())
+                  .recordValueWithExpectedInterval(TimeUnit.NANOSECONDS.toMicros(durationNanos),
+                          expectedIntervalMicros);
+    }
+
+    /**
+     * Overrides the configured expected interval between requests.
+     *
+     * @param interval expected interval; {@link Duration#ZERO} disables the correction
+     */
+    public static void setExpectedInterval(Duration interval) {
+        expectedIntervalMicros = TimeUnit.NANOSECONDS.toMicros(interval.toNanos());
+    }
+
+    /**
+     * @return snapshots of all histograms keyed by "METHOD host", sorted by key
+     */
+    public static Map<String, LatencyHistogram.Snapshot> getSnapshots() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+        histograms.forEach((endpoint, histogram) -> snapshots.put(endpoint.toString(), histogram.snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * Formats the latency distributions for the telemetry dashboard.
+     *
+     * @return metrics keyed by display name
+     */
+    public static Map<String, String> getMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        getSnapshots().forEach((key, snapshot) -> metrics.put(String.format("⏳ %s", key), snapshot.toString()));
+        return metrics;
+    }
+
+    /**
+     * Writes all latency distributions to a JSON file under build/reports/httpLatency.
+     *
+     * @return the file path, or null if nothing was recorded
+     */
+    public static String dumpToFile() {
+        var snapshots = getSnapshots();
+        if (snapshots.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Map<String, Object>> report = new LinkedHashMap<>();
+        snapshots.forEach((key, snapshot) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("count", snapshot.getCount());
+            entry.put("minMicros", snapshot.getMin());
+            entry.put("meanMicros", Math.round(snapshot.getMean()));
+            for (double percentile : PERCENTILES) {
+                entry.put(String.format("p%sMicros", formatPercentile(percentile)),
+                        snapshot.getValueAtPercentile(percentile));
+            }
+            entry.put("maxMicros", snapshot.getMax());
+            report.put(key, entry);
+        });
+
+        FileUtils.makeDir(REPORTS_DIR_PATH);
+        var path = FileUtils.printToFile(String.format("%s/%s.json", REPORTS_DIR_PATH,
+                RandomUtils.currentTimestampWithMilliseconds()), SerializationUtils.toPrettyJson(report));
+        log.info("HTTP latency report is stored to file:\n{}", path);
+        return path;
+    }
+
+    /**
+     * Clears all recorded distributions.
+     */
+    public static void reset() {
+        histograms.clear();
+    }
+
+    private record Endpoint(String method, String host) {
+        @Override
+        public String toString() {
+            return method + " " + host;
+        }
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile).replace('.', '_');
+    }
+}
@@ -0,0 +1,218 @@
+package io.xenoss.telemetry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets.
+ * <p>
+ * Values are recorded in microseconds. Values below 128 are stored exactly, larger values are grouped into
+ * buckets of 64 sub-buckets per power of two, which keeps the relative error under ~1.6% while the memory
+ * footprint stays fixed (about 14 KB for the default 1-hour range) regardless of how many values are recorded.
+ * Recording is a single {@link AtomicLongArray#incrementAndGet(int)} and is safe to call from any number of threads.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = TimeUnit.HOURS.toMicros(1);
+
+    private final long highestTrackableValue;
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalSum = new LongAdder();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxValue = new AtomicLong(0);
+
+    /**
+     * Creates a histogram tracking values from 0 to 1 hour (in microseconds).
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_HIGHEST_TRACKABLE_VALUE);
+    }
+
+    /**
+     * Creates a histogram tracking values from 0 to the given limit.
+     * Values above the limit are clamped to it.
+     *
+     * @param highestTrackableValue the highest value to track, in microseconds
+     */
+    public LatencyHistogram(long highestTrackableValue) {
+        if (highestTrackableValue < SUB_BUCKET_COUNT) {
+            throw new IllegalArgumentException("Highest trackable value must be at least " + SUB_BUCKET_COUNT);
+        }
+        this.highestTrackableValue = highestTrackableValue;
+        this.counts = new AtomicLongArray(indexFor(highestTrackableValue) + 1);
+    }
+
+    /**
+     * Records a single value.
+     *
+     * @param value the value in microseconds; negative values are recorded as 0
+     */
+    public void recordValue(long value) {
+        long clamped = Math.min(Math.max(value, 0), highestTrackableValue);
+        counts.incrementAndGet(indexFor(clamped));
+        totalCount.increment();
+        totalSum.add(clamped);
+        minValue.accumulateAndGet(clamped, Math::min);
+        maxValue.accumulateAndGet(clamped, Math::max);
+    }
+
+    /**
+     * Records a value and corrects for coordinated omission.
+     * <p>
+     * When a closed-loop caller waits for a slow response, the requests it would have sent in the meantime are
+     * never measured. If the value exceeds the expected interval between requests, this method additionally
+     * records the latencies those missing requests would have seen: {@code value - interval},
+     * {@code value - 2 * interval} and so on, down to the interval itself.
+     *
+     * @param value the value in microseconds
+     * @param expectedInterval the expected interval between requests in microseconds; 0 disables correction
+     */
+    public void recordValueWithExpectedInterval(long value, long expectedInterval) {
+        recordValue(value);
+        if (expectedInterval <= 0) {
+            return;
+        }
+        for (long missing = value - expectedInterval; missing >= expectedInterval; missing -= expectedInterval) {
+            recordValue(missing);
+        }
+    }
+
+    /**
+     * Records a duration measured with {@link System#nanoTime()}.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Clears all recorded values.
+     * Values recorded concurrently with a reset may be partially retained.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+        totalSum.reset();
+        minValue.set(Long.MAX_VALUE);
+        maxValue.set(0);
+    }
+
+    /**
+     * Takes a point-in-time copy of the histogram that can be queried without affecting recording.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[counts.length()];
+        long count = 0;
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long min = count == 0 ? 0 : minValue.get();
+        return new Snapshot(copy, count, totalSum.sum(), min, maxValue.get());
+    }
+
+    private static int indexFor(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (subBucket - SUB_BUCKET_HALF_COUNT);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = offset % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Immutable copy of histogram counts with percentile queries.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long min, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMin() {
+            return min;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Returns the value at the given percentile.
+         * The result is the upper bound of the bucket holding the percentile, capped at the recorded maximum.
+         *
+         * @param percentile percentile in range [0, 100]
+         * @return the value in microseconds, or 0 if nothing was recorded
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            double bounded = Math.min(Math.max(percentile, 0), 100);
+            long target = Math.max(1, (long) Math.ceil(bounded / 100 * count));
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= target) {
+                    return Math.min(highestEquivalentValue(i), max);
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, min=%.2fms, p50=%.2fms, p90=%.2fms, p99=%.2fms, p99.9=%.2fms, max=%.2fms",
+                    count, toMillis(min), toMillis(getValueAtPercentile(50)), toMillis(getValueAtPercentile(90)),
+                    toMillis(getValueAtPercentile(99)), toMillis(getValueAtPercentile(99.9)), toMillis(max));
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package io.xenoss.telemetry;
 
-import io.xenoss.utils.WaitUtils;
+import io.xenoss.utils.PeriodicTasks;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+
 @Slf4j
 public class TelemetryConsoleLogger {
 
@@ -11,31 +13,40 @@ public class TelemetryConsoleLogger {
     @Getter
     private static TelemetryConsoleLogger logger;
 
+    private final PeriodicTasks.PeriodicTask task;
+
     // Constructors
     private TelemetryConsoleLogger() {
-        new Thread(() -> {
-            while (true) {
-                WaitUtils.forSeconds(1);
-                logToConsole();
-            }
-        }).start();
+        task = PeriodicTasks.atFixedRate("TelemetryConsoleLogger", Duration.ofSeconds(1), this::logToConsole);
     }
 
     // Static methods
-    public static void start() {
-        logger = new TelemetryConsoleLogger();
+    public static synchronized void start() {
+        if (logger == null) {
+            logger = new TelemetryConsoleLogger();
+        }
+    }
+
+    public static synchronized void stop() {
+        if (logger != null) {
+            logger.task.cancel();
+            logger = null;
+        }
     }
 
     private void logToConsole() {
-        if (TelemetryData.getData()
-                         .isEmpty()) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+
+        var data = TelemetryData.getData();
+        if (data.isEmpty()) {
             return;
         }
 
         var sb = new StringBuilder();
         sb.append("Telemetry data:");
-        for(var record : TelemetryData.getData()
-                                      .entrySet()) {
+        for(var record : data.entrySet()) {
             sb.append(System.lineSeparator())
               .append("\t")
               .append(record.getKey())
@@ -2,145 +2,235 @@ package io.xenoss.telemetry;
 
 import io.xenoss.config.ConfigurationManager;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 /**
- * Thread-safe telemetry data manager using ConcurrentHashMap for metrics storage
- * and ReadWriteLock for data snapshot operations.
+ * Telemetry shown on the dashboard and in the console log.
  * <p>
- * This refactoring removes excessive synchronization and uses appropriate concurrent data structures:
- * - ConcurrentHashMap for systemMetrics and testMetrics (thread-safe without extra locks)
- * - ReadWriteLock for protecting the data snapshot to allow concurrent reads
- * - AtomicLong for rate limiting timestamp
+ * The state is an immutable {@link Snapshot} published through an {@link AtomicReference}: writers swap in a
+ * copy with their changes, readers get a consistent view without locking. Numeric metrics reported from test
+ * threads are {@link Counter counters} and {@link Gauge gauges} registered once and updated without touching the
+ * snapshot, so concurrent reporting never contends; values derived from them are {@link View views} formatted
+ * only when rendered. Pre-formatted test metrics are collected per key and folded into the snapshot in one batch
+ * by the next reader. Rendering to strings is deferred to the consumers: the rendered view is rebuilt at most
+ * every {@code telemetryUpdateIntervalMs} by whoever reads it.
  * <p>
  * Configuration values are loaded from testConfig.yaml and can be overridden via system properties.
  */
 public class TelemetryData {
     private static final long START_TIME = System.currentTimeMillis();
-    private static final String START_TIME_FORMATTED =
-            LocalDateTime.now()
-                         .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+                                                                               .withZone(ZoneId.systemDefault());
+    private static final String START_TIME_FORMATTED = TIMESTAMP_FORMAT.format(Instant.ofEpochMilli(START_TIME));
+    private static final String SECTION_SEPARATOR = "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━";
 
-    // Rate limiting for updates during heavy load using atomic variable (configurable)
-    private static final AtomicLong lastUpdateTime = new AtomicLong(0);
-    private static final long MIN_UPDATE_INTERVAL_MS =
-            ConfigurationManager.getConfig()
-                                .getTelemetryUpdateIntervalMs();
+    // Metrics shown first in the system section, in this order
+    private static final List<String> SYSTEM_METRICS_ORDER = List.of(
+            "🌐 HTTP Client",
+            "🏊 Max Connection Pool Size",
+            "🔧 GZIP Enabled",
+            "🔗 Active Connections",
+            "💤 Idle Connections",
+            "📈 Total Connections Created",
+            "📉 Total Connections Closed",
+            "📤 Total Requests Sent",
+            "📥 Total Responses Received",
+            "🚦 Dispatcher Running Calls",
+            "🚥 Dispatcher Queued Calls",
+            "💾 Memory Used",
+            "💽 Memory Total",
+            "⚡ Available Processors");
 
-    // ConcurrentHashMap provides thread-safety without additional synchronization
-    private static final Map<String, String> systemMetrics = new ConcurrentHashMap<>();
-    private static final Map<String, String> testMetrics = new ConcurrentHashMap<>();
+    private static final long RENDER_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(
+            ConfigurationManager.getConfig()
+                                .getTelemetryUpdateIntervalMs());
 
-    // Use ReadWriteLock for the data snapshot - allows multiple concurrent readers
-    private static final Map<String, String> data = new LinkedHashMap<>();
-    private static final ReadWriteLock dataLock = new ReentrantReadWriteLock();
+    private static final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    // Latest pre-formatted test metrics not yet folded into the snapshot
+    private static final Map<String, String> pendingTestMetrics = new ConcurrentHashMap<>();
+    private static final AtomicReference<Rendered> rendered = new AtomicReference<>();
 
     /**
-     * Updates system metrics and triggers combined data update.
-     * No synchronization needed - ConcurrentHashMap.putAll is thread-safe.
+     * Merges pre-formatted system metrics into the snapshot.
+     *
+     * @param metrics values keyed by display name
      */
     public static void updateSystemMetrics(Map<String, String> metrics) {
-        systemMetrics.putAll(metrics);
-        updateCombinedData();
+        update(current -> current.withSystemMetrics(merge(current.systemMetrics(), metrics)));
     }
 
     /**
-     * Updates test metrics and triggers combined data update.
-     * No synchronization needed - ConcurrentHashMap.putAll is thread-safe.
+     * Records pre-formatted test metrics. They reach the snapshot when it is next read, so frequent publishers
+     * only replace map entries instead of copying the snapshot. Keys seen for the first time are appended in
+     * no particular order. For values updated from many threads prefer {@link #counter(String)} and
+     * {@link #gauge(String)}.
+     *
+     * @param metrics values keyed by display name
      */
     public static void updateTestMetrics(Map<String, String> metrics) {
-        testMetrics.putAll(metrics);
-        updateCombinedData();
+        pendingTestMetrics.putAll(metrics);
     }
 
     /**
-     * Helper method to add system metrics in a specific order.
-     * ConcurrentHashMap.get() is thread-safe without additional locking.
+     * Returns the test counter with the given name, registering it on first use.
+     *
+     * @param name display name of the counter
+     * @return the counter, safe to update from any thread
      */
-    private static void addSystemMetricInOrder(Map<String, String> orderedData, String key) {
-        String value = systemMetrics.get(key);
-        if (value != null) {
-            orderedData.put(key, value);
-        }
+    public static Counter counter(String name) {
+        return register(name, Counter.class, Counter::new);
+    }
+
+    /**
+     * Returns the test gauge with the given name, registering it on first use.
+     *
+     * @param name display name of the gauge
+     * @return the gauge, safe to update from any thread
+     */
+    public static Gauge gauge(String name) {
+        return register(name, Gauge.class, Gauge::new);
+    }
+
+    /**
+     * Publishes a metric under the given name, replacing any metric registered before, e.g. the counters of a
+     * previous run.
+     *
+     * @param name display name of the metric
+     * @param metric the metric, read when the telemetry is rendered
+     */
+    public static void publish(String name, Metric metric) {
+        update(current -> current.withMetrics(merge(current.metrics(), Map.of(name, metric))));
+    }
+
+    /**
+     * Publishes a value formatted only when the telemetry is rendered, typically derived from counters.
+     *
+     * @param name display name of the metric
+     * @param renderer formats the current value, must be thread-safe and cheap
+     */
+    public static void view(String name, Supplier<String> renderer) {
+        publish(name, new View(renderer));
+    }
+
+    /**
+     * @return the current immutable state
+     */
+    public static Snapshot getSnapshot() {
+        foldPendingTestMetrics();
+        return snapshot.get();
     }
 
     /**
-     * Updates the combined data snapshot with rate limiting.
-     * Uses write lock only when actually updating the data snapshot.
+     * Returns the telemetry rendered for display: the system section, then the test section.
+     * The rendering is shared between readers and refreshed at most every {@code telemetryUpdateIntervalMs}.
+     *
+     * @return an unmodifiable ordered view of the current telemetry, empty until something is reported
      */
-    private static void updateCombinedData() {
-        // Rate limiting: Skip update if called too frequently during heavy load
-        long currentTime = System.currentTimeMillis();
-        long lastUpdate = lastUpdateTime.get();
+    public static Map<String, String> getData() {
+        var current = getSnapshot();
+        if (current == Snapshot.EMPTY) {
+            return Map.of();
+        }
 
-        // Use compareAndSet for atomic rate limit check
-        if (currentTime - lastUpdate < MIN_UPDATE_INTERVAL_MS) {
-            return; // Skip this update to reduce contention
+        long now = System.nanoTime();
+        var cached = rendered.get();
+        if (cached != null && cached.source() == current && now - cached.renderedAtNanos() < RENDER_INTERVAL_NANOS) {
+            return cached.data();
         }
 
-        // Try to update lastUpdateTime atomically
-        if (!lastUpdateTime.compareAndSet(lastUpdate, currentTime)) {
-            return; // Another thread is already updating
+        var fresh = new Rendered(current, now, render(current));
+        // Losing the race only means another reader published an equally fresh rendering
+        rendered.compareAndSet(cached, fresh);
+        return fresh.data();
+    }
+
+    private static void foldPendingTestMetrics() {
+        if (pendingTestMetrics.isEmpty()) {
+            return;
+        }
+        Map<String, String> batch = new LinkedHashMap<>(pendingTestMetrics);
+        update(current -> current.withTestMetrics(merge(current.testMetrics(), batch)));
+        // A value replaced meanwhile stays pending for the next reader
+        batch.forEach(pendingTestMetrics::remove);
+    }
+
+    private static void update(UnaryOperator<Snapshot> change) {
+        long now = System.currentTimeMillis();
+        snapshot.updateAndGet(current -> change.apply(current)
+                                               .withUpdatedAt(now));
+    }
+
+    private static <T extends Metric> T register(String name, Class<T> type, Supplier<T> factory) {
+        var existing = snapshot.get()
+                               .metrics()
+                               .get(name);
+        if (existing == null) {
+            // Registration is rare, so copying the metric map on every new name is cheap
+            update(current -> current.metrics()
+                                     .containsKey(name)
+                    ? current
+                    : current.withMetrics(merge(current.metrics(), Map.of(name, factory.get()))));
+            existing = snapshot.get()
+                               .metrics()
+                               .get(name);
+        }
+        if (!type.isInstance(existing)) {
+            throw new IllegalArgumentException(String.format("Telemetry metric '%s' is a %s, not a %s", name,
+                    existing.getClass()
+                            .getSimpleName(), type.getSimpleName()));
         }
+        return type.cast(existing);
+    }
+
+    private static <V> Map<String, V> merge(Map<String, V> current, Map<String, ? extends V> changes) {
+        Map<String, V> merged = new LinkedHashMap<>(current);
+        merged.putAll(changes);
+        return Collections.unmodifiableMap(merged);
+    }
 
-        // Build the complete ordered data first (no locks needed for reads from ConcurrentHashMap)
-        Map<String, String> orderedData = new LinkedHashMap<>();
+    private static Map<String, String> render(Snapshot state) {
+        Map<String, String> data = new LinkedHashMap<>();
 
         // System information section
-        orderedData.put("📊 SYSTEM METRICS", "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        orderedData.put("⏰ Application Start Time", START_TIME_FORMATTED);
-        orderedData.put("⏱️ Running Time", formatUptime(System.currentTimeMillis() - START_TIME));
-
-        // Add system metrics in a consistent order
-        addSystemMetricInOrder(orderedData, "🌐 HTTP Client");
-        addSystemMetricInOrder(orderedData, "🏊 Max Connection Pool Size");
-        addSystemMetricInOrder(orderedData, "🔧 GZIP Enabled");
-        addSystemMetricInOrder(orderedData, "🔗 Active Connections");
-        addSystemMetricInOrder(orderedData, "💤 Idle Connections");
-        addSystemMetricInOrder(orderedData, "📈 Total Connections Created");
-        addSystemMetricInOrder(orderedData, "📉 Total Connections Closed");
-        addSystemMetricInOrder(orderedData, "📤 Total Requests Sent");
-        addSystemMetricInOrder(orderedData, "📥 Total Responses Received");
-        addSystemMetricInOrder(orderedData, "💾 Memory Used");
-        addSystemMetricInOrder(orderedData, "💽 Memory Total");
-        addSystemMetricInOrder(orderedData, "⚡ Available Processors");
-
-        // Add any additional system metrics that might not be in the predefined list
-        // Snapshot iteration is safe with ConcurrentHashMap
-        for (Map.Entry<String, String> entry : systemMetrics.entrySet()) {
-            if (!orderedData.containsKey(entry.getKey())) {
-                orderedData.put(entry.getKey(), entry.getValue());
+        data.put("📊 SYSTEM METRICS", SECTION_SEPARATOR);
+        data.put("⏰ Application Start Time", START_TIME_FORMATTED);
+        data.put("⏱️ Running Time", formatUptime(System.currentTimeMillis() - START_TIME));
+
+        var systemMetrics = state.systemMetrics();
+        for (var key : SYSTEM_METRICS_ORDER) {
+            var value = systemMetrics.get(key);
+            if (value != null) {
+                data.put(key, value);
             }
         }
+        // Any additional system metrics that are not in the predefined list
+        systemMetrics.forEach(data::putIfAbsent);
 
         // Test metrics section
-        if (!testMetrics.isEmpty()) {
-            orderedData.put("🧪 TEST METRICS", "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-            orderedData.putAll(testMetrics);
+        if (!state.testMetrics()
+                  .isEmpty() || !state.metrics()
+                                      .isEmpty()) {
+            data.put("🧪 TEST METRICS", SECTION_SEPARATOR);
+            data.putAll(state.testMetrics());
+            state.metrics()
+                 .forEach((name, metric) -> data.put(name, metric.render()));
         }
 
-        // Add last updated timestamp
-        orderedData.put("🔄 Last Updated",
-                LocalDateTime.now()
-                             .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-
-        // Replace the entire data map using write lock
-        dataLock.writeLock()
-                .lock();
-        try {
-            data.clear();
-            data.putAll(orderedData);
-        } finally {
-            dataLock.writeLock()
-                    .unlock();
-        }
+        data.put("🔄 Last Updated", TIMESTAMP_FORMAT.format(Instant.ofEpochMilli(state.updatedAtMillis())));
+        return Collections.unmodifiableMap(data);
     }
 
     private static String formatUptime(long uptimeMs) {
@@ -159,19 +249,110 @@ public class TelemetryData {
     }
 
     /**
-     * Returns a defensive copy of the current telemetry data snapshot.
-     * Uses read lock to allow concurrent reads without blocking.
+     * Immutable telemetry state. Maps keep insertion order and cannot be modified.
      *
-     * @return a copy of the current telemetry data
+     * @param systemMetrics pre-formatted system metrics
+     * @param testMetrics pre-formatted test metrics
+     * @param metrics numeric test metrics, rendered on read
+     * @param updatedAtMillis time of the latest change
      */
-    public static Map<String, String> getData() {
-        dataLock.readLock()
-                .lock();
-        try {
-            return new LinkedHashMap<>(data);
-        } finally {
-            dataLock.readLock()
-                    .unlock();
+    public record Snapshot(Map<String, String> systemMetrics,
+                           Map<String, String> testMetrics,
+                           Map<String, Metric> metrics,
+                           long updatedAtMillis) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), 0);
+
+        Snapshot withSystemMetrics(Map<String, String> value) {
+            return new Snapshot(value, testMetrics, metrics, updatedAtMillis);
+        }
+
+        Snapshot withTestMetrics(Map<String, String> value) {
+            return new Snapshot(systemMetrics, value, metrics, updatedAtMillis);
+        }
+
+        Snapshot withMetrics(Map<String, Metric> value) {
+            return new Snapshot(systemMetrics, testMetrics, value, updatedAtMillis);
+        }
+
+        Snapshot withUpdatedAt(long value) {
+            return new Snapshot(systemMetrics, testMetrics, metrics, value);
+        }
+    }
+
+    private record Rendered(Snapshot source, long renderedAtNanos, Map<String, String> data) {
+    }
+
+    /**
+     * A metric read when the telemetry is rendered.
+     */
+    public sealed interface Metric permits Counter, Gauge, View {
+        /**
+         * @return the current value as shown on the dashboard
+         */
+        String render();
+    }
+
+    /**
+     * Monotonic count, e.g. finished tests. Updates from many threads do not contend.
+     */
+    public static final class Counter implements Metric {
+        private final LongAdder count = new LongAdder();
+
+        public void increment() {
+            count.increment();
+        }
+
+        public void add(long delta) {
+            count.add(delta);
+        }
+
+        public long value() {
+            return count.sum();
+        }
+
+        @Override
+        public String render() {
+            return String.valueOf(value());
+        }
+    }
+
+    /**
+     * Latest value of a quantity that goes up and down, e.g. running tests.
+     */
+    public static final class Gauge implements Metric {
+        private final AtomicLong current = new AtomicLong();
+
+        public void set(long value) {
+            current.set(value);
+        }
+
+        public void add(long delta) {
+            current.addAndGet(delta);
+        }
+
+        public long value() {
+            return current.get();
+        }
+
+        @Override
+        public String render() {
+            return String.valueOf(value());
+        }
+    }
+
+    /**
+     * Value formatted on read, e.g. a rate or a percentile computed from counters.
+     */
+    public static final class View implements Metric {
+        private final Supplier<String> renderer;
+
+        public View(Supplier<String> renderer) {
+            this.renderer = renderer;
+        }
+
+        @Override
+        public String render() {
+            return renderer.get();
         }
     }
 }
@@ -0,0 +1,57 @@
+package io.xenoss.telemetry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated file transfer metrics for streamed downloads.
+ */
+public class TransferMetrics {
+    private static final double BYTES_IN_MB = 1024.0 * 1024.0;
+
+    private static final LongAdder filesDownloaded = new LongAdder();
+    private static final LongAdder bytesDownloaded = new LongAdder();
+    private static final LongAdder downloadNanos = new LongAdder();
+
+    /**
+     * Registers a completed download.
+     *
+     * @param bytes         bytes written
+     * @param durationNanos transfer duration
+     */
+    public static void onDownloaded(long bytes, long durationNanos) {
+        filesDownloaded.increment();
+        bytesDownloaded.add(bytes);
+        downloadNanos.add(durationNanos);
+    }
+
+    // Get current metrics as a formatted map
+    public static Map<String, String> getMetrics() {
+        long files = filesDownloaded.sum();
+        Map<String, String> metrics = new LinkedHashMap<>();
+        if (files == 0) {
+            return metrics;
+        }
+
+        long bytes = bytesDownloaded.sum();
+        long nanos = downloadNanos.sum();
+        // Average per-transfer rate; concurrent downloads each count with their own duration
+        double megabytesPerSecond = nanos == 0
+                ? 0
+                : bytes / BYTES_IN_MB * TimeUnit.SECONDS.toNanos(1) / nanos;
+
+        metrics.put("📦 Files Downloaded", String.valueOf(files));
+        metrics.put("💾 Bytes Downloaded", String.format("%.1f MB", bytes / BYTES_IN_MB));
+        metrics.put("🚚 Download Throughput", String.format("%.2f MB/s", megabytesPerSecond));
+        return metrics;
+    }
+
+    // Reset metrics (useful for testing)
+    public static void reset() {
+        filesDownloaded.reset();
+        bytesDownloaded.reset();
+        downloadNanos.reset();
+    }
+}
@@ -0,0 +1,197 @@
+package io.xenoss.telemetry;
+
+import io.xenoss.utils.FileUtils;
+import io.xenoss.utils.RandomUtils;
+import io.xenoss.utils.SerializationUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Condition wait statistics keyed by call site, to show where suite wall-clock time goes.
+ * <p>
+ * Every wait records its number of attempts and its duration; satisfied waits also record their time-to-satisfy
+ * into a {@link LatencyHistogram}. The dashboard lists the call sites with the most total wait time.
+ */
+@Slf4j
+public final class WaitMetrics {
+    private static final String REPORTS_DIR_PATH = "build/reports/waits";
+    private static final int DASHBOARD_CALL_SITES = 5;
+
+    private static final Map<String, CallSiteStats> callSites = new ConcurrentHashMap<>();
+
+    private WaitMetrics() {
+    }
+
+    /**
+     * Records a wait whose condition was satisfied.
+     *
+     * @param callSite the waiting code
+     * @param attempts number of attempts it took
+     * @param durationNanos time-to-satisfy measured with {@link System#nanoTime()}
+     */
+    public static void recordSatisfied(String callSite, int attempts, long durationNanos) {
+        var stats = stats(callSite);
+        stats.record(attempts, durationNanos);
+        stats.timeToSatisfy.recordNanos(durationNanos);
+    }
+
+    /**
+     * Records a wait that timed out.
+     *
+     * @param callSite the waiting code
+     * @param attempts number of attempts made
+     * @param durationNanos wait duration measured with {@link System#nanoTime()}
+     */
+    public static void recordTimeout(String callSite, int attempts, long durationNanos) {
+        var stats = stats(callSite);
+        stats.record(attempts, durationNanos);
+        stats.timeouts.increment();
+    }
+
+    /**
+     * Identifies the code that called a wait API.
+     *
+     * @param waitApi the class implementing the wait, whose own frames are skipped
+     * @return {@code SimpleClassName.method:line} of the first frame outside the wait API
+     */
+    public static String callSite(Class<?> waitApi) {
+        return StackWalker.getInstance()
+                          .walk(frames -> frames.skip(1)
+                                                .filter(frame -> !frame.getClassName()
+                                                                       .equals(waitApi.getName()))
+                                                .findFirst()
+                                                .map(frame -> String.format("%s.%s:%d",
+                                                        simpleName(frame.getClassName()), frame.getMethodName(),
+                                                        frame.getLineNumber()))
+                                                .orElse("unknown"));
+    }
+
+    /**
+     * Formats the call sites with the most total wait time for the telemetry dashboard.
+     *
+     * @return metrics keyed by display name
+     */
+    public static Map<String, String> getMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        if (callSites.isEmpty()) {
+            return metrics;
+        }
+
+        long waits = callSites.values()
+                              .stream()
+                              .mapToLong(stats -> stats.waits.sum())
+                              .sum();
+        long totalNanos = callSites.values()
+                                   .stream()
+                                   .mapToLong(CallSiteStats::totalNanos)
+                                   .sum();
+        metrics.put("⏱️ Waits", String.format("%d waits, %.1f s total", waits, toSeconds(totalNanos)));
+        byTotalTime().entrySet()
+                     .stream()
+                     .limit(DASHBOARD_CALL_SITES)
+                     .forEach(entry -> metrics.put(String.format("⏱️ %s", entry.getKey()), entry.getValue()
+                                                                                                .toString()));
+        return metrics;
+    }
+
+    /**
+     * Writes the statistics of all call sites to a JSON file under build/reports/waits.
+     *
+     * @return the file path, or null if nothing was recorded
+     */
+    public static String dumpToFile() {
+        if (callSites.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Map<String, Object>> report = new LinkedHashMap<>();
+        byTotalTime().forEach((callSite, stats) -> {
+            var snapshot = stats.timeToSatisfy.snapshot();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("waits", stats.waits.sum());
+            entry.put("timeouts", stats.timeouts.sum());
+            entry.put("attempts", stats.attempts.sum());
+            entry.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(stats.totalNanos()));
+            if (snapshot.getCount() > 0) {
+                entry.put("timeToSatisfyP50Millis", toMillis(snapshot.getValueAtPercentile(50)));
+                entry.put("timeToSatisfyP99Millis", toMillis(snapshot.getValueAtPercentile(99)));
+                entry.put("timeToSatisfyMaxMillis", toMillis(snapshot.getMax()));
+            }
+            report.put(callSite, entry);
+        });
+
+        FileUtils.makeDir(REPORTS_DIR_PATH);
+        var path = FileUtils.printToFile(String.format("%s/%s.json", REPORTS_DIR_PATH,
+                RandomUtils.currentTimestampWithMilliseconds()), SerializationUtils.toPrettyJson(report));
+        log.info("Wait report is stored to file:\n{}", path);
+        return path;
+    }
+
+    /**
+     * Clears all recorded waits.
+     */
+    public static void reset() {
+        callSites.clear();
+    }
+
+    private static CallSiteStats stats(String callSite) {
+        return callSites.computeIfAbsent(callSite, key -> new CallSiteStats());
+    }
+
+    private static Map<String, CallSiteStats> byTotalTime() {
+        Map<String, CallSiteStats> sorted = new LinkedHashMap<>();
+        callSites.entrySet()
+                 .stream()
+                 .sorted(Map.Entry.comparingByValue(Comparator.comparingLong(CallSiteStats::totalNanos)
+                                                              .reversed()))
+                 .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static double toSeconds(long nanos) {
+        return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class CallSiteStats {
+        private final LongAdder waits = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LatencyHistogram timeToSatisfy = new LatencyHistogram();
+
+        private long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        private void record(int attemptCount, long durationNanos) {
+            waits.increment();
+            attempts.add(attemptCount);
+            totalNanos.add(durationNanos);
+        }
+
+        @Override
+        public String toString() {
+            long count = waits.sum();
+            var snapshot = timeToSatisfy.snapshot();
+            return String.format("waits=%d, timeouts=%d, attempts/wait=%.1f, total=%.1fs, satisfied p50=%.0fms",
+                    count, timeouts.sum(), count == 0 ? 0 : attempts.sum() / (double) count,
+                    toSeconds(totalNanos()), toMillis(snapshot.getCount() == 0
+                            ? 0
+                            : snapshot.getValueAtPercentile(50)));
+        }
+    }
+}
@@ -1,41 +1,33 @@
 package io.xenoss.telemetry.server;
 
 import io.xenoss.telemetry.TelemetryData;
-import io.xenoss.utils.ThreadingUtils;
-import io.xenoss.utils.WaitUtils;
+import io.xenoss.utils.PeriodicTasks;
 import lombok.extern.slf4j.Slf4j;
 import org.java_websocket.server.WebSocketServer;
 import org.java_websocket.WebSocket;
 import org.java_websocket.handshake.ClientHandshake;
 
 import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.util.Map;
 
 @Slf4j
 public class TelemetryWebSocketServer extends WebSocketServer {
-    private volatile boolean running = true;
-    private final ThreadingUtils.TaskInfo<Void> notificationThread;
+    private final PeriodicTasks.PeriodicTask notifier;
     public TelemetryWebSocketServer(int port) {
         super(new InetSocketAddress(port));
 
-        notificationThread = ThreadingUtils.startAsync(() -> {
-            while (running) {
-                WaitUtils.forSeconds(1);
-                if (running) {
-                    notifyChannels();
-                }
-            }
-            log.debug("WebSocket notification thread stopped");
-            return null;
-        }, "TelemetryWebSocket-Notifier", true);
+        notifier = PeriodicTasks.atFixedRate(String.format("TelemetryWebSocket-Notifier-%d", port),
+                Duration.ofSeconds(1), this::notifyChannels);
     }
 
     private void notifyChannels() {
-        // Use LinkedHashMap to preserve the order from TelemetryData
-        var telemetryFull = new java.util.LinkedHashMap<>(TelemetryData.getData());
-        
+        if (getConnections().isEmpty()) {
+            return;
+        }
+
         // Note: Don't add "Last Updated" here since it's already included in TelemetryData
-        String json = telemetryToJson(telemetryFull);
+        String json = telemetryToJson(TelemetryData.getData());
         for (WebSocket conn : getConnections()) {
             conn.send(json);
         }
@@ -43,9 +35,7 @@ public class TelemetryWebSocketServer extends WebSocketServer {
 
     @Override
     public void onOpen(WebSocket conn, ClientHandshake handshake) {
-        // Use LinkedHashMap to preserve ordering when sending initial data
-        var initialData = new java.util.LinkedHashMap<>(TelemetryData.getData());
-        conn.send(telemetryToJson(initialData));
+        conn.send(telemetryToJson(TelemetryData.getData()));
     }
 
     @Override
@@ -66,9 +56,7 @@ public class TelemetryWebSocketServer extends WebSocketServer {
 
     public void shutdown() {
         log.info("Shutting down WebSocket server on port {}", getPort());
-        running = false;
-
-        notificationThread.terminate();
+        notifier.cancel();
         
         try {
             this.stop();
@@ -1,15 +1,19 @@
 package io.xenoss.utils;
 
+import io.xenoss.telemetry.WaitMetrics;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.testng.TestException;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 @Slf4j
 public class ActionTimer {
     private static final int DEFAULT_TIMEOUT = 10; //seconds
+    private static final PollingStrategy POLLING = PollingStrategy.fromConfig();
     private final long expiredTime;
     private final long startTime;
 
@@ -50,31 +54,63 @@ public class ActionTimer {
         return waitFor(action, condition, timeoutSeconds, true);
     }
 
-    @SneakyThrows
     public static <T> T waitFor(Supplier<T> action, Function<T, Boolean> condition,
                                  int timeoutSeconds, boolean throwIfError) {
+        return waitFor(action, condition, timeoutSeconds, throwIfError, POLLING);
+    }
+
+    /**
+     * Repeats the action until its result satisfies the condition or the timeout expires.
+     * Exceptions thrown by the action or the condition are retried until the timeout, then rethrown.
+     * Attempts and time-to-satisfy are recorded per call site in {@link WaitMetrics}.
+     *
+     * @param action produces the value to check
+     * @param condition checks the value
+     * @param timeoutSeconds how long to keep trying
+     * @param throwIfError whether to throw when the timeout expires instead of returning the last result
+     * @param polling how long to sleep between attempts
+     * @return the first result satisfying the condition, or the last result if {@code throwIfError} is false
+     */
+    @SneakyThrows
+    public static <T> T waitFor(Supplier<T> action, Function<T, Boolean> condition,
+                                int timeoutSeconds, boolean throwIfError, PollingStrategy polling) {
         log.debug("Starting wait for condition...");
 
+        var callSite = WaitMetrics.callSite(ActionTimer.class);
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        int attempts = 0;
         T actionResult = null;
         var timer = start(timeoutSeconds);
         do {
+            attempts++;
             try {
                 actionResult = action.get();
                 if (condition.apply(actionResult)) {
-                    log.debug("Condition successfully satisfied in {} seconds", timer.elapsed());
+                    var timeToSatisfy = Duration.ofNanos(System.nanoTime() - startNanos);
+                    log.debug("Condition successfully satisfied in {} ms after {} attempts",
+                            timeToSatisfy.toMillis(), attempts);
+                    polling.onSatisfied(callSite, attempts, timeToSatisfy);
+                    WaitMetrics.recordSatisfied(callSite, attempts, timeToSatisfy.toNanos());
                     return actionResult;
                 }
             } catch (Throwable t) {
                 if (timer.isExpired()) {
+                    WaitMetrics.recordTimeout(callSite, attempts, System.nanoTime() - startNanos);
                     throw t;
                 } else {
                     log.debug("Exception ignored:\n{}", t.getMessage());
                 }
             }
             log.debug("One more attempt...");
-            WaitUtils.forSeconds(1);
+            long nowNanos = System.nanoTime();
+            var delay = polling.nextDelay(callSite, attempts, Duration.ofNanos(nowNanos - startNanos));
+            // Never sleep past the deadline, so the last attempt happens right when the timeout expires
+            WaitUtils.forMilliseconds(Math.max(0, Math.min(delay.toMillis(),
+                    TimeUnit.NANOSECONDS.toMillis(deadlineNanos - nowNanos) + 1)));
         } while (!timer.isExpired());
 
+        WaitMetrics.recordTimeout(callSite, attempts, System.nanoTime() - startNanos);
         if (throwIfError) {
             String message = String.format("%s seconds timer is expired, condition is not satisfied",
                     timeoutSeconds);
@@ -0,0 +1,43 @@
+package io.xenoss.utils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Polling strategy that learns how long conditions take to become true at each call site.
+ * <p>
+ * The time-to-satisfy is tracked as an exponentially weighted moving average per call site. While a wait is
+ * younger than that estimate, the next attempt is scheduled right at the estimate; past it, or without history,
+ * the delay is a quarter of the elapsed time, so the number of attempts grows only logarithmically with the wait.
+ */
+final class AdaptivePollingStrategy implements PollingStrategy {
+    static final AdaptivePollingStrategy INSTANCE = new AdaptivePollingStrategy();
+
+    private static final double SMOOTHING = 0.3;
+    private static final long MIN_DELAY_NANOS = Duration.ofMillis(5)
+                                                        .toNanos();
+    private static final long MAX_DELAY_NANOS = DEFAULT_MAX_DELAY.toNanos();
+
+    private final Map<String, Long> estimatesNanos = new ConcurrentHashMap<>();
+
+    private AdaptivePollingStrategy() {
+    }
+
+    @Override
+    public Duration nextDelay(String callSite, int attempt, Duration elapsed) {
+        long elapsedNanos = elapsed.toNanos();
+        Long estimate = estimatesNanos.get(callSite);
+        long delay = estimate != null && elapsedNanos < estimate
+                ? estimate - elapsedNanos
+                : elapsedNanos / 4;
+        return Duration.ofNanos(Math.clamp(delay, MIN_DELAY_NANOS, MAX_DELAY_NANOS));
+    }
+
+    @Override
+    public void onSatisfied(String callSite, int attempts, Duration timeToSatisfy) {
+        long observed = timeToSatisfy.toNanos();
+        estimatesNanos.merge(callSite, observed,
+                (estimate, sample) -> Math.round(estimate + SMOOTHING * (sample - estimate)));
+    }
+}
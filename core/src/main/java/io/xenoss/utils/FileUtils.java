@@ -4,7 +4,7 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.InputStream;
 import java.io.PrintWriter;
 
 import java.nio.charset.StandardCharsets;
@@ -32,11 +32,11 @@ public class FileUtils {
 
     @SneakyThrows
     public static byte[] getResourceFileAsBytes(String filePath) {
-        var file = getResourceFile(filePath);
-        byte[] byteArray = new byte[(int) file.length()];
-        try (FileInputStream inputStream = new FileInputStream(file)) {
-            inputStream.read(byteArray);
-            return byteArray;
+        // Read through the class loader so resources packaged in jars (e.g. the JMH jar) resolve as well
+        var classLoader = FileUtils.class.getClassLoader();
+        try (InputStream inputStream = Objects.requireNonNull(classLoader.getResourceAsStream(filePath),
+                String.format("'%s' file has not been found in resource folders", filePath))) {
+            return inputStream.readAllBytes();
         }
     }
 
@@ -0,0 +1,213 @@
+package io.xenoss.utils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared scheduler for background housekeeping such as telemetry sampling and publishing.
+ * <p>
+ * All periodic tasks share a small pool of daemon threads instead of each keeping a dedicated thread that sleeps
+ * between iterations. A failing iteration is logged and counted, the schedule continues. Every task tracks its
+ * drift (how late an iteration started compared to its schedule) and overruns (iterations that took longer than
+ * the period), so a housekeeping task that is too slow for its period shows up on the telemetry dashboard.
+ */
+@Slf4j
+public final class PeriodicTasks {
+    private static final int SCHEDULER_THREADS = 2;
+
+    private static final ScheduledThreadPoolExecutor scheduler = newScheduler();
+    private static final Map<String, PeriodicTask> tasks = new ConcurrentHashMap<>();
+
+    private PeriodicTasks() {
+    }
+
+    /**
+     * Runs the action every {@code period}, measured between the starts of two iterations.
+     * Iterations never overlap: after an overrun the late iterations run back to back until the schedule catches up.
+     *
+     * @param name unique name of the task, shown in the metrics
+     * @param period the interval between iteration starts, also used as the initial delay
+     * @param action the work of one iteration
+     * @return the handle to cancel the task
+     */
+    public static PeriodicTask atFixedRate(String name, Duration period, Runnable action) {
+        return schedule(name, period, true, action);
+    }
+
+    /**
+     * Runs the action with {@code delay} between the end of an iteration and the start of the next one.
+     *
+     * @param name unique name of the task, shown in the metrics
+     * @param delay the pause between iterations, also used as the initial delay
+     * @param action the work of one iteration
+     * @return the handle to cancel the task
+     */
+    public static PeriodicTask withFixedDelay(String name, Duration delay, Runnable action) {
+        return schedule(name, delay, false, action);
+    }
+
+    /**
+     * Formats the statistics of the scheduled tasks for the telemetry dashboard.
+     *
+     * @return metrics keyed by display name
+     */
+    public static Map<String, String> getMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        if (tasks.isEmpty()) {
+            return metrics;
+        }
+
+        metrics.put("⏲️ Periodic Tasks", String.format("%d tasks on %d threads", tasks.size(),
+                scheduler.getPoolSize()));
+        new TreeMap<>(tasks).forEach((name, task) -> metrics.put(String.format("⏲️ %s", name), task.toString()));
+        return metrics;
+    }
+
+    private static PeriodicTask schedule(String name, Duration period, boolean fixedRate, Runnable action) {
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException(String.format("Period of task '%s' must be positive, got: %s",
+                    name, period));
+        }
+
+        var task = new PeriodicTask(name, period, fixedRate, action);
+        if (tasks.putIfAbsent(name, task) != null) {
+            throw new IllegalStateException(String.format("Periodic task '%s' is already scheduled", name));
+        }
+
+        long periodNanos = period.toNanos();
+        task.future = fixedRate
+                ? scheduler.scheduleAtFixedRate(task::runOnce, periodNanos, periodNanos, TimeUnit.NANOSECONDS)
+                : scheduler.scheduleWithFixedDelay(task::runOnce, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+        log.debug("Scheduled periodic task '{}' every {} ms", name, period.toMillis());
+        return task;
+    }
+
+    private static ScheduledThreadPoolExecutor newScheduler() {
+        var threadNumber = new AtomicInteger(1);
+        var executor = new ScheduledThreadPoolExecutor(SCHEDULER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "PeriodicTasks-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Cancelled tasks would otherwise stay in the queue until their next scheduled time
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Handle of a scheduled periodic task.
+     */
+    public static final class PeriodicTask {
+        @Getter
+        private final String name;
+        @Getter
+        private final Duration period;
+        private final boolean fixedRate;
+        private final Runnable action;
+        private final long periodNanos;
+
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder overruns = new LongAdder();
+        private final AtomicLong lastDriftNanos = new AtomicLong();
+        private final AtomicLong maxDriftNanos = new AtomicLong();
+        // Iterations of one task never run concurrently, so the schedule needs no synchronization
+        private long expectedStartNanos;
+        private volatile ScheduledFuture<?> future;
+
+        private PeriodicTask(String name, Duration period, boolean fixedRate, Runnable action) {
+            this.name = name;
+            this.period = period;
+            this.fixedRate = fixedRate;
+            this.action = action;
+            this.periodNanos = period.toNanos();
+            this.expectedStartNanos = System.nanoTime() + periodNanos;
+        }
+
+        /**
+         * Stops the task. A running iteration is allowed to finish.
+         */
+        public void cancel() {
+            var scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            tasks.remove(name, this);
+        }
+
+        public boolean isCancelled() {
+            var scheduled = future;
+            return scheduled != null && scheduled.isCancelled();
+        }
+
+        public long getRuns() {
+            return runs.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public long getOverruns() {
+            return overruns.sum();
+        }
+
+        /**
+         * @return how late the latest iteration started compared to its schedule
+         */
+        public Duration getLastDrift() {
+            return Duration.ofNanos(lastDriftNanos.get());
+        }
+
+        /**
+         * @return the largest delay of an iteration start compared to its schedule
+         */
+        public Duration getMaxDrift() {
+            return Duration.ofNanos(maxDriftNanos.get());
+        }
+
+        private void runOnce() {
+            long startNanos = System.nanoTime();
+            long drift = Math.max(0, startNanos - expectedStartNanos);
+            lastDriftNanos.set(drift);
+            maxDriftNanos.accumulateAndGet(drift, Math::max);
+
+            try {
+                action.run();
+            } catch (Exception e) {
+                // Rethrowing would silently suppress all further iterations
+                failures.increment();
+                log.warn("Periodic task '{}' failed", name, e);
+            } finally {
+                runs.increment();
+                long endNanos = System.nanoTime();
+                if (endNanos - startNanos > periodNanos) {
+                    overruns.increment();
+                }
+                // A fixed-rate schedule catches up on late iterations, a fixed-delay one restarts after each
+                expectedStartNanos = fixedRate
+                        ? expectedStartNanos + periodNanos
+                        : endNanos + periodNanos;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("every %d ms (%s), runs=%d, failures=%d, overruns=%d, drift=%.1fms (max %.1fms)",
+                    period.toMillis(), fixedRate ? "fixed rate" : "fixed delay", getRuns(), getFailures(),
+                    getOverruns(), lastDriftNanos.get() / 1e6, maxDriftNanos.get() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.xenoss.utils;
+
+import io.xenoss.config.ConfigurationManager;
+import io.xenoss.config.WaitPollingStrategy;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Defines how long a wait sleeps between two attempts to satisfy its condition.
+ * <p>
+ * Strategies are stateless per wait and safe to share between threads; the attempt number and the time elapsed
+ * since the wait started are passed in. The call site identifies the waiting code, so a strategy can learn from
+ * previous waits at the same place.
+ * <ul>
+ *     <li>{@link #fixed(Duration)} - the same delay every time</li>
+ *     <li>{@link #exponential(Duration, Duration, double)} - doubles the delay after every attempt, with jitter</li>
+ *     <li>{@link #fibonacci(Duration, Duration)} - grows the delay along the Fibonacci sequence</li>
+ *     <li>{@link #adaptive()} - polls around the time-to-satisfy previously observed at the call site</li>
+ * </ul>
+ */
+public interface PollingStrategy {
+    Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(10);
+    Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1);
+    double DEFAULT_JITTER = 0.2;
+
+    /**
+     * Returns the delay before the next attempt.
+     *
+     * @param callSite the waiting code, e.g. {@code BidderClient.sendWinNotice:123}
+     * @param attempt number of attempts made so far, starting at 1
+     * @param elapsed time since the wait started
+     * @return the delay, never negative
+     */
+    Duration nextDelay(String callSite, int attempt, Duration elapsed);
+
+    /**
+     * Called once the condition is satisfied.
+     *
+     * @param callSite the waiting code
+     * @param attempts number of attempts it took
+     * @param timeToSatisfy time since the wait started
+     */
+    default void onSatisfied(String callSite, int attempts, Duration timeToSatisfy) {
+        // Stateless by default
+    }
+
+    /**
+     * @param interval the delay between attempts
+     * @return a strategy sleeping the same interval after every attempt
+     */
+    static PollingStrategy fixed(Duration interval) {
+        return (callSite, attempt, elapsed) -> interval;
+    }
+
+    /**
+     * @param initial the delay after the first attempt
+     * @param max the upper bound of the delay
+     * @param jitter relative random deviation of each delay, from 0 (none) to 1
+     * @return a strategy doubling the delay after every attempt
+     */
+    static PollingStrategy exponential(Duration initial, Duration max, double jitter) {
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1, got: " + jitter);
+        }
+        return (callSite, attempt, elapsed) -> {
+            long base = Math.min(max.toNanos(), initial.toNanos() << Math.min(attempt - 1, 30));
+            double factor = 1 + jitter * ThreadLocalRandom.current()
+                                                          .nextDouble(-1, 1);
+            return Duration.ofNanos(Math.min(max.toNanos(), (long) (base * factor)));
+        };
+    }
+
+    /**
+     * @return exponential backoff from 10 ms to 1 second with 20% jitter
+     */
+    static PollingStrategy exponential() {
+        return exponential(DEFAULT_INITIAL_DELAY, DEFAULT_MAX_DELAY, DEFAULT_JITTER);
+    }
+
+    /**
+     * @param unit the first two delays
+     * @param max the upper bound of the delay
+     * @return a strategy growing the delay as {@code unit * fib(attempt)}
+     */
+    static PollingStrategy fibonacci(Duration unit, Duration max) {
+        return (callSite, attempt, elapsed) -> {
+            long previous = 0;
+            long current = 1;
+            for (int i = 1; i < attempt && current * unit.toNanos() < max.toNanos(); i++) {
+                long next = previous + current;
+                previous = current;
+                current = next;
+            }
+            return Duration.ofNanos(Math.min(max.toNanos(), current * unit.toNanos()));
+        };
+    }
+
+    /**
+     * @return the strategy learning the time-to-satisfy per call site, shared by all waits
+     */
+    static PollingStrategy adaptive() {
+        return AdaptivePollingStrategy.INSTANCE;
+    }
+
+    /**
+     * Returns the strategy selected by the {@code waitPollingStrategy} config option. The configuration is read on
+     * every call, so callers keep the result rather than resolving it per wait.
+     *
+     * @return the configured strategy
+     */
+    static PollingStrategy fromConfig() {
+        return of(ConfigurationManager.getConfig()
+                                      .getWaitPollingStrategy());
+    }
+
+    /**
+     * Resolves a strategy by name with default parameters; {@code fixed} keeps the legacy 1-second interval.
+     *
+     * @param name fixed, exponential, fibonacci or adaptive, ignoring case
+     * @return the strategy
+     */
+    static PollingStrategy of(String name) {
+        return of(WaitPollingStrategy.fromString(name));
+    }
+
+    /**
+     * @param strategy the configured strategy
+     * @return the strategy with default parameters
+     */
+    static PollingStrategy of(WaitPollingStrategy strategy) {
+        return switch (strategy) {
+            case FIXED -> fixed(DEFAULT_MAX_DELAY);
+            case EXPONENTIAL -> exponential();
+            case FIBONACCI -> fibonacci(DEFAULT_INITIAL_DELAY, DEFAULT_MAX_DELAY);
+            case ADAPTIVE -> adaptive();
+        };
+    }
+}
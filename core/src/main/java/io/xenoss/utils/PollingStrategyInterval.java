@@ -0,0 +1,28 @@
+package io.xenoss.utils;
+
+import org.awaitility.pollinterval.PollInterval;
+
+import java.time.Duration;
+
+/**
+ * Adapts a {@link PollingStrategy} to Awaitility's poll interval for a single {@code await()}.
+ */
+public class PollingStrategyInterval implements PollInterval {
+    private final PollingStrategy polling;
+    private final String callSite;
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * @param polling the strategy to delegate to
+     * @param callSite the waiting code
+     */
+    public PollingStrategyInterval(PollingStrategy polling, String callSite) {
+        this.polling = polling;
+        this.callSite = callSite;
+    }
+
+    @Override
+    public Duration next(int pollCount, Duration previousDuration) {
+        return polling.nextDelay(callSite, pollCount, Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+}
@@ -7,10 +7,14 @@ import com.google.gson.JsonElement;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
+import io.xenoss.utils.json.GsonJsonEngine;
+import io.xenoss.utils.json.JacksonJsonEngine;
+import io.xenoss.utils.json.JsonEngine;
+import io.xenoss.utils.json.JsonFastPath;
 import lombok.SneakyThrows;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.Reader;
 import java.sql.Timestamp;
 
 public class SerializationUtils {
@@ -25,25 +29,77 @@ public class SerializationUtils {
 
     public static final XmlMapper XML_MAPPER = new XmlMapper();
 
+    public static final JsonEngine GSON_ENGINE = new GsonJsonEngine(GSON_NO_PRETTY_PRINT, GSON_PRETTY_PRINT);
+    public static final JsonEngine JACKSON_ENGINE = new JacksonJsonEngine();
+
+    // Used for log output only: keeps URLs and HTML snippets readable instead of \u003d-escaped
+    private static final Gson GSON_PRETTY_PRINT_UNESCAPED = new GsonBuilder()
+            .setPrettyPrinting()
+            .disableHtmlEscaping()
+            .create();
+
+    // The engine is resolved once per class and cached with it
+    private static final ClassValue<JsonEngine> ENGINES = new ClassValue<>() {
+        @Override
+        protected JsonEngine computeValue(Class<?> type) {
+            return type.isAnnotationPresent(JsonFastPath.class) ? JACKSON_ENGINE : GSON_ENGINE;
+        }
+    };
+
 
     public static <T> T fromJson(byte[] json, Class<T> classOfT) {
-        return fromJson(new String(json, StandardCharsets.UTF_8), classOfT);
+        return engineFor(classOfT).fromJson(json, classOfT);
     }
 
     public static <T> T fromJson(String json, Class<T> classOfT) {
-        return GSON_PRETTY_PRINT.fromJson(json, classOfT);
+        return engineFor(classOfT).fromJson(json, classOfT);
+    }
+
+    public static <T> T fromJson(Reader json, Class<T> classOfT) {
+        return engineFor(classOfT).fromJson(json, classOfT);
     }
 
     public static <T> T fromJson(JsonElement json, Class<T> classOfT) {
         return GSON_PRETTY_PRINT.fromJson(json, classOfT);
     }
 
+    /**
+     * Serializes an object compactly, as it should go on the wire. Use {@link #toPrettyJson(Object)} for logs.
+     */
     public static <T> String toJson(T object) {
-        return toJson(object, true);
+        return toJson(object, false);
     }
 
     public static <T> String toJson(T object, boolean prettyPrint) {
-        return (prettyPrint ? GSON_PRETTY_PRINT : GSON_NO_PRETTY_PRINT).toJson(object);
+        return object == null
+                ? GSON_ENGINE.toJson(null, prettyPrint)
+                : engineFor(object.getClass()).toJson(object, prettyPrint);
+    }
+
+    public static <T> String toPrettyJson(T object) {
+        return toJson(object, true);
+    }
+
+    /**
+     * Returns the engine binding the given type: Jackson for {@link JsonFastPath} types, Gson otherwise.
+     *
+     * @param type the top-level type
+     * @return the engine
+     */
+    public static JsonEngine engineFor(Class<?> type) {
+        return ENGINES.get(type);
+    }
+
+    /**
+     * @param type the top-level type
+     * @return whether the type is bound by the Jackson fast path
+     */
+    public static boolean isFastPath(Class<?> type) {
+        return engineFor(type) == JACKSON_ENGINE;
+    }
+
+    public static String toPrettyJson(JsonElement json) {
+        return GSON_PRETTY_PRINT_UNESCAPED.toJson(json);
     }
 
     public static <T> JsonElement toJsonTree(T object) {
@@ -1,5 +1,6 @@
 package io.xenoss.utils;
 
+import io.xenoss.config.ConfigurationManager;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -25,13 +26,23 @@ import java.util.concurrent.atomic.AtomicInteger;
 public final class ThreadingUtils {
 
     /**
-     * Get a new task executor with specified pool size
+     * Get a new task executor with specified pool size.
+     * With {@code useVirtualThreads} enabled in the config, every task runs on its own virtual thread instead.
      *
      * @param poolSize number of threads in the pool (if 0 or negative, uses available processors)
      * @return TaskExecutor instance
      */
     public static <T> TaskExecutor<T> getExecutor(int poolSize) {
-        return new TaskExecutor<>(poolSize);
+        return new TaskExecutor<>(poolSize, useVirtualThreads());
+    }
+
+    /**
+     * Get a new task executor that runs every task on its own virtual thread, regardless of the config
+     *
+     * @return TaskExecutor instance
+     */
+    public static <T> TaskExecutor<T> getVirtualExecutor() {
+        return new TaskExecutor<>(0, true);
     }
 
     /**
@@ -45,11 +56,24 @@ public final class ThreadingUtils {
                              .startAsync(code);
     }
 
+    /**
+     * Start a task that repeats {@code code} on a dedicated thread until interrupted.
+     * Daemon tasks run on a virtual thread when {@code useVirtualThreads} is enabled in the config;
+     * virtual threads are always daemon, so non-daemon tasks keep a platform thread.
+     * <p>
+     * For work repeated at a fixed interval use {@link PeriodicTasks}, which shares a scheduler between all tasks
+     * instead of dedicating a thread to each.
+     *
+     * @param code the callable to repeat
+     * @param threadName name of the thread
+     * @param isDaemon whether the thread should not keep the JVM alive
+     * @return TaskInfo representing the running task
+     */
     public static <T> TaskInfo<T> startAsync(Callable<T> code, String threadName, Boolean isDaemon) {
         TaskInfo<T> taskInfo = new TaskInfo<>(RandomUtils.randomNumber(1, Integer.MAX_VALUE), code);
         taskInfo.setStatus(TaskStatus.PENDING);
 
-        Thread thread = new Thread(() -> {
+        Runnable task = () -> {
             taskInfo.setStatus(TaskStatus.RUNNING);
             while (!Thread.currentThread()
                           .isInterrupted()) {
@@ -66,22 +90,36 @@ public final class ThreadingUtils {
                 }
             }
             taskInfo.setStatus(TaskStatus.FINISHED);
-        });
+        };
+
+        Thread thread;
+        if (Boolean.TRUE.equals(isDaemon) && useVirtualThreads()) {
+            thread = Thread.ofVirtual()
+                           .name(threadName)
+                           .unstarted(task);
+        } else {
+            thread = new Thread(task, threadName);
+            thread.setDaemon(isDaemon);
+        }
 
         taskInfo.setThread(thread);
-
-        thread.setName(threadName);
-        thread.setDaemon(isDaemon);
         thread.start();
 
         return taskInfo;
     }
 
+    private static boolean useVirtualThreads() {
+        return ConfigurationManager.getConfig()
+                                   .getUseVirtualThreads();
+    }
+
     /**
      * TaskExecutor class for managing thread pools and tasks
      */
     public static class TaskExecutor<T> implements Closeable {
         private final ExecutorService executor;
+        @Getter
+        private final boolean virtual;
         private final List<TaskInfo<T>> activeTasks = new CopyOnWriteArrayList<>();
         private final AtomicInteger taskCounter = new AtomicInteger(0);
 
@@ -91,7 +129,26 @@ public final class ThreadingUtils {
          * @param poolSize number of threads in the pool
          */
         public TaskExecutor(int poolSize) {
-            this.executor = Executors.newFixedThreadPool(poolSize,
+            this(poolSize, false);
+        }
+
+        /**
+         * Create a new TaskExecutor backed by platform or virtual threads
+         *
+         * @param poolSize number of threads in the pool, ignored for virtual threads
+         * @param virtual whether to run every task on its own virtual thread
+         */
+        public TaskExecutor(int poolSize, boolean virtual) {
+            this.virtual = virtual;
+            this.executor = virtual
+                    ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                                                               .name("ThreadingUtils-virtual-", 1)
+                                                               .factory())
+                    : newPlatformExecutor(poolSize);
+        }
+
+        private static ExecutorService newPlatformExecutor(int poolSize) {
+            return Executors.newFixedThreadPool(poolSize,
                     new ThreadFactory() {
                         private final AtomicInteger threadNumber = new AtomicInteger(1);
 
@@ -0,0 +1,73 @@
+package io.xenoss.utils.json;
+
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.google.gson.annotations.SerializedName;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lets Jackson honor Gson's {@link SerializedName}, so DTOs annotated for Gson bind to the same JSON names.
+ * Alternate names are accepted on deserialization, as Gson does.
+ */
+class GsonCompatibleAnnotationIntrospector extends JacksonAnnotationIntrospector {
+    @Override
+    public PropertyName findNameForSerialization(Annotated annotated) {
+        var name = serializedName(annotated);
+        return name != null ? name : super.findNameForSerialization(annotated);
+    }
+
+    @Override
+    public PropertyName findNameForDeserialization(Annotated annotated) {
+        var name = serializedName(annotated);
+        return name != null ? name : super.findNameForDeserialization(annotated);
+    }
+
+    @Override
+    public List<PropertyName> findPropertyAliases(Annotated annotated) {
+        var annotation = annotated.getAnnotation(SerializedName.class);
+        if (annotation == null || annotation.alternate().length == 0) {
+            return super.findPropertyAliases(annotated);
+        }
+        return Arrays.stream(annotation.alternate())
+                     .map(PropertyName::construct)
+                     .toList();
+    }
+
+    /**
+     * Keeps Gson's property order: fields of the class first, then of its superclasses, in declaration order.
+     * Jackson would otherwise move renamed properties to the end.
+     */
+    @Override
+    public String[] findSerializationPropertyOrder(AnnotatedClass annotatedClass) {
+        var explicitOrder = super.findSerializationPropertyOrder(annotatedClass);
+        if (explicitOrder != null) {
+            return explicitOrder;
+        }
+
+        var names = new ArrayList<String>();
+        for (Class<?> type = annotatedClass.getRawType(); type != null && type != Object.class;
+             type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                var annotation = field.getAnnotation(SerializedName.class);
+                names.add(annotation == null ? field.getName() : annotation.value());
+            }
+        }
+        return names.toArray(String[]::new);
+    }
+
+    private static PropertyName serializedName(Annotated annotated) {
+        var annotation = annotated.getAnnotation(SerializedName.class);
+        return annotation == null ? null : PropertyName.construct(annotation.value());
+    }
+}
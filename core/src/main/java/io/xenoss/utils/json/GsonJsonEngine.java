@@ -0,0 +1,41 @@
+package io.xenoss.utils.json;
+
+import com.google.gson.Gson;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Gson-backed engine, the default for all types not marked with {@link JsonFastPath}.
+ */
+public class GsonJsonEngine implements JsonEngine {
+    private final Gson compact;
+    private final Gson pretty;
+
+    public GsonJsonEngine(Gson compact, Gson pretty) {
+        this.compact = compact;
+        this.pretty = pretty;
+    }
+
+    @Override
+    public String toJson(Object object, boolean prettyPrint) {
+        return (prettyPrint ? pretty : compact).toJson(object);
+    }
+
+    @Override
+    public <T> T fromJson(String json, Class<T> type) {
+        return compact.fromJson(json, type);
+    }
+
+    @Override
+    public <T> T fromJson(Reader json, Class<T> type) {
+        return compact.fromJson(json, type);
+    }
+
+    @Override
+    public <T> T fromJson(byte[] json, Class<T> type) {
+        return compact.fromJson(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8), type);
+    }
+}
@@ -0,0 +1,154 @@
+package io.xenoss.utils.json;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.xenoss.exceptions.FrameworkException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jackson-backed engine for {@link JsonFastPath} types.
+ * <p>
+ * Accessors are bound through Blackbird's generated lambdas instead of reflection. The mapper is configured to
+ * behave like the Gson setup: {@code @SerializedName} names, private fields without accessors, nulls omitted,
+ * unknown properties ignored, {@link Timestamp} as epoch seconds and untyped values such as {@code Map<String, Object>}
+ * entries bound to the same types Gson uses, with every number read as a {@link Double}.
+ */
+public class JacksonJsonEngine implements JsonEngine {
+    private final ObjectMapper mapper;
+
+    public JacksonJsonEngine() {
+        var timestamps = new SimpleModule("EpochSecondsTimestamp")
+                .addSerializer(Timestamp.class, new TimestampSerializer())
+                .addDeserializer(Timestamp.class, new TimestampDeserializer());
+        var untypedValues = new SimpleModule("GsonUntypedValues")
+                .addDeserializer(Object.class, new GsonUntypedDeserializer());
+
+        this.mapper = JsonMapper.builder()
+                                .addModule(new BlackbirdModule())
+                                .addModule(timestamps)
+                                .addModule(untypedValues)
+                                .annotationIntrospector(new GsonCompatibleAnnotationIntrospector())
+                                .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                                .build();
+    }
+
+    @Override
+    public String toJson(Object object, boolean prettyPrint) {
+        try {
+            return prettyPrint
+                    ? mapper.writerWithDefaultPrettyPrinter()
+                            .writeValueAsString(object)
+                    : mapper.writeValueAsString(object);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to serialize " + object.getClass()
+                                                                        .getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(String json, Class<T> type) {
+        try {
+            return json.isBlank() ? null : mapper.readValue(json, type);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to deserialize " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(Reader json, Class<T> type) {
+        try {
+            return mapper.readValue(json, type);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to deserialize " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(byte[] json, Class<T> type) {
+        try {
+            // Jackson decodes UTF-8 bytes itself, without an intermediate String
+            return json.length == 0 ? null : mapper.readValue(json, type);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to deserialize " + type.getSimpleName(), e);
+        }
+    }
+
+    private static final class TimestampSerializer extends JsonSerializer<Timestamp> {
+        @Override
+        public void serialize(Timestamp value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeNumber(value.getTime() / 1000);  // convert milliseconds to seconds
+        }
+    }
+
+    private static final class TimestampDeserializer extends JsonDeserializer<Timestamp> {
+        @Override
+        public Timestamp deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return new Timestamp(parser.getLongValue() * 1000);  // convert seconds to milliseconds
+        }
+    }
+
+    /**
+     * Reads untyped values like Gson's default object adapter: objects as maps, arrays as lists and numbers as
+     * doubles, where Jackson would pick Integer, Long or BigInteger for integral numbers.
+     */
+    private static final class GsonUntypedDeserializer extends JsonDeserializer<Object> {
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return switch (parser.currentToken()) {
+                case START_OBJECT, FIELD_NAME, END_OBJECT -> readObject(parser, context);
+                case START_ARRAY -> readArray(parser, context);
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+                case VALUE_STRING -> parser.getText();
+                case VALUE_TRUE -> Boolean.TRUE;
+                case VALUE_FALSE -> Boolean.FALSE;
+                case VALUE_NULL -> null;
+                default -> context.handleUnexpectedToken(Object.class, parser);
+            };
+        }
+
+        private Map<String, Object> readObject(JsonParser parser, DeserializationContext context) throws IOException {
+            Map<String, Object> object = new LinkedHashMap<>();
+            // The caller may have consumed the start of the object already
+            var token = parser.currentToken() == JsonToken.START_OBJECT ? parser.nextToken() : parser.currentToken();
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String name = parser.currentName();
+                parser.nextToken();
+                object.put(name, deserialize(parser, context));
+            }
+            return object;
+        }
+
+        private List<Object> readArray(JsonParser parser, DeserializationContext context) throws IOException {
+            List<Object> array = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                array.add(deserialize(parser, context));
+            }
+            return array;
+        }
+    }
+}
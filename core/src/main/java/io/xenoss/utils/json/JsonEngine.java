@@ -0,0 +1,23 @@
+package io.xenoss.utils.json;
+
+import java.io.Reader;
+
+/**
+ * JSON binding backend used by {@link io.xenoss.utils.SerializationUtils}.
+ */
+public interface JsonEngine {
+    /**
+     * Serializes an object.
+     *
+     * @param object the object to serialize
+     * @param prettyPrint whether to indent the output; wire payloads should stay compact
+     * @return the JSON text
+     */
+    String toJson(Object object, boolean prettyPrint);
+
+    <T> T fromJson(String json, Class<T> type);
+
+    <T> T fromJson(Reader json, Class<T> type);
+
+    <T> T fromJson(byte[] json, Class<T> type);
+}
@@ -0,0 +1,16 @@
+package io.xenoss.utils.json;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a DTO that is (de)serialized on hot paths, such as bid responses parsed for every request of a load run.
+ * {@link io.xenoss.utils.SerializationUtils} binds marked types with {@link JacksonJsonEngine} instead of Gson.
+ * The engine is chosen by the top-level type, nested types are bound by the same engine.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonFastPath {
+}
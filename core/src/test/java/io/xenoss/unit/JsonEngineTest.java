@@ -0,0 +1,69 @@
+package io.xenoss.unit;
+
+import com.google.gson.annotations.SerializedName;
+import io.xenoss.utils.SerializationUtils;
+import io.xenoss.utils.json.JsonFastPath;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonEngineTest {
+    @Test
+    public void fastPathMatchesGsonBinding() {
+        var json = "{\"id\":\"bid-1\",\"native\":{\"title\":\"Ad\"},\"price\":1.5,\"tags\":[\"a\",\"b\"],"
+                + "\"unknown\":true}";
+
+        var jackson = SerializationUtils.JACKSON_ENGINE.fromJson(json, FastDto.class);
+        var gson = SerializationUtils.GSON_ENGINE.fromJson(json, FastDto.class);
+
+        assertThat(jackson).usingRecursiveComparison()
+                           .isEqualTo(gson);
+        assertThat(jackson.nativeAd.title).isEqualTo("Ad");
+        assertThat(SerializationUtils.JACKSON_ENGINE.toJson(jackson, false))
+                .isEqualTo(SerializationUtils.GSON_ENGINE.toJson(gson, false));
+    }
+
+    @Test
+    public void alternateNamesAndNullsFollowGson() {
+        var dto = SerializationUtils.fromJson("{\"id\":\"bid-2\",\"nativeAd\":{\"title\":\"Alt\"}}", FastDto.class);
+
+        assertThat(SerializationUtils.isFastPath(FastDto.class)).isTrue();
+        assertThat(dto.nativeAd.title).isEqualTo("Alt");
+        assertThat(SerializationUtils.toJson(dto)).isEqualTo("{\"id\":\"bid-2\",\"native\":{\"title\":\"Alt\"}}");
+    }
+
+    @Test
+    public void untypedValuesMatchGsonBinding() {
+        var json = "{\"id\":\"bid-3\",\"ext\":{\"deal\":7,\"big\":12345678901,\"ratio\":0.5,\"flag\":true,"
+                + "\"none\":null,\"ids\":[1,\"a\"],\"nested\":{\"count\":2}}}";
+
+        var jackson = SerializationUtils.JACKSON_ENGINE.fromJson(json, FastDto.class);
+        var gson = SerializationUtils.GSON_ENGINE.fromJson(json, FastDto.class);
+
+        // Gson reads every untyped number as a Double
+        assertThat(jackson.ext).isEqualTo(gson.ext)
+                               .containsEntry("deal", 7.0)
+                               .containsEntry("big", 12345678901.0)
+                               .containsEntry("ids", List.of(1.0, "a"))
+                               .containsEntry("nested", Map.of("count", 2.0));
+        assertThat(SerializationUtils.JACKSON_ENGINE.toJson(jackson, false))
+                .isEqualTo(SerializationUtils.GSON_ENGINE.toJson(gson, false));
+    }
+
+    @JsonFastPath
+    private static class FastDto {
+        private String id;
+        @SerializedName(value = "native", alternate = "nativeAd")
+        private NativeDto nativeAd;
+        private Double price;
+        private List<String> tags;
+        private Map<String, Object> ext;
+    }
+
+    private static class NativeDto {
+        private String title;
+    }
+}
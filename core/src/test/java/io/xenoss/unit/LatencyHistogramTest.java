@@ -0,0 +1,70 @@
+package io.xenoss.unit;
+
+import io.xenoss.telemetry.LatencyHistogram;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTest {
+    @Test
+    public void percentilesStayWithinBucketPrecision() {
+        var histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.recordValue(value);
+        }
+
+        var snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(100_000);
+        assertThat(snapshot.getMin()).isEqualTo(1);
+        assertThat(snapshot.getMax()).isEqualTo(100_000);
+        assertThat(snapshot.getMean()).isCloseTo(50_000.5, within(0.01));
+        assertThat(snapshot.getValueAtPercentile(50)).isCloseTo(50_000L, within(800L));
+        assertThat(snapshot.getValueAtPercentile(99)).isCloseTo(99_000L, within(1_600L));
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(100_000);
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        var histogram = new LatencyHistogram();
+        IntStream.range(0, 128).forEach(histogram::recordValue);
+
+        var snapshot = histogram.snapshot();
+        assertThat(snapshot.getValueAtPercentile(50)).isEqualTo(63);
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(127);
+    }
+
+    @Test
+    public void expectedIntervalBackfillsOmittedSamples() {
+        var histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.recordValueWithExpectedInterval(1_000, 10_000);
+        }
+        // A 1-second stall at a 10ms pace hides 99 requests that would have waited 990ms..10ms
+        histogram.recordValueWithExpectedInterval(1_000_000, 10_000);
+
+        var snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(199);
+        assertThat(snapshot.getValueAtPercentile(40)).isLessThan(2_000);
+        assertThat(snapshot.getValueAtPercentile(75)).isGreaterThan(400_000);
+        assertThat(snapshot.getMax()).isEqualTo(1_000_000);
+    }
+
+    @Test
+    public void valuesAboveRangeAreClamped() {
+        var histogram = new LatencyHistogram(TimeUnit.SECONDS.toMicros(1));
+        histogram.recordNanos(TimeUnit.SECONDS.toNanos(5));
+        histogram.recordValue(-1);
+
+        var snapshot = histogram.snapshot();
+        assertThat(snapshot.getMax()).isEqualTo(TimeUnit.SECONDS.toMicros(1));
+        assertThat(snapshot.getMin()).isZero();
+
+        histogram.reset();
+        assertThat(histogram.getTotalCount()).isZero();
+        assertThat(histogram.snapshot().getValueAtPercentile(99)).isZero();
+    }
+}
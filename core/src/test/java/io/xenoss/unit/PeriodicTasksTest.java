@@ -0,0 +1,93 @@
+package io.xenoss.unit;
+
+import io.xenoss.utils.PeriodicTasks;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PeriodicTasksTest {
+
+    @Test
+    public void failingIterationDoesNotStopTheSchedule() throws InterruptedException {
+        var iterations = new CountDownLatch(3);
+        var task = PeriodicTasks.atFixedRate("PeriodicTasksTest-failing", Duration.ofMillis(10), () -> {
+            iterations.countDown();
+            throw new IllegalStateException("Expected failure");
+        });
+        try {
+            assertThat(iterations.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(task.getFailures()).isGreaterThanOrEqualTo(2);
+        } finally {
+            task.cancel();
+        }
+        assertThat(task.isCancelled()).isTrue();
+        assertThat(PeriodicTasks.getMetrics()).doesNotContainKey("⏲️ PeriodicTasksTest-failing");
+    }
+
+    @Test
+    public void slowIterationIsCountedAsOverrun() throws InterruptedException {
+        var iterations = new CountDownLatch(2);
+        var task = PeriodicTasks.withFixedDelay("PeriodicTasksTest-slow", Duration.ofMillis(5), () -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+            iterations.countDown();
+        });
+        try {
+            assertThat(iterations.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(task.getOverruns()).isGreaterThanOrEqualTo(1);
+        } finally {
+            task.cancel();
+        }
+    }
+
+    @Test
+    public void cancelledTaskStopsRunning() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var finished = new CountDownLatch(1);
+        var runs = new AtomicInteger();
+        var task = PeriodicTasks.atFixedRate("PeriodicTasksTest-cancel", Duration.ofMillis(5), () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+            runs.incrementAndGet();
+            finished.countDown();
+        });
+
+        // Cancel while the first iteration is in flight, then let it finish before taking the baseline
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        task.cancel();
+        release.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        int runsAfterCancel = runs.get();
+
+        Thread.sleep(50);
+        assertThat(runsAfterCancel).isEqualTo(1);
+        assertThat(runs.get()).isEqualTo(runsAfterCancel);
+    }
+
+    @Test
+    public void taskNamesAreUnique() {
+        var task = PeriodicTasks.atFixedRate("PeriodicTasksTest-unique", Duration.ofSeconds(1), () -> { });
+        try {
+            assertThatThrownBy(() -> PeriodicTasks.atFixedRate("PeriodicTasksTest-unique", Duration.ofSeconds(1),
+                    () -> { })).isInstanceOf(IllegalStateException.class);
+        } finally {
+            task.cancel();
+        }
+    }
+}
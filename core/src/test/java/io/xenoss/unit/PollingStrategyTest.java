@@ -0,0 +1,68 @@
+package io.xenoss.unit;
+
+import io.xenoss.config.WaitPollingStrategy;
+import io.xenoss.exceptions.ConfigurationException;
+import io.xenoss.utils.PollingStrategy;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PollingStrategyTest {
+    private static final String CALL_SITE = "PollingStrategyTest.test:1";
+
+    @Test
+    public void exponentialBackoffDoublesUpToTheMaximum() {
+        var polling = PollingStrategy.exponential(Duration.ofMillis(10), Duration.ofMillis(100), 0);
+
+        assertThat(polling.nextDelay(CALL_SITE, 1, Duration.ZERO)).isEqualTo(Duration.ofMillis(10));
+        assertThat(polling.nextDelay(CALL_SITE, 2, Duration.ZERO)).isEqualTo(Duration.ofMillis(20));
+        assertThat(polling.nextDelay(CALL_SITE, 4, Duration.ZERO)).isEqualTo(Duration.ofMillis(80));
+        assertThat(polling.nextDelay(CALL_SITE, 100, Duration.ZERO)).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    public void exponentialJitterStaysWithinBounds() {
+        var polling = PollingStrategy.exponential(Duration.ofMillis(100), Duration.ofSeconds(1), 0.2);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(polling.nextDelay(CALL_SITE, 1, Duration.ZERO)).isBetween(Duration.ofMillis(80),
+                    Duration.ofMillis(120));
+        }
+    }
+
+    @Test
+    public void fibonacciGrowsAlongTheSequence() {
+        var polling = PollingStrategy.fibonacci(Duration.ofMillis(10), Duration.ofMillis(100));
+
+        assertThat(polling.nextDelay(CALL_SITE, 1, Duration.ZERO)).isEqualTo(Duration.ofMillis(10));
+        assertThat(polling.nextDelay(CALL_SITE, 2, Duration.ZERO)).isEqualTo(Duration.ofMillis(10));
+        assertThat(polling.nextDelay(CALL_SITE, 5, Duration.ZERO)).isEqualTo(Duration.ofMillis(50));
+        assertThat(polling.nextDelay(CALL_SITE, 50, Duration.ZERO)).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    public void adaptivePollsAtTheLearnedTimeToSatisfy() {
+        var polling = PollingStrategy.adaptive();
+        var callSite = "PollingStrategyTest.adaptive:1";
+
+        polling.onSatisfied(callSite, 3, Duration.ofMillis(400));
+
+        assertThat(polling.nextDelay(callSite, 1, Duration.ofMillis(100))).isEqualTo(Duration.ofMillis(300));
+        assertThat(polling.nextDelay(callSite, 2, Duration.ofMillis(800))).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    public void strategyNameIsResolvedIgnoringCase() {
+        assertThat(PollingStrategy.of(" Fixed ")
+                                  .nextDelay(CALL_SITE, 1, Duration.ZERO)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(PollingStrategy.of(WaitPollingStrategy.fromString("ADAPTIVE"))).isSameAs(PollingStrategy.adaptive());
+    }
+
+    @Test
+    public void unknownStrategyNameIsRejected() {
+        assertThatThrownBy(() -> PollingStrategy.of("linear")).isInstanceOf(ConfigurationException.class);
+    }
+}
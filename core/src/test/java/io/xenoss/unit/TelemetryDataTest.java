@@ -0,0 +1,79 @@
+package io.xenoss.unit;
+
+import io.xenoss.telemetry.TelemetryData;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TelemetryDataTest {
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 10_000;
+
+    @Test
+    public void countersAndGaugesAccumulateAcrossThreads() {
+        var counter = TelemetryData.counter("✅ Counter Test");
+        var gauge = TelemetryData.gauge("📶 Gauge Test");
+        runConcurrently(() -> {
+            counter.increment();
+            gauge.add(1);
+            gauge.add(-1);
+        });
+
+        assertThat(counter.value()).isEqualTo((long) THREADS * UPDATES_PER_THREAD);
+        assertThat(gauge.value()).isZero();
+        // Registered once, later calls return the same instance
+        assertThat(TelemetryData.counter("✅ Counter Test")).isSameAs(counter);
+        assertThatThrownBy(() -> TelemetryData.gauge("✅ Counter Test")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void snapshotRendersMetricsOnRead() {
+        var counter = TelemetryData.counter("✅ Snapshot Counter");
+        var calls = new AtomicLong();
+        TelemetryData.view("📐 Snapshot View", () -> String.valueOf(calls.incrementAndGet()));
+        counter.add(5);
+
+        var snapshot = TelemetryData.getSnapshot();
+        assertThat(snapshot.metrics()).containsKeys("✅ Snapshot Counter", "📐 Snapshot View");
+        assertThat(snapshot.metrics()
+                           .get("✅ Snapshot Counter")
+                           .render()).isEqualTo("5");
+        // Views are not formatted until rendered
+        assertThat(calls).hasValue(0);
+        assertThat(TelemetryData.getData()).containsEntry("📐 Snapshot View", "1");
+
+        // Publishing replaces the metric of an earlier run
+        var nextRun = new TelemetryData.Counter();
+        TelemetryData.publish("✅ Snapshot Counter", nextRun);
+        assertThat(TelemetryData.getSnapshot()
+                                .metrics()
+                                .get("✅ Snapshot Counter")).isSameAs(nextRun);
+    }
+
+    @Test
+    public void concurrentTestMetricsKeepTheLatestValuePerKey() {
+        runConcurrently(() -> TelemetryData.updateTestMetrics(Map.of("🧮 Batched", "latest")));
+        TelemetryData.updateTestMetrics(Map.of("🧮 Batched", "final"));
+
+        assertThat(TelemetryData.getSnapshot()
+                                .testMetrics()).containsEntry("🧮 Batched", "final");
+    }
+
+    private static void runConcurrently(Runnable update) {
+        var threads = IntStream.range(0, THREADS)
+                               .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                                   for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                                       update.run();
+                                   }
+                               }))
+                               .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(threads)
+                         .join();
+    }
+}
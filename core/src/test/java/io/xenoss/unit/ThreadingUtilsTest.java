@@ -0,0 +1,37 @@
+package io.xenoss.unit;
+
+import io.xenoss.utils.ThreadingUtils;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThreadingUtilsTest {
+    private static final int TASKS = 10_000;
+
+    @Test
+    public void virtualExecutorRunsEveryTaskConcurrently() throws InterruptedException {
+        // Each task blocks until all of them have started, which a bounded platform pool could never satisfy
+        var started = new CountDownLatch(TASKS);
+        try (ThreadingUtils.TaskExecutor<Boolean> executor = ThreadingUtils.getVirtualExecutor()) {
+            for (int i = 0; i < TASKS; i++) {
+                executor.startAsync(() -> {
+                    started.countDown();
+                    started.await();
+                    Thread.sleep(Duration.ofMillis(10));
+                    return Thread.currentThread()
+                                 .isVirtual();
+                });
+            }
+
+            assertThat(started.await(30, TimeUnit.SECONDS)).isTrue();
+            executor.waitAllTasksFinished();
+            assertThat(executor.isVirtual()).isTrue();
+            assertThat(executor.errorsCount()).isZero();
+            assertThat(executor.getAllTasks()).allMatch(task -> Boolean.TRUE.equals(task.getResult()));
+        }
+    }
+}